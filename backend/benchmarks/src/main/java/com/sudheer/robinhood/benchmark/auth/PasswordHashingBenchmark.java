@@ -0,0 +1,176 @@
+package com.sudheer.robinhood.benchmark.auth;
+
+import com.sudheer.robinhood.auth.availability.AvailabilityProperties;
+import com.sudheer.robinhood.auth.availability.UserAvailabilityFilter;
+import com.sudheer.robinhood.auth.cache.UserCache;
+import com.sudheer.robinhood.auth.cache.UserCacheProperties;
+import com.sudheer.robinhood.auth.dto.AuthResponse;
+import com.sudheer.robinhood.auth.dto.LoginRequest;
+import com.sudheer.robinhood.auth.dto.RegisterRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sudheer.robinhood.auth.model.OAuthToken;
+import com.sudheer.robinhood.auth.model.User;
+import com.sudheer.robinhood.auth.repository.OAuthTokenRepository;
+import com.sudheer.robinhood.auth.repository.UserRepository;
+import com.sudheer.robinhood.auth.security.AccessTokenIssuer;
+import com.sudheer.robinhood.auth.security.PasswordHashingExecutor;
+import com.sudheer.robinhood.auth.security.PasswordHashingPolicy;
+import com.sudheer.robinhood.auth.security.PasswordHashingProperties;
+import com.sudheer.robinhood.auth.security.PasswordRehasher;
+import com.sudheer.robinhood.auth.service.AuthService;
+import com.sudheer.robinhood.auth.service.TokenService;
+import com.sudheer.robinhood.shared.security.AccessTokenVerifier;
+import com.sudheer.robinhood.shared.security.TokenDenyList;
+import com.sudheer.robinhood.shared.security.TokenProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BCrypt cost in auth-service, alone and through AuthService.register/login,
+ * which hand the hash to the bounded hashing executor. The repository is an
+ * in-memory stand-in, so the numbers isolate hashing, executor hand-off and
+ * service overhead from database latency. Run with -p cost=10,11,12,13 and
+ * take the highest cost whose login p0.99 (SampleTime) fits the latency
+ * target; auth.hashing.strength=0 does the same calibration at startup.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "correct-horse-battery-staple";
+
+    @Param({"10"})
+    public int cost;
+
+    private PasswordEncoder passwordEncoder;
+    private PasswordHashingExecutor passwordHasher;
+    private PasswordRehasher passwordRehasher;
+    private AuthService authService;
+    private String storedHash;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setStrength(cost);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UserRepository userRepository = inMemoryUserRepository();
+
+        passwordEncoder = new BCryptPasswordEncoder(cost);
+        passwordHasher = new PasswordHashingExecutor(passwordEncoder, properties, meterRegistry);
+        passwordRehasher = new PasswordRehasher(passwordEncoder, new PasswordHashingPolicy(properties, meterRegistry),
+                userRepository, properties, meterRegistry);
+        // Disabled filter: every availability check goes to the repository, as before it existed
+        AvailabilityProperties availability = new AvailabilityProperties();
+        availability.setEnabled(false);
+        authService = new AuthService(userRepository, passwordHasher, passwordRehasher,
+                tokenService(userRepository, meterRegistry),
+                new UserAvailabilityFilter(null, null, availability, meterRegistry),
+                new UserCache(new UserCacheProperties(), null, meterRegistry), new UserCacheProperties());
+        storedHash = passwordEncoder.encode(PASSWORD);
+
+        authService.register(RegisterRequest.builder()
+                .username("benchmark")
+                .email("benchmark@example.com")
+                .password(PASSWORD)
+                .firstName("Bench")
+                .lastName("Mark")
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHasher.destroy();
+        passwordRehasher.destroy();
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(PASSWORD, storedHash);
+    }
+
+    @Benchmark
+    public AuthResponse register() {
+        long id = sequence.incrementAndGet();
+        return authService.register(RegisterRequest.builder()
+                .username("user" + id)
+                .email("user" + id + "@example.com")
+                .password(PASSWORD)
+                .firstName("Bench")
+                .lastName("Mark")
+                .build());
+    }
+
+    @Benchmark
+    public AuthResponse login() {
+        return authService.login(new LoginRequest("benchmark", PASSWORD));
+    }
+
+    /**
+     * Login also signs an access token and stores a refresh token session.
+     */
+    private static TokenService tokenService(UserRepository userRepository, SimpleMeterRegistry meterRegistry) {
+        TokenProperties properties = new TokenProperties();
+        properties.setSecret("benchmark-secret-benchmark-secret-benchmark");
+        ObjectMapper objectMapper = new ObjectMapper();
+        StringRedisTemplate redisTemplate = new StringRedisTemplate();
+        TokenDenyList denyList = new TokenDenyList(redisTemplate, properties);
+        AtomicLong ids = new AtomicLong();
+        OAuthTokenRepository tokenRepository = (OAuthTokenRepository) Proxy.newProxyInstance(
+                OAuthTokenRepository.class.getClassLoader(), new Class<?>[]{OAuthTokenRepository.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("save")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    OAuthToken token = (OAuthToken) args[0];
+                    token.setId(ids.incrementAndGet());
+                    return token;
+                });
+        return new TokenService(tokenRepository, userRepository, new AccessTokenIssuer(properties, objectMapper),
+                new AccessTokenVerifier(properties, denyList, objectMapper, meterRegistry), denyList,
+                redisTemplate, properties);
+    }
+
+    /**
+     * Implements just the UserRepository methods AuthService calls.
+     */
+    private static UserRepository inMemoryUserRepository() {
+        Map<String, User> byUsername = new ConcurrentHashMap<>();
+        Map<String, User> byEmail = new ConcurrentHashMap<>();
+        AtomicLong ids = new AtomicLong();
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "existsByUsername" -> byUsername.containsKey((String) args[0]);
+                    case "existsByEmail" -> byEmail.containsKey((String) args[0]);
+                    case "findByUsername" -> Optional.ofNullable(byUsername.get((String) args[0]));
+                    case "findByEmail" -> Optional.ofNullable(byEmail.get((String) args[0]));
+                    case "save" -> {
+                        User user = (User) args[0];
+                        user.setId(ids.incrementAndGet());
+                        byUsername.put(user.getUsername(), user);
+                        byEmail.put(user.getEmail(), user);
+                        yield user;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
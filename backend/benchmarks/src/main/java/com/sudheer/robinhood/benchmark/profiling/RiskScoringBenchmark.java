@@ -0,0 +1,138 @@
+package com.sudheer.robinhood.benchmark.profiling;
+
+import com.sudheer.robinhood.profiling.dto.QuickRiskAssessmentRequest;
+import com.sudheer.robinhood.profiling.dto.QuickRiskAssessmentResponse;
+import com.sudheer.robinhood.profiling.dto.StrategyRecommendation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sudheer.robinhood.profiling.enums.InvestmentGoal;
+import com.sudheer.robinhood.profiling.projection.MonteCarloProjector;
+import com.sudheer.robinhood.profiling.projection.Projection;
+import com.sudheer.robinhood.profiling.projection.ProjectionProperties;
+import com.sudheer.robinhood.profiling.repository.AssessmentRepository;
+import com.sudheer.robinhood.profiling.service.BatchAssessmentService;
+import com.sudheer.robinhood.profiling.service.ProfilingService;
+import com.sudheer.robinhood.profiling.store.AssessmentRecord;
+import com.sudheer.robinhood.profiling.store.AssessmentStoreProperties;
+import com.sudheer.robinhood.profiling.store.AssessmentWriteBehind;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quick assessment scoring and recommendation lookup in user-profiling-service.
+ * Requests are drawn from a pool of random but valid inputs so the score
+ * branches are all exercised and the JIT cannot constant-fold the inputs.
+ * batchScore streams the whole pool as one JSON array through the batch endpoint's scorer.
+ * processQuickAssessment includes handing the result to the write-behind
+ * buffer, whose writer here discards batches instead of inserting them.
+ * simulateProjection runs an uncached 100k-path, 30-year Monte Carlo
+ * projection; onboarding budgets 50 ms for it.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RiskScoringBenchmark {
+
+    private static final int POOL_SIZE = 1024;
+
+    private AssessmentWriteBehind assessmentWriteBehind;
+    private ProfilingService profilingService;
+    private QuickRiskAssessmentRequest[] requests;
+    private int[] riskScores;
+    private int next;
+
+    private BatchAssessmentService batchAssessmentService;
+    private byte[] batchJson;
+    private ByteArrayOutputStream batchOutput;
+
+    private MonteCarloProjector projector;
+
+    @Setup
+    public void setUp() throws IOException {
+        SplittableRandom random = new SplittableRandom(42);
+        InvestmentGoal[] goals = InvestmentGoal.values();
+        requests = new QuickRiskAssessmentRequest[POOL_SIZE];
+        riskScores = new int[POOL_SIZE];
+        for (int i = 0; i < POOL_SIZE; i++) {
+            requests[i] = QuickRiskAssessmentRequest.builder()
+                    .age(random.nextInt(18, 91))
+                    .investmentAmount(BigDecimal.valueOf(random.nextInt(100, 1_000_000)))
+                    .investmentGoal(goals[random.nextInt(goals.length)])
+                    .timeHorizonYears(random.nextInt(1, 51))
+                    .lossTolerance(random.nextInt(1, 11))
+                    .investmentKnowledge(random.nextInt(1, 11))
+                    .build();
+            riskScores[i] = random.nextInt(1, 101);
+        }
+
+        assessmentWriteBehind = discardingWriteBehind();
+        assessmentWriteBehind.start();
+        profilingService = new ProfilingService(assessmentWriteBehind);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        batchAssessmentService = new BatchAssessmentService(objectMapper, new SimpleMeterRegistry(), 4096, POOL_SIZE);
+        batchJson = objectMapper.writeValueAsBytes(requests);
+        batchOutput = new ByteArrayOutputStream(batchJson.length);
+
+        projector = new MonteCarloProjector(new ProjectionProperties(), new SimpleMeterRegistry());
+    }
+
+    @TearDown
+    public void tearDown() {
+        assessmentWriteBehind.stop();
+        projector.destroy();
+    }
+
+    static AssessmentWriteBehind discardingWriteBehind() {
+        AssessmentRepository discard = new AssessmentRepository(null) {
+            @Override
+            public int insertBatch(List<AssessmentRecord> batch) {
+                return batch.size();
+            }
+        };
+        return new AssessmentWriteBehind(discard, new AssessmentStoreProperties(), new SimpleMeterRegistry());
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (POOL_SIZE - 1);
+        return next;
+    }
+
+    @Benchmark
+    public Integer calculateRiskScore() {
+        return requests[nextIndex()].calculateRiskScore();
+    }
+
+    @Benchmark
+    public QuickRiskAssessmentResponse processQuickAssessment() {
+        return profilingService.processQuickAssessment(requests[nextIndex()], null);
+    }
+
+    @Benchmark
+    public List<StrategyRecommendation> getRecommendations() {
+        return profilingService.getRecommendations(riskScores[nextIndex()]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POOL_SIZE)
+    public int batchScore() throws IOException {
+        batchOutput.reset();
+        batchAssessmentService.scoreStream(new ByteArrayInputStream(batchJson), batchOutput, false);
+        return batchOutput.size();
+    }
+
+    @Benchmark
+    public Projection simulateProjection() {
+        return projector.simulate(60.0, 35.0, 5.0, 0.0, 30, 100_000);
+    }
+}
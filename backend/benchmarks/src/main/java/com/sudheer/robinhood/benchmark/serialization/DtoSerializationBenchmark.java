@@ -0,0 +1,202 @@
+package com.sudheer.robinhood.benchmark.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sudheer.robinhood.auth.dto.AuthResponse;
+import com.sudheer.robinhood.auth.dto.RegisterRequest;
+import com.sudheer.robinhood.profiling.dto.QuickRiskAssessmentRequest;
+import com.sudheer.robinhood.profiling.dto.QuickRiskAssessmentResponse;
+import com.sudheer.robinhood.profiling.dto.StrategyRecommendation;
+import com.sudheer.robinhood.profiling.enums.InvestmentGoal;
+import com.sudheer.robinhood.profiling.repository.AssessmentRepository;
+import com.sudheer.robinhood.profiling.service.ProfilingService;
+import com.sudheer.robinhood.profiling.store.AssessmentStoreProperties;
+import com.sudheer.robinhood.profiling.store.AssessmentWriteBehind;
+import com.sudheer.robinhood.strategy.dto.BacktestResponse;
+import com.sudheer.robinhood.strategy.dto.PortfolioValuationResponse;
+import com.sudheer.robinhood.strategy.dto.StrategyResponse;
+import com.sudheer.robinhood.strategy.model.Backtest.BacktestStatus;
+import com.sudheer.robinhood.strategy.model.Strategy.RebalanceFrequency;
+import com.sudheer.robinhood.strategy.model.Strategy.RiskLevel;
+import com.sudheer.robinhood.strategy.model.Strategy.StrategyType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the services' response DTOs and deserialization of
+ * their request bodies, with an ObjectMapper configured like Spring Boot's.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    private AuthResponse authResponse;
+    private QuickRiskAssessmentResponse quickAssessmentResponse;
+    private List<StrategyRecommendation> recommendations;
+    private BacktestResponse backtestResponse;
+    private StrategyResponse strategyResponse;
+    private PortfolioValuationResponse valuationResponse;
+
+    private byte[] registerRequestJson;
+    private byte[] quickAssessmentRequestJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        authResponse = AuthResponse.builder()
+                .userId(12345L)
+                .username("jdoe")
+                .email("jdoe@example.com")
+                .firstName("Jane")
+                .lastName("Doe")
+                .message("Login successful")
+                .build();
+
+        QuickRiskAssessmentRequest assessment = QuickRiskAssessmentRequest.builder()
+                .age(34)
+                .investmentAmount(new BigDecimal("25000"))
+                .investmentGoal(InvestmentGoal.values()[0])
+                .timeHorizonYears(20)
+                .lossTolerance(7)
+                .investmentKnowledge(6)
+                .build();
+        // Never started: the one assessment recorded here just stays buffered
+        ProfilingService profilingService = new ProfilingService(new AssessmentWriteBehind(
+                new AssessmentRepository(null), new AssessmentStoreProperties(), new SimpleMeterRegistry()));
+        quickAssessmentResponse = profilingService.processQuickAssessment(assessment, null);
+        recommendations = profilingService.getRecommendations(quickAssessmentResponse.getRiskScore());
+
+        backtestResponse = BacktestResponse.builder()
+                .backtestId(987L)
+                .strategyId(42L)
+                .startDate(LocalDate.of(2015, 1, 2))
+                .endDate(LocalDate.of(2024, 12, 31))
+                .initialCapital(new BigDecimal("100000.00"))
+                .finalCapital(new BigDecimal("231456.78"))
+                .totalReturn(new BigDecimal("131.4568"))
+                .sharpeRatio(new BigDecimal("0.9123"))
+                .maxDrawdown(new BigDecimal("-33.9120"))
+                .totalTrades(412)
+                .winningTrades(233)
+                .status(BacktestStatus.COMPLETED)
+                .createdAt(LocalDateTime.of(2025, 1, 2, 9, 30))
+                .completedAt(LocalDateTime.of(2025, 1, 2, 9, 30, 1))
+                .build();
+
+        List<StrategyResponse.Allocation> allocations = new ArrayList<>();
+        List<PortfolioValuationResponse.Holding> holdings = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            allocations.add(StrategyResponse.Allocation.builder()
+                    .symbol("SYM" + i)
+                    .targetPercentage(new BigDecimal("4.00"))
+                    .minPercentage(new BigDecimal("3.00"))
+                    .maxPercentage(new BigDecimal("5.00"))
+                    .build());
+            holdings.add(PortfolioValuationResponse.Holding.builder()
+                    .symbol("SYM" + i)
+                    .quantity(new BigDecimal("12.50000000"))
+                    .averageCost(new BigDecimal("101.25"))
+                    .currentPrice(new BigDecimal("110.40"))
+                    .currentValue(new BigDecimal("1380.00"))
+                    .unrealizedGainLoss(new BigDecimal("114.38"))
+                    .unrealizedGainLossPercentage(new BigDecimal("9.0370"))
+                    .priceUpdatedAt(Instant.parse("2025-01-02T15:59:59Z"))
+                    .build());
+        }
+        strategyResponse = StrategyResponse.builder()
+                .strategyId(42L)
+                .userId(12345L)
+                .name("Core Growth")
+                .description("Equal-weight large caps, monthly rebalance")
+                .strategyType(StrategyType.GROWTH)
+                .isActive(true)
+                .isPublic(false)
+                .riskLevel(RiskLevel.MEDIUM)
+                .targetReturn(new BigDecimal("9.50"))
+                .maxDrawdown(new BigDecimal("25.00"))
+                .rebalanceFrequency(RebalanceFrequency.MONTHLY)
+                .allocations(allocations)
+                .createdAt(LocalDateTime.of(2024, 6, 1, 12, 0))
+                .updatedAt(LocalDateTime.of(2025, 1, 2, 8, 0))
+                .build();
+        valuationResponse = PortfolioValuationResponse.builder()
+                .portfolioId(7L)
+                .cashBalance(new BigDecimal("1520.10"))
+                .marketValue(new BigDecimal("34500.00"))
+                .totalValue(new BigDecimal("36020.10"))
+                .costBasis(new BigDecimal("31640.63"))
+                .unrealizedGainLoss(new BigDecimal("2859.37"))
+                .unrealizedGainLossPercentage(new BigDecimal("9.0370"))
+                .valuedAt(Instant.parse("2025-01-02T16:00:00Z"))
+                .holdings(holdings)
+                .build();
+
+        registerRequestJson = objectMapper.writeValueAsBytes(RegisterRequest.builder()
+                .username("jdoe")
+                .email("jdoe@example.com")
+                .password("correct-horse-battery-staple")
+                .firstName("Jane")
+                .lastName("Doe")
+                .build());
+        quickAssessmentRequestJson = objectMapper.writeValueAsBytes(assessment);
+    }
+
+    @Benchmark
+    public byte[] serializeAuthResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(authResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeQuickAssessmentResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(quickAssessmentResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeRecommendations() throws IOException {
+        return objectMapper.writeValueAsBytes(recommendations);
+    }
+
+    @Benchmark
+    public byte[] serializeBacktestResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(backtestResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeStrategyResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(strategyResponse);
+    }
+
+    @Benchmark
+    public byte[] serializePortfolioValuation() throws IOException {
+        return objectMapper.writeValueAsBytes(valuationResponse);
+    }
+
+    @Benchmark
+    public RegisterRequest deserializeRegisterRequest() throws IOException {
+        return objectMapper.readValue(registerRequestJson, RegisterRequest.class);
+    }
+
+    @Benchmark
+    public QuickRiskAssessmentRequest deserializeQuickAssessmentRequest() throws IOException {
+        return objectMapper.readValue(quickAssessmentRequestJson, QuickRiskAssessmentRequest.class);
+    }
+}
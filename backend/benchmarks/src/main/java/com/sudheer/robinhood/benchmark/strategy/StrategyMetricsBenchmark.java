@@ -0,0 +1,147 @@
+package com.sudheer.robinhood.benchmark.strategy;
+
+import com.sudheer.robinhood.strategy.dto.PlannedTrade;
+import com.sudheer.robinhood.strategy.engine.BacktestEngine;
+import com.sudheer.robinhood.strategy.engine.BacktestParameters;
+import com.sudheer.robinhood.strategy.engine.BacktestResult;
+import com.sudheer.robinhood.strategy.engine.PerformanceAccumulator;
+import com.sudheer.robinhood.strategy.engine.PriceMatrix;
+import com.sudheer.robinhood.strategy.engine.RebalancePlanner;
+import com.sudheer.robinhood.strategy.marketdata.PriceSeries;
+import com.sudheer.robinhood.strategy.marketdata.QuoteBoard;
+import com.sudheer.robinhood.strategy.marketdata.QuoteProperties;
+import com.sudheer.robinhood.strategy.model.Strategy.RebalanceFrequency;
+import com.sudheer.robinhood.strategy.model.StrategyAllocation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Strategy-service metric calculations on synthetic data: a full backtest,
+ * the incremental performance rollup, a rebalance plan and a mark-to-market
+ * pass over the quote board. New calculations belong here as they are added.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class StrategyMetricsBenchmark {
+
+    @Param({"50"})
+    public int symbols;
+
+    @Param({"5040"})
+    public int tradingDays;
+
+    private final BacktestEngine backtestEngine = new BacktestEngine();
+    private PriceMatrix priceMatrix;
+    private BacktestParameters backtestParameters;
+    private double[] dailyReturns;
+
+    private String[] planSymbols;
+    private double[] quantities;
+    private double[] prices;
+    private double[] targets;
+    private double[] lower;
+    private double[] upper;
+
+    private QuoteBoard quoteBoard;
+    private int[] slots;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        int startDay = (int) LocalDate.of(2005, 1, 3).toEpochDay();
+
+        List<PriceSeries> series = new ArrayList<>(symbols);
+        List<StrategyAllocation> allocations = new ArrayList<>(symbols);
+        BigDecimal weight = BigDecimal.valueOf(100.0 / symbols);
+        for (int s = 0; s < symbols; s++) {
+            int[] days = new int[tradingDays];
+            double[] closes = new double[tradingDays];
+            double price = 50.0 + random.nextDouble(150.0);
+            for (int d = 0; d < tradingDays; d++) {
+                // Calendar days including weekends are fine for the engine
+                days[d] = startDay + d;
+                price *= Math.exp(0.0002 + 0.015 * random.nextGaussian());
+                closes[d] = price;
+            }
+            String symbol = "S" + s;
+            series.add(new PriceSeries(symbol, days, closes));
+            allocations.add(StrategyAllocation.builder()
+                    .symbol(symbol)
+                    .targetPercentage(weight)
+                    .minPercentage(weight.subtract(BigDecimal.ONE))
+                    .maxPercentage(weight.add(BigDecimal.ONE))
+                    .build());
+        }
+        priceMatrix = PriceMatrix.align(series);
+        backtestParameters = BacktestParameters.of(allocations, priceMatrix, RebalanceFrequency.MONTHLY,
+                100_000.0, 0, priceMatrix.dayCount() - 1);
+
+        dailyReturns = new double[tradingDays];
+        for (int d = 0; d < tradingDays; d++) {
+            dailyReturns[d] = 0.0003 + 0.01 * random.nextGaussian();
+        }
+
+        planSymbols = new String[symbols];
+        quantities = new double[symbols];
+        prices = new double[symbols];
+        targets = new double[symbols];
+        lower = new double[symbols];
+        upper = new double[symbols];
+        for (int i = 0; i < symbols; i++) {
+            planSymbols[i] = "S" + i;
+            prices[i] = 20.0 + random.nextDouble(300.0);
+            quantities[i] = random.nextDouble(10.0, 200.0);
+            targets[i] = 1.0 / symbols;
+            lower[i] = targets[i] * 0.8;
+            upper[i] = targets[i] * 1.2;
+        }
+
+        quoteBoard = new QuoteBoard(new QuoteProperties(), new SimpleMeterRegistry());
+        slots = new int[symbols];
+        for (int i = 0; i < symbols; i++) {
+            slots[i] = quoteBoard.register(planSymbols[i]);
+            quoteBoard.update(slots[i], prices[i], 0L);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public BacktestResult backtest() {
+        return backtestEngine.run(priceMatrix, backtestParameters);
+    }
+
+    @Benchmark
+    public double performanceRollup() {
+        PerformanceAccumulator accumulator = new PerformanceAccumulator();
+        for (double dailyReturn : dailyReturns) {
+            accumulator.add(dailyReturn);
+        }
+        return accumulator.sharpeRatio() + accumulator.maxDrawdownPercent();
+    }
+
+    @Benchmark
+    public List<PlannedTrade> rebalancePlan() {
+        return RebalancePlanner.plan(5_000.0, planSymbols, quantities, prices, targets, lower, upper, 1.0);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public double markToMarket() {
+        double value = 0.0;
+        for (int i = 0; i < slots.length; i++) {
+            value += quantities[i] * quoteBoard.price(slots[i]);
+        }
+        return value;
+    }
+}
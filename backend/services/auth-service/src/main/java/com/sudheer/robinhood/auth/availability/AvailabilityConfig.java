@@ -0,0 +1,21 @@
+package com.sudheer.robinhood.auth.availability;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class AvailabilityConfig {
+
+    @Bean
+    public RedisMessageListenerContainer availabilityListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                        UserAvailabilityFilter availabilityFilter,
+                                                                        AvailabilityProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(availabilityFilter, new ChannelTopic(properties.getChannel()));
+        return container;
+    }
+}
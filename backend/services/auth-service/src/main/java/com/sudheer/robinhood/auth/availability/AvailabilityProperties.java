@@ -0,0 +1,39 @@
+package com.sudheer.robinhood.auth.availability;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "auth.availability")
+public class AvailabilityProperties {
+
+    /**
+     * Off: every availability check goes to the database.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Usernames plus emails the filter is sized for; past this the false-positive rate climbs.
+     */
+    private long expectedInsertions = 2_000_000;
+
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * Prefix of the shared Redis bitmap; the filter size is appended, so resizing starts a fresh bitmap.
+     */
+    private String redisKey = "auth:availability:bloom";
+
+    private String channel = "auth.availability.added";
+
+    /**
+     * How often the shared bitmap is merged back in, covering any missed pub/sub messages.
+     */
+    private Duration resyncInterval = Duration.ofMinutes(5);
+
+    private int fetchSize = 10_000;
+}
@@ -0,0 +1,126 @@
+package com.sudheer.robinhood.auth.availability;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings, sized from the expected number of
+ * keys and the target false-positive rate.
+ *
+ * Positions come from one 64-bit hash split in two (Kirsch-Mitzenmacher).
+ * Bit offsets follow Redis SETBIT/GETBIT order, most significant bit of each
+ * byte first, so {@link #toBytes()} and {@link #merge(byte[])} map straight
+ * onto a Redis bitmap.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        // Whole bytes and whole words, so the Redis bitmap and the local copy line up
+        this.bitCount = Math.max(64, (bits + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.words = new AtomicLongArray((int) (bitCount / 64));
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long offset = offset(h1 + i * h2);
+            if ((words.get((int) (offset >>> 6)) & mask(offset)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the key and returns its bit offsets, for mirroring into Redis.
+     */
+    public long[] put(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long[] offsets = new long[hashCount];
+        for (int i = 1; i <= hashCount; i++) {
+            long offset = offset(h1 + i * h2);
+            long mask = mask(offset);
+            words.getAndUpdate((int) (offset >>> 6), word -> word | mask);
+            offsets[i - 1] = offset;
+        }
+        return offsets;
+    }
+
+    /**
+     * ORs a Redis bitmap into this filter. A shorter bitmap just means Redis has no bits set beyond it.
+     */
+    public void merge(byte[] bitmap) {
+        int wordCount = words.length();
+        for (int w = 0; w < wordCount; w++) {
+            int base = w * 8;
+            if (base >= bitmap.length) {
+                break;
+            }
+            long word = 0;
+            for (int b = 0; b < 8 && base + b < bitmap.length; b++) {
+                word |= (long) (bitmap[base + b] & 0xFF) << (56 - 8 * b);
+            }
+            if (word != 0) {
+                long bits = word;
+                words.getAndUpdate(w, current -> current | bits);
+            }
+        }
+    }
+
+    public byte[] toBytes() {
+        int wordCount = words.length();
+        byte[] bytes = new byte[wordCount * 8];
+        for (int w = 0; w < wordCount; w++) {
+            long word = words.get(w);
+            for (int b = 0; b < 8; b++) {
+                bytes[w * 8 + b] = (byte) (word >>> (56 - 8 * b));
+            }
+        }
+        return bytes;
+    }
+
+    private long offset(int combined) {
+        return Integer.toUnsignedLong(combined) % bitCount;
+    }
+
+    // Bit 0 is the most significant bit of word 0, matching Redis bit order
+    private static long mask(long offset) {
+        return 1L << (63 - (offset & 63));
+    }
+
+    /**
+     * FNV-1a over the UTF-8 bytes, finished with the MurmurHash3 64-bit mixer.
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
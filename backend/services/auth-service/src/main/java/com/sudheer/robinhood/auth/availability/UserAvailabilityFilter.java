@@ -0,0 +1,262 @@
+package com.sudheer.robinhood.auth.availability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Bloom filter over every username and email in auth.users, so most
+ * "is this free?" questions are answered without a database round trip.
+ * "Definitely absent" is final; "maybe present" falls through to the indexed
+ * lookup.
+ *
+ * The bits are shared as a Redis bitmap. A starting node loads that bitmap,
+ * or, if no node has completed a full build yet, streams auth.users and ORs
+ * its result in.
+ * Registrations set their bits in Redis and are announced on a channel so
+ * other nodes add them at once. The bitmap is merged back periodically in
+ * case a message was missed. Until the filter is ready, every check goes to
+ * the database.
+ */
+@Component
+@Slf4j
+public class UserAvailabilityFilter implements MessageListener, DisposableBean {
+
+    private static final String USERS_SQL = "SELECT username, email FROM auth.users";
+
+    public enum Field {
+        USERNAME("u:"), EMAIL("e:");
+
+        private final String prefix;
+
+        Field(String prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final AvailabilityProperties properties;
+    private final BloomFilter filter;
+    private final byte[] redisKey;
+    // Set once a full scan has been merged in; SETBITs from registrations alone do not make a usable bitmap
+    private final String completeKey;
+    private final ScheduledExecutorService resync = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "availability-resync");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean ready;
+
+    private final Map<Field, Counter> absent;
+    private final Map<Field, Counter> taken;
+    private final Map<Field, Counter> falsePositive;
+
+    public UserAvailabilityFilter(StringRedisTemplate redisTemplate, JdbcTemplate jdbcTemplate,
+                                  AvailabilityProperties properties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.filter = new BloomFilter(properties.getExpectedInsertions(), properties.getFalsePositiveRate());
+        this.redisKey = (properties.getRedisKey() + ":" + filter.bitCount() + ":" + filter.hashCount())
+                .getBytes(StandardCharsets.UTF_8);
+        this.completeKey = new String(redisKey, StandardCharsets.UTF_8) + ":complete";
+
+        this.absent = counters(meterRegistry, "absent");
+        this.taken = counters(meterRegistry, "taken");
+        this.falsePositive = counters(meterRegistry, "false-positive");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        resync.execute(this::build);
+        long interval = properties.getResyncInterval().toMillis();
+        resync.scheduleWithFixedDelay(this::mergeFromRedis, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * True if the value is in use. Only a filter hit costs a database lookup.
+     */
+    public boolean isTaken(Field field, String value, Predicate<String> database) {
+        if (ready && !filter.mightContain(field.prefix + value)) {
+            absent.get(field).increment();
+            return false;
+        }
+        boolean exists = database.test(value);
+        (exists ? taken : falsePositive).get(field).increment();
+        return exists;
+    }
+
+    public void add(String username, String email) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long[] usernameBits = filter.put(Field.USERNAME.prefix + username);
+        long[] emailBits = filter.put(Field.EMAIL.prefix + email);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (long offset : usernameBits) {
+                    connection.stringCommands().setBit(redisKey, offset, true);
+                }
+                for (long offset : emailBits) {
+                    connection.stringCommands().setBit(redisKey, offset, true);
+                }
+                return null;
+            });
+            redisTemplate.convertAndSend(properties.getChannel(), username + "\n" + email);
+        } catch (RuntimeException e) {
+            log.warn("Failed to share availability bits for {}: {}", username, e.getMessage());
+        }
+    }
+
+    /**
+     * Bulk variant of {@link #add} for imports: one pipeline of SETBITs and no
+     * per-user announcement, so other nodes see these users at their next resync.
+     */
+    public void addAll(List<String> usernames, List<String> emails) {
+        if (!properties.isEnabled() || usernames.isEmpty()) {
+            return;
+        }
+        List<long[]> bits = new ArrayList<>(usernames.size() * 2);
+        for (int i = 0; i < usernames.size(); i++) {
+            bits.add(filter.put(Field.USERNAME.prefix + usernames.get(i)));
+            bits.add(filter.put(Field.EMAIL.prefix + emails.get(i)));
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (long[] offsets : bits) {
+                    for (long offset : offsets) {
+                        connection.stringCommands().setBit(redisKey, offset, true);
+                    }
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to share availability bits for {} imported users: {}", usernames.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('\n');
+        if (separator < 0) {
+            return;
+        }
+        filter.put(Field.USERNAME.prefix + body.substring(0, separator));
+        filter.put(Field.EMAIL.prefix + body.substring(separator + 1));
+    }
+
+    private void build() {
+        long started = System.nanoTime();
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(completeKey)) && mergeFromRedis()) {
+                ready = true;
+                log.info("Availability filter loaded from Redis ({} bits, {} hashes) in {} ms",
+                        filter.bitCount(), filter.hashCount(), (System.nanoTime() - started) / 1_000_000);
+                return;
+            }
+
+            long rows = scanUsers();
+            ready = true;
+            log.info("Availability filter built from {} users in {} ms", rows,
+                    (System.nanoTime() - started) / 1_000_000);
+            publishBitmap();
+        } catch (RuntimeException e) {
+            log.warn("Availability filter unavailable, checks fall back to the database: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Streams auth.users with a cursor; Postgres only honours the fetch size outside autocommit.
+     */
+    private long scanUsers() {
+        Long rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(USERS_SQL)) {
+                statement.setFetchSize(properties.getFetchSize());
+                long count = 0;
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        filter.put(Field.USERNAME.prefix + rs.getString(1));
+                        filter.put(Field.EMAIL.prefix + rs.getString(2));
+                        count++;
+                    }
+                }
+                connection.commit();
+                return count;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        });
+        return rows == null ? 0 : rows;
+    }
+
+    /**
+     * ORs the shared bitmap into the local filter; false if there is none yet.
+     */
+    private boolean mergeFromRedis() {
+        try {
+            byte[] bitmap = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands().get(redisKey));
+            if (bitmap == null) {
+                return false;
+            }
+            filter.merge(bitmap);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to read availability bitmap: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    // OR rather than overwrite, so bits set by other nodes meanwhile survive
+    private void publishBitmap() {
+        byte[] scratch = (new String(redisKey, StandardCharsets.UTF_8) + ":build:" + System.nanoTime())
+                .getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.stringCommands().set(scratch, filter.toBytes());
+            connection.stringCommands().bitOp(RedisStringCommands.BitOperation.OR, redisKey, redisKey, scratch);
+            connection.keyCommands().del(scratch);
+            return null;
+        });
+        redisTemplate.opsForValue().set(completeKey, "1");
+    }
+
+    private static Map<Field, Counter> counters(MeterRegistry meterRegistry, String result) {
+        return Map.of(
+                Field.USERNAME, meterRegistry.counter("auth.availability.checks", "field", "username", "result", result),
+                Field.EMAIL, meterRegistry.counter("auth.availability.checks", "field", "email", "result", result));
+    }
+
+    @Override
+    public void destroy() {
+        resync.shutdownNow();
+    }
+}
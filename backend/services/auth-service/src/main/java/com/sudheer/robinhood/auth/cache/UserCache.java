@@ -0,0 +1,81 @@
+package com.sudheer.robinhood.auth.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sudheer.robinhood.auth.dto.AuthResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Per-node cache of the public {@link AuthResponse} projection of users, by id.
+ *
+ * Bounded by size and TTL. After a User row commits, the writing node evicts
+ * its own entry and publishes the id, and every other node drops its copy.
+ * Hits, misses and evictions are exported as cache.gets/cache.evictions
+ * tagged cache=users.
+ */
+@Component
+@Slf4j
+public class UserCache implements MessageListener {
+
+    private final Cache<Long, AuthResponse> cache;
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+
+    public UserCache(UserCacheProperties properties, StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        this.redisTemplate = redisTemplate;
+        this.channel = properties.getInvalidationChannel();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+    }
+
+    /**
+     * The cached projection, loading it on a miss; null if the loader finds no user.
+     */
+    public AuthResponse get(Long userId, Function<Long, AuthResponse> loader) {
+        return cache.get(userId, loader);
+    }
+
+    /**
+     * Every id found, with all misses loaded in one call to bulkLoader.
+     */
+    public Map<Long, AuthResponse> getAll(Set<Long> userIds, Function<Set<Long>, Map<Long, AuthResponse>> bulkLoader) {
+        return cache.getAll(userIds, missing -> bulkLoader.apply(Set.copyOf(missing)));
+    }
+
+    /**
+     * Called once a change to the user has committed.
+     */
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+        try {
+            redisTemplate.convertAndSend(channel, userId.toString());
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish invalidation for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            cache.invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed user invalidation: {}", body);
+        }
+    }
+}
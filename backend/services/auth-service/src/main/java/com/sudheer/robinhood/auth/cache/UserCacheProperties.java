@@ -0,0 +1,27 @@
+package com.sudheer.robinhood.auth.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "auth.user-cache")
+public class UserCacheProperties {
+
+    private long maxSize = 50_000;
+
+    /**
+     * Upper bound on staleness if an invalidation message is lost.
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    private String invalidationChannel = "auth.users.changed";
+
+    /**
+     * Most ids accepted by one batch lookup.
+     */
+    private int maxBatchSize = 500;
+}
@@ -1,15 +1,23 @@
 package com.sudheer.robinhood.auth.controller;
 
 import com.sudheer.robinhood.auth.dto.AuthResponse;
+import com.sudheer.robinhood.auth.dto.AvailabilityResponse;
 import com.sudheer.robinhood.auth.dto.LoginRequest;
+import com.sudheer.robinhood.auth.dto.RefreshTokenRequest;
 import com.sudheer.robinhood.auth.dto.RegisterRequest;
+import com.sudheer.robinhood.auth.security.PasswordHashingRejectedException;
 import com.sudheer.robinhood.auth.service.AuthService;
+import com.sudheer.robinhood.shared.security.InvalidTokenException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/v1/auth")
 @RequiredArgsConstructor
@@ -30,9 +38,47 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityResponse> checkAvailability(@RequestParam(required = false) String username,
+                                                                  @RequestParam(required = false) String email) {
+        AvailabilityResponse response = authService.checkAvailability(username, email);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        AuthResponse response = authService.refresh(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        authService.logout(request);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/users")
+    public ResponseEntity<List<AuthResponse>> getUsers(@RequestParam List<Long> ids) {
+        List<AuthResponse> response = authService.getUsersByIds(ids);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/users/{userId}")
     public ResponseEntity<AuthResponse> getUser(@PathVariable Long userId) {
         AuthResponse response = authService.getUserById(userId);
         return ResponseEntity.ok(response);
     }
+
+    @ExceptionHandler(InvalidTokenException.class)
+    public ResponseEntity<Map<String, String>> invalidToken(InvalidTokenException e) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<Map<String, String>> hashingRejected(PasswordHashingRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error", e.getMessage()));
+    }
 }
@@ -0,0 +1,66 @@
+package com.sudheer.robinhood.auth.controller;
+
+import com.sudheer.robinhood.auth.dto.UserImportErrorResponse;
+import com.sudheer.robinhood.auth.dto.UserImportJobResponse;
+import com.sudheer.robinhood.auth.importer.UserImportConflictException;
+import com.sudheer.robinhood.auth.importer.UserImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Operator endpoints, served only on auth.import.port (see UserImportPortFilter).
+ */
+@RestController
+@RequestMapping("/api/v1/auth/imports")
+@RequiredArgsConstructor
+public class UserImportController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final UserImportService userImportService;
+
+    /**
+     * Streams an NDJSON or CSV (with header) file of users into auth.users and
+     * returns the finished job. Pass jobId to resume an interrupted job with the same file.
+     */
+    @PostMapping(consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE})
+    public ResponseEntity<UserImportJobResponse> importUsers(HttpServletRequest request,
+                                                             @RequestParam(required = false) Long jobId,
+                                                             @RequestParam(required = false) String source)
+            throws IOException {
+        boolean csv = MediaType.parseMediaType(TEXT_CSV_VALUE)
+                .isCompatibleWith(MediaType.parseMediaType(request.getContentType()));
+        UserImportJobResponse response = userImportService.importUsers(request.getInputStream(),
+                csv ? UserImportService.FORMAT_CSV : UserImportService.FORMAT_NDJSON, source, jobId);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<UserImportJobResponse> getJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(userImportService.getJob(jobId));
+    }
+
+    /**
+     * Rejected lines in line order; page with afterLine set to the last line number seen.
+     */
+    @GetMapping("/{jobId}/errors")
+    public ResponseEntity<List<UserImportErrorResponse>> getErrors(@PathVariable Long jobId,
+                                                                   @RequestParam(defaultValue = "0") long afterLine,
+                                                                   @RequestParam(defaultValue = "1000") int limit) {
+        return ResponseEntity.ok(userImportService.getErrors(jobId, afterLine, limit));
+    }
+
+    @ExceptionHandler(UserImportConflictException.class)
+    public ResponseEntity<Map<String, String>> conflict(UserImportConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", e.getMessage()));
+    }
+}
@@ -16,4 +16,8 @@ public class AuthResponse {
     private String firstName;
     private String lastName;
     private String message;
+    private String accessToken;
+    private String refreshToken;
+    private String tokenType;
+    private Long expiresIn;
 }
@@ -0,0 +1,17 @@
+package com.sudheer.robinhood.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportErrorResponse {
+    private Long lineNumber;
+    private String username;
+    private String email;
+    private String error;
+}
@@ -0,0 +1,24 @@
+package com.sudheer.robinhood.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportJobResponse {
+    private Long jobId;
+    private String sourceName;
+    private String format;
+    private String status;
+    private Long checkpointLine;
+    private Long imported;
+    private Long failed;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,25 @@
+package com.sudheer.robinhood.auth.importer;
+
+import org.apache.catalina.connector.Connector;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class UserImportConfig {
+
+    /**
+     * Second connector for the import endpoints; see {@link UserImportPortFilter}.
+     */
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> userImportConnector(UserImportProperties properties) {
+        return factory -> {
+            if (properties.getPort() > 0) {
+                Connector connector = new Connector(TomcatServletWebServerFactory.DEFAULT_PROTOCOL);
+                connector.setPort(properties.getPort());
+                factory.addAdditionalTomcatConnectors(connector);
+            }
+        };
+    }
+}
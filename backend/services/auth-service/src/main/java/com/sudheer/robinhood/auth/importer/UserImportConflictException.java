@@ -0,0 +1,11 @@
+package com.sudheer.robinhood.auth.importer;
+
+/**
+ * The import job is being run by another request and cannot be resumed yet.
+ */
+public class UserImportConflictException extends RuntimeException {
+
+    public UserImportConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,48 @@
+package com.sudheer.robinhood.auth.importer;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Hides the import endpoints on every port except auth.import.port.
+ *
+ * An import creates accounts with caller-supplied password hashes, and its
+ * error feed shows which usernames and emails exist, so it is an operator
+ * tool rather than a user API. Requests for it on the public port get a 404.
+ * With no import port configured, imports are off.
+ */
+@Component
+public class UserImportPortFilter extends OncePerRequestFilter {
+
+    private static final String IMPORTS_PATH = "/api/v1/auth/imports";
+
+    private final int port;
+
+    public UserImportPortFilter(UserImportProperties properties) {
+        this.port = properties.getPort();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(IMPORTS_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (port <= 0 || request.getLocalPort() != port) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Not found\"}");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,42 @@
+package com.sudheer.robinhood.auth.importer;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "auth.import")
+public class UserImportProperties {
+
+    /**
+     * The only port the import endpoints answer on, as a second connector beside
+     * server.port. Keep it off the load balancer; 0 turns imports off.
+     */
+    private int port = 0;
+
+    /**
+     * Input lines per chunk; each chunk is one COPY, one transaction and one checkpoint.
+     */
+    private int chunkSize = 5000;
+
+    /**
+     * Threads hashing passwords during an import; 0 means one per available core.
+     * Separate from the login hashing pool, so an import never queues logins.
+     */
+    private int hashThreads = 0;
+
+    /**
+     * BCrypt cost for imported passwords; 0 uses the hashing policy's cost. A lower
+     * cost imports faster and is raised to the policy's cost on each user's first login.
+     */
+    private int strength = 0;
+
+    /**
+     * A RUNNING job with no checkpoint for this long is taken to be abandoned,
+     * for example by a node that died, and may be resumed. Until then a resume is a 409.
+     */
+    private Duration staleAfter = Duration.ofMinutes(10);
+}
@@ -0,0 +1,365 @@
+package com.sudheer.robinhood.auth.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sudheer.robinhood.auth.availability.UserAvailabilityFilter;
+import com.sudheer.robinhood.auth.dto.UserImportErrorResponse;
+import com.sudheer.robinhood.auth.dto.UserImportJobResponse;
+import com.sudheer.robinhood.auth.dto.UserImportRecord;
+import com.sudheer.robinhood.auth.repository.UserImportRepository;
+import com.sudheer.robinhood.auth.security.PasswordHashingPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * Streams NDJSON or CSV users into auth.users, chunkSize lines at a time.
+ *
+ * Per chunk: validate each line, drop duplicates within the chunk, find
+ * usernames and emails already taken with one ANY() query each, hash the
+ * remaining passwords in parallel on a dedicated pool, then write the users,
+ * the rejections and the checkpoint in one transaction (see
+ * {@link UserImportRepository#writeChunk}). Every rejected line is recorded
+ * with its line number and reason. Re-posting the same file with the job id
+ * resumes after the last committed line.
+ */
+@Service
+@Slf4j
+public class UserImportService implements DisposableBean {
+
+    public static final String FORMAT_NDJSON = "NDJSON";
+    public static final String FORMAT_CSV = "CSV";
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[abxy]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+    private static final List<String> CSV_COLUMNS =
+            List.of("username", "email", "password", "passwordhash", "firstname", "lastname");
+
+    private final UserImportRepository importRepository;
+    private final UserAvailabilityFilter availabilityFilter;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final BCryptPasswordEncoder encoder;
+    private final ForkJoinPool hashPool;
+    private final int chunkSize;
+    private final Duration staleAfter;
+
+    private final Counter importedCounter;
+    private final Counter failedCounter;
+
+    public UserImportService(UserImportRepository importRepository, UserAvailabilityFilter availabilityFilter,
+                             ObjectMapper objectMapper, Validator validator, PasswordHashingPolicy policy,
+                             UserImportProperties properties, MeterRegistry meterRegistry) {
+        this.importRepository = importRepository;
+        this.availabilityFilter = availabilityFilter;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.encoder = new BCryptPasswordEncoder(properties.getStrength() > 0 ? properties.getStrength() : policy.getStrength());
+        int threads = properties.getHashThreads() > 0 ? properties.getHashThreads() : Runtime.getRuntime().availableProcessors();
+        this.hashPool = new ForkJoinPool(threads);
+        this.chunkSize = Math.max(1, properties.getChunkSize());
+        this.staleAfter = properties.getStaleAfter();
+        this.importedCounter = meterRegistry.counter("auth.import.users", "result", "imported");
+        this.failedCounter = meterRegistry.counter("auth.import.users", "result", "failed");
+    }
+
+    /**
+     * Runs an import to the end of the stream. With a jobId, lines up to that
+     * job's checkpoint are skipped; the input must be the same file. A job
+     * still running elsewhere is not resumed (see UserImportProperties#staleAfter).
+     */
+    public UserImportJobResponse importUsers(InputStream in, String format, String sourceName, Long jobId)
+            throws IOException {
+        long id;
+        long skip = 0;
+        if (jobId != null) {
+            UserImportJobResponse job = getJob(jobId);
+            if ("COMPLETED".equals(job.getStatus())) {
+                return job;
+            }
+            if (!job.getFormat().equals(format)) {
+                throw new RuntimeException("Job " + jobId + " was started as " + job.getFormat());
+            }
+            if (!importRepository.claimResume(jobId, staleAfter)) {
+                throw new UserImportConflictException("Import job " + jobId + " is still running");
+            }
+            id = jobId;
+            // Re-read: the run that was going on may have checkpointed since
+            skip = getJob(jobId).getCheckpointLine();
+        } else {
+            id = importRepository.createJob(sourceName, format);
+        }
+
+        long started = System.nanoTime();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16)) {
+            int[] csvColumns = FORMAT_CSV.equals(format) ? csvHeader(reader.readLine()) : null;
+            long lineNumber = 0;
+            Chunk chunk = new Chunk(chunkSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber <= skip) {
+                    continue;
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                chunk.add(lineNumber, line);
+                if (chunk.size() == chunkSize) {
+                    processChunk(id, chunk, csvColumns, lineNumber);
+                    chunk.clear();
+                }
+            }
+            if (chunk.size() > 0 || lineNumber > skip) {
+                processChunk(id, chunk, csvColumns, lineNumber);
+            }
+            importRepository.updateStatus(id, "COMPLETED");
+        } catch (IOException | RuntimeException e) {
+            importRepository.updateStatus(id, "FAILED");
+            log.warn("User import {} stopped: {}", id, e.getMessage());
+            throw e;
+        }
+
+        UserImportJobResponse job = getJob(id);
+        log.info("User import {} completed: imported={}, failed={} in {} s", id, job.getImported(), job.getFailed(),
+                (System.nanoTime() - started) / 1_000_000_000);
+        return job;
+    }
+
+    public UserImportJobResponse getJob(long jobId) {
+        return importRepository.findJob(jobId)
+                .orElseThrow(() -> new RuntimeException("Import job not found"));
+    }
+
+    public List<UserImportErrorResponse> getErrors(long jobId, long afterLine, int limit) {
+        getJob(jobId);
+        return importRepository.findErrors(jobId, afterLine, Math.max(1, Math.min(limit, 10_000)));
+    }
+
+    private void processChunk(long jobId, Chunk chunk, int[] csvColumns, long checkpointLine) {
+        List<UserImportErrorResponse> errors = new ArrayList<>();
+        List<Row> rows = new ArrayList<>(chunk.size());
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            long lineNumber = chunk.lineNumbers[i];
+            UserImportRecord record;
+            try {
+                record = csvColumns != null ? parseCsv(chunk.lines[i], csvColumns)
+                        : objectMapper.readValue(chunk.lines[i], UserImportRecord.class);
+            } catch (JsonProcessingException e) {
+                // Not getMessage(): it quotes the input, password included
+                errors.add(error(lineNumber, null, "Malformed line: " + e.getOriginalMessage()));
+                continue;
+            } catch (IllegalArgumentException e) {
+                errors.add(error(lineNumber, null, "Malformed line: " + e.getMessage()));
+                continue;
+            }
+            if (record == null) {
+                errors.add(error(lineNumber, null, "Expected a JSON object"));
+                continue;
+            }
+            String invalid = validate(record);
+            if (invalid != null) {
+                errors.add(error(lineNumber, record, invalid));
+            } else if (!usernames.add(record.getUsername())) {
+                errors.add(error(lineNumber, record, "Duplicate username in this chunk"));
+            } else if (!emails.add(record.getEmail())) {
+                usernames.remove(record.getUsername());
+                errors.add(error(lineNumber, record, "Duplicate email in this chunk"));
+            } else {
+                rows.add(new Row(lineNumber, record));
+            }
+        }
+
+        // Drop users that already exist before spending a hash on them
+        Set<String> takenUsernames = importRepository.findExistingUsernames(usernames.toArray(String[]::new));
+        Set<String> takenEmails = importRepository.findExistingEmails(emails.toArray(String[]::new));
+        List<Row> accepted = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            if (takenUsernames.contains(row.record.getUsername())) {
+                errors.add(error(row.lineNumber, row.record, "Username already exists"));
+            } else if (takenEmails.contains(row.record.getEmail())) {
+                errors.add(error(row.lineNumber, row.record, "Email already exists"));
+            } else {
+                accepted.add(row);
+            }
+        }
+
+        hashPasswords(accepted);
+
+        Set<String> inserted = importRepository.writeChunk(jobId, toCsv(accepted), accepted.size(), errors,
+                checkpointLine);
+        List<String> importedUsernames = new ArrayList<>(inserted.size());
+        List<String> importedEmails = new ArrayList<>(inserted.size());
+        for (Row row : accepted) {
+            if (inserted.contains(row.record.getUsername())) {
+                importedUsernames.add(row.record.getUsername());
+                importedEmails.add(row.record.getEmail());
+            }
+        }
+
+        importedCounter.increment(importedUsernames.size());
+        failedCounter.increment(errors.size() + accepted.size() - importedUsernames.size());
+        availabilityFilter.addAll(importedUsernames, importedEmails);
+        log.debug("Import {} through line {}: {} imported, {} rejected", jobId, checkpointLine,
+                importedUsernames.size(), errors.size() + accepted.size() - importedUsernames.size());
+    }
+
+    private void hashPasswords(List<Row> rows) {
+        try {
+            hashPool.submit(() -> IntStream.range(0, rows.size()).parallel().forEach(i -> {
+                UserImportRecord record = rows.get(i).record;
+                if (record.getPasswordHash() == null) {
+                    record.setPasswordHash(encoder.encode(record.getPassword()));
+                }
+                record.setPassword(null);
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Import interrupted");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private String validate(UserImportRecord record) {
+        Set<ConstraintViolation<UserImportRecord>> violations = validator.validate(record);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+        if (record.getPasswordHash() != null) {
+            return BCRYPT_HASH.matcher(record.getPasswordHash()).matches() ? null : "passwordHash must be a BCrypt hash";
+        }
+        return record.getPassword() == null ? "Password or passwordHash is required" : null;
+    }
+
+    private int[] csvHeader(String header) {
+        if (header == null) {
+            throw new RuntimeException("CSV input has no header line");
+        }
+        List<String> names = CsvLines.split(header);
+        int[] columns = new int[CSV_COLUMNS.size()];
+        for (int c = 0; c < columns.length; c++) {
+            columns[c] = names.stream().map(n -> n.trim().replace("_", "").toLowerCase(Locale.ROOT))
+                    .toList().indexOf(CSV_COLUMNS.get(c));
+        }
+        if (columns[0] < 0 || columns[1] < 0 || (columns[2] < 0 && columns[3] < 0)) {
+            throw new RuntimeException("CSV header needs username, email and password or passwordHash columns");
+        }
+        return columns;
+    }
+
+    private static UserImportRecord parseCsv(String line, int[] columns) {
+        List<String> values = CsvLines.split(line);
+        return UserImportRecord.builder()
+                .username(column(values, columns[0]))
+                .email(column(values, columns[1]))
+                .password(column(values, columns[2]))
+                .passwordHash(column(values, columns[3]))
+                .firstName(column(values, columns[4]))
+                .lastName(column(values, columns[5]))
+                .build();
+    }
+
+    private static String column(List<String> values, int index) {
+        if (index < 0 || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static byte[] toCsv(List<Row> rows) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(rows.size() * 160);
+        StringBuilder line = new StringBuilder(256);
+        for (Row row : rows) {
+            UserImportRecord record = row.record;
+            line.setLength(0);
+            line.append(row.lineNumber).append(',');
+            CsvLines.append(line, record.getUsername()).append(',');
+            CsvLines.append(line, record.getEmail()).append(',');
+            CsvLines.append(line, record.getPasswordHash()).append(',');
+            CsvLines.append(line, record.getFirstName()).append(',');
+            CsvLines.append(line, record.getLastName()).append('\n');
+            out.writeBytes(line.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    private static UserImportErrorResponse error(long lineNumber, UserImportRecord record, String message) {
+        return UserImportErrorResponse.builder()
+                .lineNumber(lineNumber)
+                .username(record == null ? null : truncate(record.getUsername()))
+                .email(record == null ? null : truncate(record.getEmail()))
+                .error(message.length() > 500 ? message.substring(0, 500) : message)
+                .build();
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > 255 ? value.substring(0, 255) : value;
+    }
+
+    @Override
+    public void destroy() {
+        hashPool.shutdownNow();
+    }
+
+    private static final class Chunk {
+        private final long[] lineNumbers;
+        private final String[] lines;
+        private int size;
+
+        private Chunk(int capacity) {
+            lineNumbers = new long[capacity];
+            lines = new String[capacity];
+        }
+
+        private void add(long lineNumber, String line) {
+            lineNumbers[size] = lineNumber;
+            lines[size++] = line;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private void clear() {
+            Arrays.fill(lines, null);
+            size = 0;
+        }
+    }
+
+    private static final class Row {
+        private final long lineNumber;
+        private final UserImportRecord record;
+
+        private Row(long lineNumber, UserImportRecord record) {
+            this.lineNumber = lineNumber;
+            this.record = record;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.sudheer.robinhood.auth.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * One login session: the latest access token issued for it and the SHA-256
+ * of its refresh token. Refresh tokens themselves are never stored.
+ */
+@Entity
+@Table(name = "oauth_tokens", schema = "auth")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class OAuthToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "access_token", nullable = false, unique = true, length = 500)
+    private String accessToken;
+
+    @Column(name = "refresh_token", unique = true, length = 500)
+    private String refreshToken;
+
+    @Column(name = "token_type")
+    @Builder.Default
+    private String tokenType = "Bearer";
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "revoked")
+    @Builder.Default
+    private Boolean revoked = false;
+}
@@ -0,0 +1,19 @@
+package com.sudheer.robinhood.auth.repository;
+
+import com.sudheer.robinhood.auth.model.OAuthToken;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface OAuthTokenRepository extends JpaRepository<OAuthToken, Long> {
+
+    /**
+     * Locks the row so two concurrent refreshes with one token cannot both rotate it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<OAuthToken> findByRefreshToken(String refreshToken);
+}
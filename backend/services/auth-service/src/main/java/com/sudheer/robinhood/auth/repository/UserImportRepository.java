@@ -0,0 +1,240 @@
+package com.sudheer.robinhood.auth.repository;
+
+import com.sudheer.robinhood.auth.dto.UserImportErrorResponse;
+import com.sudheer.robinhood.auth.dto.UserImportJobResponse;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Plain JDBC access for bulk user imports. A chunk of users is written with
+ * COPY into a transaction-scoped staging table, then moved into auth.users
+ * with one INSERT ... ON CONFLICT DO NOTHING, so a duplicate costs its own
+ * row rather than the chunk. The chunk's rejections and the job checkpoint
+ * are written in the same transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserImportRepository {
+
+    private static final String INSERT_JOB_SQL = """
+            INSERT INTO auth.user_import_jobs (source_name, format, status) VALUES (?, ?, 'RUNNING')
+            """;
+
+    private static final String JOB_SQL = """
+            SELECT id, source_name, format, status, checkpoint_line, imported, failed, created_at, updated_at
+            FROM auth.user_import_jobs
+            WHERE id = ?
+            """;
+
+    private static final String UPDATE_STATUS_SQL = """
+            UPDATE auth.user_import_jobs SET status = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?
+            """;
+
+    // Resumable: failed, or running with no checkpoint lately; the database clock judges both
+    private static final String CLAIM_RESUME_SQL = """
+            UPDATE auth.user_import_jobs SET status = 'RUNNING', updated_at = CURRENT_TIMESTAMP
+            WHERE id = ?
+              AND (status = 'FAILED'
+                   OR (status = 'RUNNING' AND updated_at < CURRENT_TIMESTAMP - make_interval(secs => ?)))
+            """;
+
+    private static final String EXISTING_USERNAMES_SQL = """
+            SELECT username FROM auth.users WHERE username = ANY(?::varchar[])
+            """;
+
+    private static final String EXISTING_EMAILS_SQL = """
+            SELECT email FROM auth.users WHERE email = ANY(?::varchar[])
+            """;
+
+    private static final String CREATE_STAGING_SQL = """
+            CREATE TEMP TABLE user_import_staging (
+                line_number BIGINT,
+                username VARCHAR(100),
+                email VARCHAR(255),
+                password_hash VARCHAR(255),
+                first_name VARCHAR(100),
+                last_name VARCHAR(100)
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_STAGING_SQL = """
+            COPY user_import_staging (line_number, username, email, password_hash, first_name, last_name)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    // Rows that lose a race on a unique key are rejected in the same statement
+    private static final String INSERT_USERS_SQL = """
+            WITH inserted AS (
+                INSERT INTO auth.users (username, email, password_hash, first_name, last_name, is_active)
+                SELECT username, email, password_hash, first_name, last_name, true
+                FROM user_import_staging
+                ORDER BY line_number
+                ON CONFLICT DO NOTHING
+                RETURNING username
+            ), rejected AS (
+                INSERT INTO auth.user_import_errors (job_id, line_number, username, email, error)
+                SELECT ?, s.line_number, s.username, s.email, 'Username or email already exists'
+                FROM user_import_staging s
+                WHERE s.username NOT IN (SELECT username FROM inserted)
+                ON CONFLICT (job_id, line_number) DO UPDATE SET error = EXCLUDED.error
+            )
+            SELECT username FROM inserted
+            """;
+
+    private static final String INSERT_ERROR_SQL = """
+            INSERT INTO auth.user_import_errors (job_id, line_number, username, email, error)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (job_id, line_number) DO UPDATE SET error = EXCLUDED.error
+            """;
+
+    private static final String CHECKPOINT_SQL = """
+            UPDATE auth.user_import_jobs
+            SET checkpoint_line = ?, imported = imported + ?, failed = failed + ?, updated_at = CURRENT_TIMESTAMP
+            WHERE id = ?
+            """;
+
+    private static final String ERRORS_SQL = """
+            SELECT line_number, username, email, error
+            FROM auth.user_import_errors
+            WHERE job_id = ? AND line_number > ?
+            ORDER BY line_number
+            LIMIT ?
+            """;
+
+    private static final RowMapper<UserImportJobResponse> JOB_MAPPER = (rs, rowNum) -> UserImportJobResponse.builder()
+            .jobId(rs.getLong("id"))
+            .sourceName(rs.getString("source_name"))
+            .format(rs.getString("format"))
+            .status(rs.getString("status"))
+            .checkpointLine(rs.getLong("checkpoint_line"))
+            .imported(rs.getLong("imported"))
+            .failed(rs.getLong("failed"))
+            .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+            .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long createJob(String sourceName, String format) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_JOB_SQL, new String[]{"id"});
+            ps.setString(1, sourceName);
+            ps.setString(2, format);
+            return ps;
+        }, keys);
+        return Objects.requireNonNull(keys.getKey()).longValue();
+    }
+
+    public Optional<UserImportJobResponse> findJob(long jobId) {
+        return jdbcTemplate.query(JOB_SQL, JOB_MAPPER, jobId).stream().findFirst();
+    }
+
+    public void updateStatus(long jobId, String status) {
+        jdbcTemplate.update(UPDATE_STATUS_SQL, status, jobId);
+    }
+
+    /**
+     * Marks a failed or abandoned job RUNNING again; false if it is still running elsewhere.
+     */
+    public boolean claimResume(long jobId, Duration staleAfter) {
+        return jdbcTemplate.update(CLAIM_RESUME_SQL, jobId, staleAfter.toSeconds()) == 1;
+    }
+
+    public Set<String> findExistingUsernames(String[] usernames) {
+        return findExisting(EXISTING_USERNAMES_SQL, usernames);
+    }
+
+    public Set<String> findExistingEmails(String[] emails) {
+        return findExisting(EXISTING_EMAILS_SQL, emails);
+    }
+
+    /**
+     * Writes one chunk atomically: the stagedCount users in csvRows (COPY csv
+     * lines of line_number, username, email, password_hash, first_name,
+     * last_name), the rejections and the checkpoint. Returns the usernames
+     * actually inserted; staged rows missing from it lost a race on a unique
+     * key and are recorded as rejected.
+     */
+    @Transactional
+    public Set<String> writeChunk(long jobId, byte[] csvRows, int stagedCount, List<UserImportErrorResponse> errors,
+                                  long checkpointLine) {
+        Set<String> inserted = new HashSet<>();
+        if (csvRows.length > 0) {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(CREATE_STAGING_SQL);
+                }
+                try {
+                    connection.unwrap(PGConnection.class).getCopyAPI()
+                            .copyIn(COPY_STAGING_SQL, new ByteArrayInputStream(csvRows));
+                } catch (IOException e) {
+                    throw new IllegalStateException("COPY into staging failed", e);
+                }
+                return null;
+            });
+            inserted.addAll(jdbcTemplate.queryForList(INSERT_USERS_SQL, String.class, jobId));
+        }
+        insertErrors(jobId, errors);
+        int failed = errors.size() + stagedCount - inserted.size();
+        jdbcTemplate.update(CHECKPOINT_SQL, checkpointLine, inserted.size(), failed, jobId);
+        return inserted;
+    }
+
+    private void insertErrors(long jobId, List<UserImportErrorResponse> errors) {
+        if (errors.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_ERROR_SQL, errors, 1000, (ps, error) -> {
+            ps.setLong(1, jobId);
+            ps.setLong(2, error.getLineNumber());
+            ps.setString(3, error.getUsername());
+            ps.setString(4, error.getEmail());
+            ps.setString(5, error.getError());
+        });
+    }
+
+    /**
+     * Rejections after afterLine, in line order.
+     */
+    public List<UserImportErrorResponse> findErrors(long jobId, long afterLine, int limit) {
+        return jdbcTemplate.query(ERRORS_SQL, (rs, rowNum) -> UserImportErrorResponse.builder()
+                .lineNumber(rs.getLong("line_number"))
+                .username(rs.getString("username"))
+                .email(rs.getString("email"))
+                .error(rs.getString("error"))
+                .build(), jobId, afterLine, limit);
+    }
+
+    private Set<String> findExisting(String sql, String[] values) {
+        Set<String> existing = new HashSet<>();
+        jdbcTemplate.query(sql, ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", values)),
+                (RowCallbackHandler) rs -> existing.add(rs.getString(1)));
+        return existing;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
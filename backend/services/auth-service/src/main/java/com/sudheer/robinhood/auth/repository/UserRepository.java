@@ -2,13 +2,19 @@ package com.sudheer.robinhood.auth.repository;
 
 import com.sudheer.robinhood.auth.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    // Read-only so that, with datasource.routing enabled, logins are served by a replica
+    @Transactional(readOnly = true)
     Optional<User> findByUsername(String username);
 
     Optional<User> findByEmail(String email);
@@ -16,4 +22,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Boolean existsByUsername(String username);
 
     Boolean existsByEmail(String email);
+
+    /**
+     * Replaces the hash only if it is still expectedHash; returns rows updated.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.passwordHash = :newHash WHERE u.id = :id AND u.passwordHash = :expectedHash")
+    int updatePasswordHash(@Param("id") Long id, @Param("expectedHash") String expectedHash,
+                           @Param("newHash") String newHash);
 }
@@ -0,0 +1,55 @@
+package com.sudheer.robinhood.auth.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sudheer.robinhood.auth.model.User;
+import com.sudheer.robinhood.shared.security.AccessTokenClaims;
+import com.sudheer.robinhood.shared.security.AccessTokenVerifier;
+import com.sudheer.robinhood.shared.security.TokenProperties;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Signs the short-lived HS256 access tokens that {@link AccessTokenVerifier} checks.
+ */
+@Component
+public class AccessTokenIssuer {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final ObjectMapper objectMapper;
+    private final ThreadLocal<Mac> macs;
+    private final long expirationSeconds;
+
+    public AccessTokenIssuer(TokenProperties properties, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        var key = AccessTokenVerifier.signingKey(properties.getSecret());
+        this.macs = ThreadLocal.withInitial(() -> AccessTokenVerifier.newMac(key));
+        this.expirationSeconds = Math.max(1, properties.getExpiration() / 1000);
+    }
+
+    public String sign(AccessTokenClaims claims) {
+        try {
+            String signingInput = AccessTokenVerifier.HEADER + "."
+                    + ENCODER.encodeToString(objectMapper.writeValueAsBytes(claims));
+            byte[] signature = macs.get().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + "." + ENCODER.encodeToString(signature);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize access token claims", e);
+        }
+    }
+
+    public AccessTokenClaims claimsFor(User user) {
+        long now = System.currentTimeMillis() / 1000;
+        return new AccessTokenClaims(String.valueOf(user.getId()), user.getUsername(),
+                UUID.randomUUID().toString(), now, now + expirationSeconds);
+    }
+
+    public long getExpirationSeconds() {
+        return expirationSeconds;
+    }
+}
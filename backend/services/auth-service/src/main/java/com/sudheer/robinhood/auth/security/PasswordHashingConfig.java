@@ -0,0 +1,18 @@
+package com.sudheer.robinhood.auth.security;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Configuration
+public class PasswordHashingConfig {
+
+    /**
+     * Verifies hashes of any cost; new hashes use the policy's cost.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHashingPolicy policy) {
+        return new BCryptPasswordEncoder(policy.getStrength());
+    }
+}
@@ -0,0 +1,98 @@
+package com.sudheer.robinhood.auth.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The BCrypt cost this node hashes with, and whether a stored hash matches it.
+ *
+ * The cost is either configured or calibrated at startup. Calibration times
+ * each cost from minStrength up on this hardware and keeps the highest whose
+ * p99 fits targetP99. Each step doubles the work, so it stops after the first
+ * cost that misses. Calibrated costs can differ between nodes; stored hashes
+ * are only ever moved up, never down.
+ */
+@Component
+@Slf4j
+public class PasswordHashingPolicy {
+
+    private static final Pattern BCRYPT_PREFIX = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final int strength;
+
+    public PasswordHashingPolicy(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        if (properties.getStrength() > 0) {
+            this.strength = properties.getStrength();
+        } else {
+            this.strength = calibrate(properties.getTargetP99(), properties.getMinStrength(),
+                    properties.getMaxStrength(), properties.getCalibrationSamples());
+        }
+        log.info("Password hashing policy: BCrypt cost {}", strength);
+        Gauge.builder("auth.password.hash.cost", () -> strength).register(meterRegistry);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * True when the stored hash was made with a lower cost, or is not BCrypt at all.
+     *
+     * Never true for a higher cost: with calibration, nodes on different
+     * hardware can settle on different costs, and downgrading here would have
+     * a user's hash flip between them on every login. Lowering the configured
+     * cost therefore only applies to new and changed passwords.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return costOf(encodedPassword) < strength;
+    }
+
+    /**
+     * BCrypt cost encoded in the hash, or -1 if it is not a BCrypt hash.
+     */
+    public static int costOf(String encodedPassword) {
+        if (encodedPassword == null) {
+            return -1;
+        }
+        Matcher matcher = BCRYPT_PREFIX.matcher(encodedPassword);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+
+    static int calibrate(Duration targetP99, int minStrength, int maxStrength, int samples) {
+        long targetNanos = targetP99.toNanos();
+        int n = Math.max(1, samples);
+        int chosen = minStrength;
+
+        for (int cost = minStrength; cost <= maxStrength; cost++) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+            encoder.encode("warm-up");
+            long[] nanos = new long[n];
+            for (int i = 0; i < n; i++) {
+                long started = System.nanoTime();
+                encoder.encode("calibration-" + i);
+                nanos[i] = System.nanoTime() - started;
+            }
+            Arrays.sort(nanos);
+            long p99 = nanos[Math.max(0, (int) Math.ceil(0.99 * n) - 1)];
+            log.info("BCrypt cost {}: p50={} ms, p99={} ms", cost, nanos[n / 2] / 1_000_000, p99 / 1_000_000);
+
+            if (p99 > targetNanos) {
+                if (cost == minStrength) {
+                    log.warn("BCrypt cost {} already exceeds the {} ms p99 target; keeping it as the floor",
+                            cost, targetP99.toMillis());
+                }
+                break;
+            }
+            chosen = cost;
+        }
+        return chosen;
+    }
+}
@@ -0,0 +1,55 @@
+package com.sudheer.robinhood.auth.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "auth.hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * Hashing threads; 0 means one per available core.
+     */
+    private int threads = 0;
+
+    /**
+     * Hash requests allowed to wait for a thread. Beyond this, requests are rejected with 503.
+     */
+    private int queueCapacity = 256;
+
+    /**
+     * Longest a request waits for its hash, queueing included, before giving up with 503.
+     */
+    private Duration maxWait = Duration.ofSeconds(5);
+
+    /**
+     * BCrypt cost for new hashes. 0 calibrates at startup: the highest cost between
+     * minStrength and maxStrength whose measured p99 stays within targetP99.
+     */
+    private int strength = 10;
+
+    private int minStrength = 10;
+
+    private int maxStrength = 14;
+
+    private Duration targetP99 = Duration.ofMillis(250);
+
+    /**
+     * Hashes timed per cost during calibration.
+     */
+    private int calibrationSamples = 8;
+
+    /**
+     * Re-hash, after a successful login, any stored hash whose cost is below strength.
+     */
+    private boolean rehashOnLogin = true;
+
+    /**
+     * Pending background re-hashes; beyond this they are skipped and retried on a later login.
+     */
+    private int rehashQueueCapacity = 1000;
+}
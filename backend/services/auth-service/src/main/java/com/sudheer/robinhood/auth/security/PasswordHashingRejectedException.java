@@ -0,0 +1,11 @@
+package com.sudheer.robinhood.auth.security;
+
+/**
+ * The hashing executor is saturated; the request should be retried shortly.
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,112 @@
+package com.sudheer.robinhood.auth.security;
+
+import com.sudheer.robinhood.auth.model.User;
+import com.sudheer.robinhood.auth.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves stored hashes to the policy's cost as users log in, so a cost change
+ * needs no password resets.
+ *
+ * After a successful login, a hash below the policy's cost is re-hashed on one
+ * low-priority background thread and written only if the stored hash is still
+ * the one verified. The queue is bounded; when it is full the upgrade is
+ * skipped and happens on a later login instead. Counts logins by stored cost,
+ * so migration progress shows in the metrics.
+ */
+@Component
+@Slf4j
+public class PasswordRehasher implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingPolicy policy;
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<Integer, Counter> verifiedByCost = new ConcurrentHashMap<>();
+    private final Counter upgraded;
+    private final Counter skippedBusy;
+    private final Counter skippedChanged;
+    private final Counter failed;
+
+    public PasswordRehasher(PasswordEncoder passwordEncoder, PasswordHashingPolicy policy,
+                            UserRepository userRepository, PasswordHashingProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.policy = policy;
+        this.userRepository = userRepository;
+        this.meterRegistry = meterRegistry;
+        this.enabled = properties.isRehashOnLogin();
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getRehashQueueCapacity())),
+                r -> {
+                    Thread thread = new Thread(r, "password-rehash");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.upgraded = meterRegistry.counter("auth.password.rehash", "result", "upgraded");
+        this.skippedBusy = meterRegistry.counter("auth.password.rehash", "result", "busy");
+        this.skippedChanged = meterRegistry.counter("auth.password.rehash", "result", "changed");
+        this.failed = meterRegistry.counter("auth.password.rehash", "result", "failed");
+        Gauge.builder("auth.password.rehash.queue.depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+    }
+
+    /**
+     * Called once the password has been verified against user's stored hash.
+     */
+    public void onSuccessfulLogin(User user, String rawPassword) {
+        String storedHash = user.getPasswordHash();
+        int cost = PasswordHashingPolicy.costOf(storedHash);
+        verifiedByCost.computeIfAbsent(cost, c -> meterRegistry.counter("auth.password.verified",
+                "cost", String.valueOf(c))).increment();
+
+        if (!enabled || !policy.needsRehash(storedHash)) {
+            return;
+        }
+        Long userId = user.getId();
+        try {
+            executor.execute(() -> rehash(userId, storedHash, rawPassword, cost));
+        } catch (RejectedExecutionException e) {
+            skippedBusy.increment();
+        }
+    }
+
+    private void rehash(Long userId, String storedHash, String rawPassword, int fromCost) {
+        try {
+            String newHash = passwordEncoder.encode(rawPassword);
+            if (userRepository.updatePasswordHash(userId, storedHash, newHash) == 1) {
+                upgraded.increment();
+                log.debug("Re-hashed password of user {} from cost {} to {}", userId, fromCost, policy.getStrength());
+            } else {
+                // Password changed, or another login already upgraded it
+                skippedChanged.increment();
+            }
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("Failed to re-hash password of user {}", userId, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
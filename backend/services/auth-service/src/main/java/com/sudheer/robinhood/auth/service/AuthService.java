@@ -1,17 +1,31 @@
 package com.sudheer.robinhood.auth.service;
 
+import com.sudheer.robinhood.auth.availability.UserAvailabilityFilter;
+import com.sudheer.robinhood.auth.availability.UserAvailabilityFilter.Field;
+import com.sudheer.robinhood.auth.cache.UserCache;
+import com.sudheer.robinhood.auth.cache.UserCacheProperties;
 import com.sudheer.robinhood.auth.dto.AuthResponse;
+import com.sudheer.robinhood.auth.dto.AvailabilityResponse;
 import com.sudheer.robinhood.auth.dto.LoginRequest;
+import com.sudheer.robinhood.auth.dto.RefreshTokenRequest;
 import com.sudheer.robinhood.auth.dto.RegisterRequest;
 import com.sudheer.robinhood.auth.model.User;
 import com.sudheer.robinhood.auth.repository.UserRepository;
+import com.sudheer.robinhood.auth.security.PasswordHashingExecutor;
+import com.sudheer.robinhood.auth.security.PasswordRehasher;
+import com.sudheer.robinhood.shared.datasource.ReadWriteRoutingDataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -19,28 +33,40 @@ import java.util.Objects;
 public class AuthService {
 
         private final UserRepository userRepository;
-        private final PasswordEncoder passwordEncoder;
-
-        @Transactional
+        private final PasswordHashingExecutor passwordHasher;
+        private final PasswordRehasher passwordRehasher;
+        private final TokenService tokenService;
+        private final UserAvailabilityFilter availabilityFilter;
+        private final UserCache userCache;
+        private final UserCacheProperties userCacheProperties;
+
+        // Not @Transactional: a connection must not be held while the hash waits for a hashing thread.
+        // The unique constraints on username and email still reject a racing duplicate on save.
         public AuthResponse register(RegisterRequest request) {
-                if (userRepository.existsByUsername(request.getUsername())) {
+                if (availabilityFilter.isTaken(Field.USERNAME, request.getUsername(), userRepository::existsByUsername)) {
                         throw new RuntimeException("Username already exists");
                 }
 
-                if (userRepository.existsByEmail(request.getEmail())) {
+                if (availabilityFilter.isTaken(Field.EMAIL, request.getEmail(), userRepository::existsByEmail)) {
                         throw new RuntimeException("Email already exists");
                 }
 
                 User user = User.builder()
                                 .username(request.getUsername())
                                 .email(request.getEmail())
-                                .passwordHash(passwordEncoder.encode(request.getPassword()))
+                                .passwordHash(passwordHasher.encode(request.getPassword()))
                                 .firstName(request.getFirstName())
                                 .lastName(request.getLastName())
                                 .isActive(true)
                                 .build();
 
-                User savedUser = userRepository.save(Objects.requireNonNull(user));
+                User savedUser;
+                try {
+                        savedUser = userRepository.save(Objects.requireNonNull(user));
+                } catch (DataIntegrityViolationException e) {
+                        throw new RuntimeException("Username or email already exists");
+                }
+                availabilityFilter.add(savedUser.getUsername(), savedUser.getEmail());
                 log.info("User registered: {}", savedUser.getUsername());
 
                 return AuthResponse.builder()
@@ -53,12 +79,11 @@ public class AuthService {
                                 .build();
         }
 
-        @Transactional(readOnly = true)
         public AuthResponse login(LoginRequest request) {
                 User user = userRepository.findByUsername(request.getUsername())
                                 .orElseThrow(() -> new RuntimeException("Invalid username or password"));
 
-                if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+                if (!passwordHasher.matches(request.getPassword(), user.getPasswordHash())) {
                         throw new RuntimeException("Invalid username or password");
                 }
 
@@ -66,6 +91,9 @@ public class AuthService {
                         throw new RuntimeException("Account is inactive");
                 }
 
+                passwordRehasher.onSuccessfulLogin(user, request.getPassword());
+                TokenService.TokenPair tokens = tokenService.issue(user);
+
                 log.info("User logged in: {}", user.getUsername());
 
                 return AuthResponse.builder()
@@ -75,14 +103,83 @@ public class AuthService {
                                 .firstName(user.getFirstName())
                                 .lastName(user.getLastName())
                                 .message("Login successful")
+                                .accessToken(tokens.getAccessToken())
+                                .refreshToken(tokens.getRefreshToken())
+                                .tokenType("Bearer")
+                                .expiresIn(tokens.getExpiresIn())
                                 .build();
         }
 
-        @Transactional(readOnly = true)
+        public AvailabilityResponse checkAvailability(String username, String email) {
+                AvailabilityResponse.AvailabilityResponseBuilder response = AvailabilityResponse.builder();
+                if (username != null) {
+                        response.usernameAvailable(!availabilityFilter.isTaken(Field.USERNAME, username,
+                                        userRepository::existsByUsername));
+                }
+                if (email != null) {
+                        response.emailAvailable(!availabilityFilter.isTaken(Field.EMAIL, email,
+                                        userRepository::existsByEmail));
+                }
+                return response.build();
+        }
+
+        public AuthResponse refresh(RefreshTokenRequest request) {
+                TokenService.TokenPair tokens = tokenService.refresh(request.getRefreshToken());
+
+                return AuthResponse.builder()
+                                .message("Token refreshed")
+                                .accessToken(tokens.getAccessToken())
+                                .refreshToken(tokens.getRefreshToken())
+                                .tokenType("Bearer")
+                                .expiresIn(tokens.getExpiresIn())
+                                .build();
+        }
+
+        public void logout(RefreshTokenRequest request) {
+                tokenService.logout(request.getRefreshToken());
+        }
+
+        // Not @Transactional: a cache hit must not borrow a connection. Misses load from the primary,
+        // since a replica row read just after an invalidation would stay cached for the TTL.
         public AuthResponse getUserById(Long userId) {
-                User user = userRepository.findById(Objects.requireNonNull(userId))
-                                .orElseThrow(() -> new RuntimeException("User not found"));
+                AuthResponse response = userCache.get(Objects.requireNonNull(userId),
+                                id -> ReadWriteRoutingDataSource.onPrimary(() ->
+                                                userRepository.findById(id).map(AuthService::toUserResponse).orElse(null)));
+                if (response == null) {
+                        throw new RuntimeException("User not found");
+                }
+                return response;
+        }
+
+        /**
+         * Users found among the ids, in request order; all cache misses are read with one IN query.
+         */
+        public List<AuthResponse> getUsersByIds(List<Long> userIds) {
+                Set<Long> ids = new LinkedHashSet<>(userIds);
+                ids.remove(null);
+                if (ids.size() > userCacheProperties.getMaxBatchSize()) {
+                        throw new RuntimeException("At most " + userCacheProperties.getMaxBatchSize() + " ids per request");
+                }
+
+                Map<Long, AuthResponse> found = userCache.getAll(ids, missing -> ReadWriteRoutingDataSource.onPrimary(() -> {
+                        Map<Long, AuthResponse> loaded = new HashMap<>();
+                        for (User user : userRepository.findAllById(missing)) {
+                                loaded.put(user.getId(), toUserResponse(user));
+                        }
+                        return loaded;
+                }));
+
+                List<AuthResponse> responses = new ArrayList<>(found.size());
+                for (Long id : ids) {
+                        AuthResponse response = found.get(id);
+                        if (response != null) {
+                                responses.add(response);
+                        }
+                }
+                return responses;
+        }
 
+        private static AuthResponse toUserResponse(User user) {
                 return AuthResponse.builder()
                                 .userId(user.getId())
                                 .username(user.getUsername())
@@ -0,0 +1,155 @@
+package com.sudheer.robinhood.auth.service;
+
+import com.sudheer.robinhood.auth.model.OAuthToken;
+import com.sudheer.robinhood.auth.model.User;
+import com.sudheer.robinhood.auth.repository.OAuthTokenRepository;
+import com.sudheer.robinhood.auth.repository.UserRepository;
+import com.sudheer.robinhood.auth.security.AccessTokenIssuer;
+import com.sudheer.robinhood.shared.security.AccessTokenClaims;
+import com.sudheer.robinhood.shared.security.AccessTokenVerifier;
+import com.sudheer.robinhood.shared.security.InvalidTokenException;
+import com.sudheer.robinhood.shared.security.TokenDenyList;
+import com.sudheer.robinhood.shared.security.TokenProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * Issues access/refresh token pairs and handles refresh and logout.
+ *
+ * Access tokens are verified by every service without touching this database;
+ * only refresh and logout read auth.oauth_tokens. Refresh tokens rotate on
+ * every use. Logout revokes the session's current access token through the
+ * Redis sorted set and revocation channel that feed each service's
+ * {@link TokenDenyList}.
+ */
+@Service
+@Slf4j
+public class TokenService {
+
+    private final OAuthTokenRepository tokenRepository;
+    private final UserRepository userRepository;
+    private final AccessTokenIssuer issuer;
+    private final AccessTokenVerifier verifier;
+    private final TokenDenyList denyList;
+    private final StringRedisTemplate redisTemplate;
+    private final TokenProperties properties;
+    private final SecureRandom random = new SecureRandom();
+
+    public TokenService(OAuthTokenRepository tokenRepository, UserRepository userRepository,
+                        AccessTokenIssuer issuer, AccessTokenVerifier verifier, TokenDenyList denyList,
+                        StringRedisTemplate redisTemplate, TokenProperties properties) {
+        this.tokenRepository = tokenRepository;
+        this.userRepository = userRepository;
+        this.issuer = issuer;
+        this.verifier = verifier;
+        this.denyList = denyList;
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+    }
+
+    @Transactional
+    public TokenPair issue(User user) {
+        String accessToken = issuer.sign(issuer.claimsFor(user));
+        String refreshToken = newRefreshToken();
+        tokenRepository.save(Objects.requireNonNull(OAuthToken.builder()
+                .userId(user.getId())
+                .accessToken(accessToken)
+                .refreshToken(sha256(refreshToken))
+                .expiresAt(refreshExpiry())
+                .build()));
+        return new TokenPair(accessToken, refreshToken, issuer.getExpirationSeconds());
+    }
+
+    @Transactional
+    public TokenPair refresh(String refreshToken) {
+        OAuthToken session = tokenRepository.findByRefreshToken(sha256(refreshToken))
+                .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
+        if (Boolean.TRUE.equals(session.getRevoked()) || session.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new InvalidTokenException("Refresh token expired or revoked");
+        }
+
+        User user = userRepository.findById(session.getUserId())
+                .filter(User::getIsActive)
+                .orElseThrow(() -> new InvalidTokenException("Account is inactive"));
+
+        String accessToken = issuer.sign(issuer.claimsFor(user));
+        String rotated = newRefreshToken();
+        session.setAccessToken(accessToken);
+        session.setRefreshToken(sha256(rotated));
+        session.setExpiresAt(refreshExpiry());
+        return new TokenPair(accessToken, rotated, issuer.getExpirationSeconds());
+    }
+
+    /**
+     * Ends the session: the refresh token stops working at once, and its current
+     * access token is denied everywhere within a pub/sub round trip.
+     */
+    @Transactional
+    public void logout(String refreshToken) {
+        tokenRepository.findByRefreshToken(sha256(refreshToken)).ifPresent(session -> {
+            session.setRevoked(true);
+            try {
+                revoke(verifier.decode(session.getAccessToken()));
+            } catch (InvalidTokenException e) {
+                // Signed with a retired secret; it can no longer pass verification anyway
+            }
+            log.info("Session {} of user {} logged out", session.getId(), session.getUserId());
+        });
+    }
+
+    private void revoke(AccessTokenClaims claims) {
+        long now = System.currentTimeMillis() / 1000;
+        if (claims.getExp() <= now) {
+            return;
+        }
+        denyList.add(claims.getJti(), claims.getExp());
+        try {
+            redisTemplate.opsForZSet().add(properties.getRevokedKey(), claims.getJti(), claims.getExp());
+            redisTemplate.opsForZSet().removeRangeByScore(properties.getRevokedKey(), Double.NEGATIVE_INFINITY, now);
+            redisTemplate.convertAndSend(properties.getRevocationChannel(), claims.getJti() + ":" + claims.getExp());
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish revocation of token {}: {}", claims.getJti(), e.getMessage());
+        }
+    }
+
+    private LocalDateTime refreshExpiry() {
+        return LocalDateTime.now().plus(Duration.ofMillis(properties.getRefreshExpiration()));
+    }
+
+    private String newRefreshToken() {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class TokenPair {
+        private String accessToken;
+        private String refreshToken;
+        private long expiresIn;
+    }
+}
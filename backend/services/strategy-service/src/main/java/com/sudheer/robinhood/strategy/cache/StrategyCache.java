@@ -0,0 +1,91 @@
+package com.sudheer.robinhood.strategy.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.sudheer.robinhood.strategy.dto.StrategyResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Two-level cache of strategy snapshots, by strategy id and by owning user id.
+ *
+ * The writing node evicts Redis and its own near entries after commit, then
+ * publishes a {@link StrategyInvalidation} so every other node drops its near
+ * copies. Entries carry the audited updatedAt, so a node that has already
+ * loaded the new version keeps it.
+ */
+@Component
+@Slf4j
+public class StrategyCache implements MessageListener {
+
+    private final TwoLevelCache<StrategyResponse> byId;
+    private final TwoLevelCache<List<StrategyResponse>> byUser;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+
+    public StrategyCache(StrategyCacheProperties properties, StringRedisTemplate redisTemplate,
+                         ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        TypeFactory types = objectMapper.getTypeFactory();
+        this.byId = new TwoLevelCache<>("strategy", types.constructType(StrategyResponse.class),
+                properties, redisTemplate, objectMapper, meterRegistry);
+        this.byUser = new TwoLevelCache<>("user-strategies",
+                types.constructCollectionType(List.class, StrategyResponse.class),
+                properties, redisTemplate, objectMapper, meterRegistry);
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = properties.getInvalidationChannel();
+    }
+
+    public StrategyResponse getStrategy(long strategyId, Function<Long, StrategyResponse> loader) {
+        return byId.get(strategyId, loader);
+    }
+
+    public List<StrategyResponse> getStrategiesForUser(long userId, Function<Long, List<StrategyResponse>> loader) {
+        return byUser.get(userId, loader);
+    }
+
+    /**
+     * Called once the write has committed.
+     */
+    public void invalidate(StrategyInvalidation invalidation) {
+        byId.evict(invalidation.getStrategyId());
+        if (invalidation.getUserId() != null) {
+            byUser.evict(invalidation.getUserId());
+        }
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(invalidation));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize invalidation", e);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish invalidation for strategy {}: {}", invalidation.getStrategyId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        StrategyInvalidation invalidation;
+        try {
+            invalidation = objectMapper.readValue(message.getBody(), StrategyInvalidation.class);
+        } catch (Exception e) {
+            log.warn("Ignoring malformed cache invalidation: {}", e.getMessage());
+            return;
+        }
+        LocalDateTime version = invalidation.getUpdatedAt();
+        byId.evictNear(invalidation.getStrategyId(), cached -> version == null
+                || cached.getUpdatedAt() == null
+                || cached.getUpdatedAt().isBefore(version));
+        if (invalidation.getUserId() != null) {
+            byUser.evictNear(invalidation.getUserId(), cached -> true);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.sudheer.robinhood.strategy.cache;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class StrategyCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer strategyCacheListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                         StrategyCache strategyCache,
+                                                                         StrategyCacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(strategyCache, new ChannelTopic(properties.getInvalidationChannel()));
+        return container;
+    }
+}
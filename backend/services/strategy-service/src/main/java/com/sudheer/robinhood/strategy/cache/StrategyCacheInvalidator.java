@@ -0,0 +1,105 @@
+package com.sudheer.robinhood.strategy.cache;
+
+import com.sudheer.robinhood.strategy.model.Strategy;
+import com.sudheer.robinhood.strategy.model.StrategyAllocation;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Hooks Hibernate's post-commit events for strategies and allocations and
+ * invalidates {@link StrategyCache}. Only JPA writes are seen; rows changed with
+ * plain SQL are picked up when the near and Redis TTLs expire.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StrategyCacheInvalidator implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final StrategyCache strategyCache;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> type = persister.getMappedClass();
+        return type == Strategy.class || type == StrategyAllocation.class;
+    }
+
+    private void invalidate(Object entity) {
+        try {
+            if (entity instanceof Strategy strategy) {
+                strategyCache.invalidate(new StrategyInvalidation(strategy.getId(), strategy.getUserId(),
+                        strategy.getUpdatedAt()));
+            } else if (entity instanceof StrategyAllocation allocation && allocation.getStrategy() != null) {
+                // Allocation writes do not touch strategies.updated_at, so the eviction is unconditional
+                Strategy strategy = allocation.getStrategy();
+                Long userId = Hibernate.isInitialized(strategy) ? strategy.getUserId() : findUserId(strategy.getId());
+                strategyCache.invalidate(new StrategyInvalidation(strategy.getId(), userId, null));
+            }
+        } catch (RuntimeException e) {
+            // The write has already committed; a failed eviction must not surface as a failed request
+            log.warn("Cache invalidation failed: {}", e.getMessage());
+        }
+    }
+
+    private Long findUserId(Long strategyId) {
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "SELECT user_id FROM strategies.strategies WHERE id = ?", Long.class, strategyId);
+        return userIds.isEmpty() ? null : userIds.get(0);
+    }
+}
@@ -0,0 +1,32 @@
+package com.sudheer.robinhood.strategy.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "strategy.cache")
+public class StrategyCacheProperties {
+
+    /**
+     * Maximum entries held in each in-process near cache before the least useful are evicted.
+     */
+    private long nearMaxSize = 10_000;
+
+    /**
+     * Upper bound on how stale a near entry can get if an invalidation message is lost.
+     */
+    private Duration nearTtl = Duration.ofMinutes(5);
+
+    private Duration redisTtl = Duration.ofMinutes(30);
+
+    private String keyPrefix = "strategy-service:";
+
+    /**
+     * Redis pub/sub channel that carries invalidations to every node's near cache.
+     */
+    private String invalidationChannel = "strategy-service.cache.invalidate";
+}
@@ -0,0 +1,21 @@
+package com.sudheer.robinhood.strategy.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published on the invalidation channel after a strategy or one of its
+ * allocations is written. updatedAt is the strategy's audited modification
+ * time; a near entry at that version or newer is already current and is kept.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StrategyInvalidation {
+    private Long strategyId;
+    private Long userId;
+    private LocalDateTime updatedAt;
+}
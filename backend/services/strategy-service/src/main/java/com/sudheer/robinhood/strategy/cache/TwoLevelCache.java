@@ -0,0 +1,180 @@
+package com.sudheer.robinhood.strategy.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Read-through cache keyed by a long id: a size-bounded Caffeine near cache in
+ * front of Redis in front of the loader.
+ *
+ * Concurrent misses on one key in a node share a single load. Redis is best
+ * effort; if it is down, reads fall through to the loader and are still held in
+ * the near cache. Near stats are exported as cache.gets/cache.evictions tagged
+ * with the cache name, Redis lookups as strategy.cache.redis{result}.
+ *
+ * Each key has a generation counter in Redis next to the value. An eviction
+ * bumps it, and a loader writes its result back only if the generation is
+ * still the one it read before loading. A loader that read the row before a
+ * write therefore cannot put the old value back after the writer's eviction.
+ */
+@Slf4j
+public class TwoLevelCache<V> {
+
+    // KEYS: value, generation. ARGV: generation read before loading, value, TTL millis
+    private static final RedisScript<Long> WRITE_IF_GENERATION = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS: value, generation. ARGV: generation TTL millis
+    private static final RedisScript<Long> EVICT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            local generation = redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return generation
+            """, Long.class);
+
+    private final String name;
+    private final String keyPrefix;
+    private final JavaType valueType;
+    private final Duration redisTtl;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, V> near;
+
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisErrors;
+
+    public TwoLevelCache(String name, JavaType valueType, StrategyCacheProperties properties,
+                         StringRedisTemplate redisTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.keyPrefix = properties.getKeyPrefix() + name + ":";
+        this.valueType = valueType;
+        this.redisTtl = properties.getRedisTtl();
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.near = Caffeine.newBuilder()
+                .maximumSize(properties.getNearMaxSize())
+                .expireAfterWrite(properties.getNearTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, near, name);
+        this.redisHits = redisCounter(meterRegistry, "hit");
+        this.redisMisses = redisCounter(meterRegistry, "miss");
+        this.redisErrors = redisCounter(meterRegistry, "error");
+    }
+
+    public V get(long key, Function<Long, V> loader) {
+        return near.get(key, k -> {
+            List<String> entry = readRedis(k);
+            V cached = entry != null ? parse(k, entry.get(0)) : null;
+            if (cached != null) {
+                return cached;
+            }
+            // Read before loading, so a write committed during the load fails the write-back
+            String generation = entry != null && entry.get(1) != null ? entry.get(1) : "0";
+            V loaded = loader.apply(k);
+            writeRedis(k, generation, loaded);
+            return loaded;
+        });
+    }
+
+    /**
+     * Drops the key from Redis and from this node's near cache, and bumps its
+     * generation so that loads already in flight do not write back.
+     */
+    public void evict(long key) {
+        near.invalidate(key);
+        try {
+            // The generation outlives any value written before it was bumped
+            redisTemplate.execute(EVICT, keys(key), String.valueOf(redisTtl.toMillis()));
+        } catch (RuntimeException e) {
+            redisErrors.increment();
+            log.warn("Failed to evict {} {} from Redis: {}", name, key, e.getMessage());
+        }
+    }
+
+    /**
+     * Drops the key from this node's near cache only if the cached value matches,
+     * e.g. when it is older than the version being invalidated.
+     */
+    public void evictNear(long key, Predicate<V> stale) {
+        near.asMap().computeIfPresent(key, (k, value) -> stale.test(value) ? null : value);
+    }
+
+    /**
+     * The value and generation in one round trip; null if Redis is unavailable.
+     */
+    private List<String> readRedis(long key) {
+        try {
+            List<String> entry = redisTemplate.opsForValue().multiGet(keys(key));
+            return entry != null && entry.size() == 2 ? entry : null;
+        } catch (RuntimeException e) {
+            redisErrors.increment();
+            log.debug("Redis read for {} {} failed: {}", name, key, e.getMessage());
+            return null;
+        }
+    }
+
+    private V parse(long key, String json) {
+        if (json == null) {
+            redisMisses.increment();
+            return null;
+        }
+        try {
+            V value = objectMapper.readValue(json, valueType);
+            redisHits.increment();
+            return value;
+        } catch (JsonProcessingException e) {
+            // Written by an incompatible version; reload and overwrite it
+            redisMisses.increment();
+            log.debug("Unreadable {} {} in Redis: {}", name, key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(long key, String generation, V value) {
+        try {
+            redisTemplate.execute(WRITE_IF_GENERATION, keys(key), generation,
+                    objectMapper.writeValueAsString(value), String.valueOf(redisTtl.toMillis()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + name + " " + key, e);
+        } catch (RuntimeException e) {
+            redisErrors.increment();
+            log.debug("Redis write for {} {} failed: {}", name, key, e.getMessage());
+        }
+    }
+
+    // The hash tag keeps a value and its generation in one slot on Redis Cluster
+    private List<String> keys(long key) {
+        String value = keyPrefix + "{" + key + "}";
+        return List.of(value, value + ":gen");
+    }
+
+    private Counter redisCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("strategy.cache.redis")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
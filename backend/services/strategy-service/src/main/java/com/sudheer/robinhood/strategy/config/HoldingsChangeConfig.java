@@ -0,0 +1,23 @@
+package com.sudheer.robinhood.strategy.config;
+
+import com.sudheer.robinhood.strategy.marketdata.QuoteProperties;
+import com.sudheer.robinhood.strategy.service.MarkToMarketService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class HoldingsChangeConfig {
+
+    @Bean
+    public RedisMessageListenerContainer holdingsChangeListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                         MarkToMarketService markToMarketService,
+                                                                         QuoteProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(markToMarketService, new ChannelTopic(properties.getHoldingsChangedChannel()));
+        return container;
+    }
+}
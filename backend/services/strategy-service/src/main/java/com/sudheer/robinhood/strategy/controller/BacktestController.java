@@ -0,0 +1,62 @@
+package com.sudheer.robinhood.strategy.controller;
+
+import com.sudheer.robinhood.strategy.dto.BacktestRequest;
+import com.sudheer.robinhood.strategy.dto.BacktestResponse;
+import com.sudheer.robinhood.strategy.dto.SweepRequest;
+import com.sudheer.robinhood.strategy.dto.SweepResponse;
+import com.sudheer.robinhood.strategy.service.BacktestService;
+import com.sudheer.robinhood.strategy.service.SweepRejectedException;
+import com.sudheer.robinhood.strategy.service.SweepService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class BacktestController {
+
+    private final BacktestService backtestService;
+    private final SweepService sweepService;
+
+    @PostMapping("/strategies/{strategyId}/backtest")
+    public ResponseEntity<BacktestResponse> submitBacktest(@PathVariable Long strategyId,
+                                                           @Valid @RequestBody BacktestRequest request) {
+        BacktestResponse response = backtestService.submitBacktest(strategyId, request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @PostMapping("/strategies/{strategyId}/backtest/sweep")
+    public ResponseEntity<SweepResponse> runSweep(@PathVariable Long strategyId,
+                                                  @Valid @RequestBody SweepRequest request) {
+        return ResponseEntity.ok(sweepService.runSweep(strategyId, request));
+    }
+
+    @GetMapping("/strategies/{strategyId}/backtests")
+    public ResponseEntity<List<BacktestResponse>> getBacktests(@PathVariable Long strategyId) {
+        return ResponseEntity.ok(backtestService.getBacktestsForStrategy(strategyId));
+    }
+
+    @GetMapping("/backtests/{backtestId}")
+    public ResponseEntity<BacktestResponse> getBacktest(@PathVariable Long backtestId) {
+        return ResponseEntity.ok(backtestService.getBacktest(backtestId));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(SweepRejectedException.class)
+    public ResponseEntity<Map<String, String>> sweepRejected(SweepRejectedException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(Map.of("error", e.getMessage()));
+    }
+}
@@ -0,0 +1,29 @@
+package com.sudheer.robinhood.strategy.controller;
+
+import com.sudheer.robinhood.strategy.dashboard.DashboardAggregator;
+import com.sudheer.robinhood.strategy.dto.DashboardResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class DashboardController {
+
+    private final DashboardAggregator dashboardAggregator;
+
+    /**
+     * User, recommendations for riskScore and strategies in one response.
+     * Sections that fail are null and listed in errors, with a 200.
+     */
+    @GetMapping("/users/{userId}/dashboard")
+    public ResponseEntity<DashboardResponse> getDashboard(
+            @PathVariable Long userId,
+            @RequestParam(required = false, defaultValue = "50") Integer riskScore,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        return ResponseEntity.ok(dashboardAggregator.getDashboard(userId, riskScore, authorization));
+    }
+}
@@ -0,0 +1,68 @@
+package com.sudheer.robinhood.strategy.controller;
+
+import com.sudheer.robinhood.strategy.dto.PriceImportResponse;
+import com.sudheer.robinhood.strategy.dto.SignalScanResponse;
+import com.sudheer.robinhood.strategy.marketdata.BarColumns;
+import com.sudheer.robinhood.strategy.marketdata.MappedPriceHistoryStore;
+import com.sudheer.robinhood.strategy.marketdata.PriceCsvImporter;
+import com.sudheer.robinhood.strategy.signals.SignalEngine;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/market-data")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class MarketDataController {
+
+    private final MappedPriceHistoryStore priceStore;
+    private final PriceCsvImporter csvImporter;
+    private final SignalEngine signalEngine;
+
+    @PostMapping(value = "/{symbol}/bars", consumes = "text/csv")
+    public ResponseEntity<PriceImportResponse> importBars(@PathVariable String symbol,
+                                                          HttpServletRequest request) throws IOException {
+        String normalized = symbol.toUpperCase(Locale.ROOT);
+        PriceImportResponse response;
+        try (Reader reader = new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8)) {
+            response = csvImporter.importCsv(normalized, reader);
+        }
+        if (response.getBarsAppended() > 0) {
+            signalEngine.scanInBackground(List.of(normalized));
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Runs the signal engine over every symbol's new bars now, instead of waiting for the nightly scan.
+     */
+    @PostMapping("/signals/scan")
+    public ResponseEntity<SignalScanResponse> scanSignals() {
+        return ResponseEntity.ok(signalEngine.scanAll());
+    }
+
+    @GetMapping("/{symbol}")
+    public ResponseEntity<Map<String, Object>> getSummary(@PathVariable String symbol) {
+        BarColumns columns = priceStore.getColumns(symbol.toUpperCase(Locale.ROOT))
+                .orElseThrow(() -> new RuntimeException("No price history for " + symbol));
+        if (columns.getCount() == 0) {
+            return ResponseEntity.ok(Map.of("symbol", columns.getSymbol(), "bars", 0));
+        }
+        return ResponseEntity.ok(Map.of(
+                "symbol", columns.getSymbol(),
+                "bars", columns.getCount(),
+                "firstDate", LocalDate.ofEpochDay(columns.getEpochDays().get(0)),
+                "lastDate", LocalDate.ofEpochDay(columns.lastEpochDay())));
+    }
+}
@@ -0,0 +1,36 @@
+package com.sudheer.robinhood.strategy.controller;
+
+import com.sudheer.robinhood.strategy.dto.PerformanceResponse;
+import com.sudheer.robinhood.strategy.dto.PerformanceRollupResponse;
+import com.sudheer.robinhood.strategy.service.PerformanceRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class PerformanceController {
+
+    private final PerformanceRollupService performanceRollupService;
+
+    @GetMapping("/strategies/{strategyId}/performance")
+    public ResponseEntity<List<PerformanceResponse>> getPerformance(@PathVariable Long strategyId) {
+        return ResponseEntity.ok(performanceRollupService.getPerformance(strategyId));
+    }
+
+    @PostMapping("/performance/rollup")
+    public ResponseEntity<PerformanceRollupResponse> rollup(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        // 409 while another node's rollup is running
+        return performanceRollupService.rollupExclusively(asOf != null ? asOf : LocalDate.now())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+}
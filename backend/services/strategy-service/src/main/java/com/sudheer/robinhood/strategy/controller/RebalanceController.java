@@ -0,0 +1,23 @@
+package com.sudheer.robinhood.strategy.controller;
+
+import com.sudheer.robinhood.strategy.dto.RebalanceRunResponse;
+import com.sudheer.robinhood.strategy.model.Strategy.RebalanceFrequency;
+import com.sudheer.robinhood.strategy.service.RebalancePlanningService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/rebalance")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class RebalanceController {
+
+    private final RebalancePlanningService rebalancePlanningService;
+
+    @PostMapping("/plan")
+    public ResponseEntity<RebalanceRunResponse> plan(
+            @RequestParam(required = false, defaultValue = "DAILY") RebalanceFrequency frequency) {
+        return ResponseEntity.ok(rebalancePlanningService.plan(frequency));
+    }
+}
@@ -0,0 +1,38 @@
+package com.sudheer.robinhood.strategy.controller;
+
+import com.sudheer.robinhood.strategy.dto.ActOnRecommendationsRequest;
+import com.sudheer.robinhood.strategy.dto.ActOnRecommendationsResponse;
+import com.sudheer.robinhood.strategy.dto.RecommendationFeedResponse;
+import com.sudheer.robinhood.strategy.service.RecommendationFeedService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/users/{userId}/recommendations")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class RecommendationController {
+
+    private final RecommendationFeedService feedService;
+
+    /**
+     * One page of the feed, newest first. Pass nextCursor back as cursor for the following page.
+     */
+    @GetMapping
+    public ResponseEntity<RecommendationFeedResponse> getFeed(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false, defaultValue = "false") boolean includeExpired) {
+        return ResponseEntity.ok(feedService.getFeed(userId, cursor, limit, includeExpired));
+    }
+
+    @PostMapping("/acted-upon")
+    public ResponseEntity<ActOnRecommendationsResponse> actUpon(
+            @PathVariable Long userId,
+            @Valid @RequestBody ActOnRecommendationsRequest request) {
+        return ResponseEntity.ok(feedService.actUpon(userId, request.getRecommendationIds()));
+    }
+}
@@ -0,0 +1,43 @@
+package com.sudheer.robinhood.strategy.controller;
+
+import com.sudheer.robinhood.strategy.dto.OptimizeAllocationRequest;
+import com.sudheer.robinhood.strategy.dto.OptimizeAllocationResponse;
+import com.sudheer.robinhood.strategy.dto.StrategyResponse;
+import com.sudheer.robinhood.strategy.optimizer.AllocationOptimizer;
+import com.sudheer.robinhood.strategy.service.StrategyQueryService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class StrategyController {
+
+    private final StrategyQueryService strategyQueryService;
+    private final AllocationOptimizer allocationOptimizer;
+
+    @GetMapping("/strategies/{strategyId}")
+    public ResponseEntity<StrategyResponse> getStrategy(@PathVariable Long strategyId) {
+        return ResponseEntity.ok(strategyQueryService.getStrategy(strategyId));
+    }
+
+    @GetMapping("/users/{userId}/strategies")
+    public ResponseEntity<List<StrategyResponse>> getStrategiesForUser(@PathVariable Long userId) {
+        return ResponseEntity.ok(strategyQueryService.getStrategiesForUser(userId));
+    }
+
+    /**
+     * Mean-variance allocation targets for the symbols at the given risk level,
+     * ready to save as the strategy's allocations.
+     */
+    @PostMapping("/strategies/allocations/optimize")
+    public ResponseEntity<OptimizeAllocationResponse> optimizeAllocations(
+            @Valid @RequestBody OptimizeAllocationRequest request) {
+        return ResponseEntity.ok(allocationOptimizer.optimize(request));
+    }
+}
@@ -0,0 +1,27 @@
+package com.sudheer.robinhood.strategy.controller;
+
+import com.sudheer.robinhood.strategy.dto.PortfolioValuationResponse;
+import com.sudheer.robinhood.strategy.dto.QuoteResponse;
+import com.sudheer.robinhood.strategy.service.MarkToMarketService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ValuationController {
+
+    private final MarkToMarketService markToMarketService;
+
+    @GetMapping("/quotes/{symbol}")
+    public ResponseEntity<QuoteResponse> getQuote(@PathVariable String symbol) {
+        return ResponseEntity.ok(markToMarketService.getQuote(symbol.toUpperCase()));
+    }
+
+    @GetMapping("/portfolios/{portfolioId}/valuation")
+    public ResponseEntity<PortfolioValuationResponse> getValuation(@PathVariable Long portfolioId) {
+        return ResponseEntity.ok(markToMarketService.getValuation(portfolioId));
+    }
+}
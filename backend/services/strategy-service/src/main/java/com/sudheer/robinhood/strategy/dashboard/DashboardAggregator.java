@@ -0,0 +1,214 @@
+package com.sudheer.robinhood.strategy.dashboard;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sudheer.robinhood.strategy.dto.DashboardResponse;
+import com.sudheer.robinhood.strategy.dto.StrategyResponse;
+import com.sudheer.robinhood.strategy.service.StrategyQueryService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Builds the dashboard in one server-side pass, so a client on a slow network
+ * pays one round trip instead of one per service.
+ *
+ * The user (auth-service), recommendations (user-profiling-service) and
+ * strategies (local) are forked together and joined against their own
+ * deadlines, all measured from the start of the request. A section that
+ * fails or runs late is reported in errors and the rest are returned. The
+ * forks never outlive the request: whatever is still running when the
+ * response is built is cancelled, which also aborts its HTTP call.
+ */
+@Component
+@Slf4j
+public class DashboardAggregator implements DisposableBean {
+
+    private final StrategyQueryService strategyQueryService;
+    private final RestClient authClient;
+    private final RestClient profilingClient;
+    private final AsyncTaskExecutor executor;
+    private final long userTimeoutNanos;
+    private final long recommendationsTimeoutNanos;
+    private final long strategiesTimeoutNanos;
+
+    private final MeterRegistry meterRegistry;
+    private final Timer aggregateTimer;
+
+    public DashboardAggregator(StrategyQueryService strategyQueryService, DashboardProperties properties,
+                               MeterRegistry meterRegistry,
+                               @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.strategyQueryService = strategyQueryService;
+        this.userTimeoutNanos = properties.getUserTimeout().toNanos();
+        this.recommendationsTimeoutNanos = properties.getRecommendationsTimeout().toNanos();
+        this.strategiesTimeoutNanos = properties.getStrategiesTimeout().toNanos();
+        this.meterRegistry = meterRegistry;
+        this.aggregateTimer = Timer.builder("dashboard.aggregate")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+
+        this.executor = virtualThreads ? virtualExecutor() : pooledExecutor(properties);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        this.authClient = restClient(httpClient, properties.getAuthServiceUrl(), properties.getUserTimeout());
+        this.profilingClient = restClient(httpClient, properties.getProfilingServiceUrl(),
+                properties.getRecommendationsTimeout());
+    }
+
+    private static RestClient restClient(HttpClient httpClient, String baseUrl, Duration readTimeout) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    private static AsyncTaskExecutor virtualExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("dashboard-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    private static AsyncTaskExecutor pooledExecutor(DashboardProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setCorePoolSize(properties.getThreads());
+        executor.setMaxPoolSize(properties.getThreads());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setDaemon(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * authorization is the caller's Authorization header, forwarded as is to
+     * the other services; null if the caller sent none.
+     */
+    public DashboardResponse getDashboard(Long userId, int riskScore, String authorization) {
+        long started = System.nanoTime();
+        Fork<DashboardResponse.User> user = fork("user", userTimeoutNanos, () -> authClient.get()
+                .uri("/api/v1/auth/users/{userId}", userId)
+                .headers(headers -> forward(headers, authorization))
+                .retrieve()
+                .body(DashboardResponse.User.class));
+        Fork<JsonNode> recommendations = fork("recommendations", recommendationsTimeoutNanos, () -> profilingClient.get()
+                .uri("/api/v1/profiling/recommendations?riskScore={riskScore}", riskScore)
+                .headers(headers -> forward(headers, authorization))
+                .retrieve()
+                .body(JsonNode.class));
+        Fork<List<StrategyResponse>> strategies = fork("strategies", strategiesTimeoutNanos,
+                () -> strategyQueryService.getStrategiesForUser(userId));
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        try {
+            DashboardResponse response = DashboardResponse.builder()
+                    .userId(userId)
+                    .user(user.join(started, errors))
+                    .recommendations(recommendations.join(started, errors))
+                    .strategies(strategies.join(started, errors))
+                    .partial(!errors.isEmpty())
+                    .errors(errors)
+                    .build();
+            long elapsed = System.nanoTime() - started;
+            response.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsed));
+            aggregateTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            return response;
+        } finally {
+            user.cancel();
+            recommendations.cancel();
+            strategies.cancel();
+        }
+    }
+
+    private static void forward(HttpHeaders headers, String authorization) {
+        if (authorization != null) {
+            headers.set(HttpHeaders.AUTHORIZATION, authorization);
+        }
+    }
+
+    private <T> Fork<T> fork(String section, long timeoutNanos, Callable<T> work) {
+        Future<T> future;
+        try {
+            future = executor.submit(work);
+        } catch (RuntimeException e) {
+            // Fan-out pool saturated: report the section as failed rather than queue behind others
+            future = CompletableFuture.failedFuture(e);
+        }
+        return new Fork<>(section, timeoutNanos, future);
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        } else if (executor instanceof SimpleAsyncTaskExecutor simple) {
+            simple.close();
+        }
+    }
+
+    private final class Fork<T> {
+        private final String section;
+        private final long timeoutNanos;
+        private final Future<T> future;
+
+        private Fork(String section, long timeoutNanos, Future<T> future) {
+            this.section = section;
+            this.timeoutNanos = timeoutNanos;
+            this.future = future;
+        }
+
+        private T join(long started, Map<String, String> errors) {
+            long remaining = started + timeoutNanos - System.nanoTime();
+            try {
+                T value = future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+                outcome("ok").increment();
+                return value;
+            } catch (TimeoutException e) {
+                outcome("timeout").increment();
+                errors.put(section, "timed out");
+            } catch (ExecutionException | CancellationException e) {
+                Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+                outcome("error").increment();
+                errors.put(section, "unavailable");
+                log.warn("Dashboard section {} failed: {}", section, cause.toString());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                outcome("error").increment();
+                errors.put(section, "interrupted");
+            }
+            return null;
+        }
+
+        private void cancel() {
+            future.cancel(true);
+        }
+
+        private Counter outcome(String result) {
+            return meterRegistry.counter("dashboard.section", "section", section, "result", result);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.sudheer.robinhood.strategy.dashboard;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "strategy.dashboard")
+public class DashboardProperties {
+
+    private String authServiceUrl = "http://localhost:8081";
+
+    private String profilingServiceUrl = "http://localhost:8082";
+
+    private Duration connectTimeout = Duration.ofMillis(300);
+
+    /**
+     * Per-section budgets, all counted from the start of the request. A
+     * section that misses its budget is left out of the payload.
+     */
+    private Duration userTimeout = Duration.ofMillis(500);
+
+    private Duration recommendationsTimeout = Duration.ofMillis(500);
+
+    private Duration strategiesTimeout = Duration.ofMillis(800);
+
+    /**
+     * Platform threads for the fan-out; with virtual threads enabled each
+     * section gets its own virtual thread instead.
+     */
+    private int threads = 32;
+
+    private int queueCapacity = 256;
+}
@@ -0,0 +1,18 @@
+package com.sudheer.robinhood.strategy.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActOnRecommendationsRequest {
+    @NotEmpty
+    private List<Long> recommendationIds;
+}
@@ -0,0 +1,16 @@
+package com.sudheer.robinhood.strategy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActOnRecommendationsResponse {
+    private Integer requested;
+    // Ids that were not the user's, had expired or were already acted upon are not counted
+    private Integer updated;
+}
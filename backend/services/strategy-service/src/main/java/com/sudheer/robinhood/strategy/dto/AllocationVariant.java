@@ -0,0 +1,31 @@
+package com.sudheer.robinhood.strategy.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AllocationVariant {
+
+    @NotBlank(message = "Symbol is required")
+    private String symbol;
+
+    @NotNull(message = "Target percentage is required")
+    @DecimalMin("0.0")
+    @DecimalMax("100.0")
+    private BigDecimal targetPercentage;
+
+    private BigDecimal minPercentage;
+
+    private BigDecimal maxPercentage;
+}
@@ -0,0 +1,32 @@
+package com.sudheer.robinhood.strategy.dto;
+
+import com.sudheer.robinhood.strategy.model.Backtest.BacktestStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacktestResponse {
+    private Long backtestId;
+    private Long strategyId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private BigDecimal initialCapital;
+    private BigDecimal finalCapital;
+    private BigDecimal totalReturn;
+    private BigDecimal sharpeRatio;
+    private BigDecimal maxDrawdown;
+    private Integer totalTrades;
+    private Integer winningTrades;
+    private BacktestStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,42 @@
+package com.sudheer.robinhood.strategy.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the dashboard page needs in one payload. A section that failed
+ * or timed out is null and named in errors; the rest are still filled in.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardResponse {
+    private Long userId;
+    private User user;
+    // Passed through as served by user-profiling-service
+    private JsonNode recommendations;
+    private List<StrategyResponse> strategies;
+    private Boolean partial;
+    private Map<String, String> errors;
+    private Long elapsedMillis;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class User {
+        private Long userId;
+        private String username;
+        private String email;
+        private String firstName;
+        private String lastName;
+    }
+}
@@ -0,0 +1,53 @@
+package com.sudheer.robinhood.strategy.dto;
+
+import com.sudheer.robinhood.strategy.model.Strategy.RiskLevel;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Symbol universe to optimize over, with optional per-symbol bounds in percent.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OptimizeAllocationRequest {
+
+    @NotNull(message = "Risk level is required")
+    private RiskLevel riskLevel;
+
+    @NotEmpty(message = "At least one symbol is required")
+    private List<@Valid SymbolBounds> symbols;
+
+    private LocalDate asOf; // last day of price history used; defaults to today
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SymbolBounds {
+
+        @NotBlank(message = "Symbol is required")
+        private String symbol;
+
+        @DecimalMin("0.0")
+        @DecimalMax("100.0")
+        private BigDecimal minPercentage;
+
+        @DecimalMin("0.0")
+        @DecimalMax("100.0")
+        private BigDecimal maxPercentage;
+    }
+}
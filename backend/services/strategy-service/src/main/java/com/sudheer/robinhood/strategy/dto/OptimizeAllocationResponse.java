@@ -0,0 +1,29 @@
+package com.sudheer.robinhood.strategy.dto;
+
+import com.sudheer.robinhood.strategy.model.Strategy.RiskLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OptimizeAllocationResponse {
+    private RiskLevel riskLevel;
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private Integer observations; // daily returns the covariance was estimated from
+    private BigDecimal expectedReturn; // annualized, percent
+    private BigDecimal volatility; // annualized, percent
+    private BigDecimal shrinkage; // weight of the identity target in the covariance estimate
+    private Integer iterations;
+    // Target percentages sum to exactly 100.00; symbols weighted 0 are left out
+    private List<StrategyResponse.Allocation> allocations;
+    private Long elapsedMillis;
+}
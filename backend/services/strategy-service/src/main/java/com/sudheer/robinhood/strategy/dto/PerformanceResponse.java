@@ -0,0 +1,27 @@
+package com.sudheer.robinhood.strategy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PerformanceResponse {
+    private Long strategyId;
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private BigDecimal totalReturn;
+    private BigDecimal annualizedReturn;
+    private BigDecimal volatility;
+    private BigDecimal sharpeRatio;
+    private BigDecimal maxDrawdown;
+    private BigDecimal winRate;
+    private LocalDateTime calculatedAt;
+}
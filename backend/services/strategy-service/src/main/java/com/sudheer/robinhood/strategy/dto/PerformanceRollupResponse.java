@@ -0,0 +1,20 @@
+package com.sudheer.robinhood.strategy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PerformanceRollupResponse {
+    private LocalDate asOf;
+    private Integer strategiesScanned;
+    private Integer strategiesUpdated;
+    private Integer strategiesFailed;
+    private Long elapsedMillis;
+}
@@ -0,0 +1,24 @@
+package com.sudheer.robinhood.strategy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlannedTrade {
+    private String symbol;
+    private Side side;
+    private BigDecimal quantity;
+    private BigDecimal estimatedPrice;
+
+    public enum Side {
+        BUY,
+        SELL
+    }
+}
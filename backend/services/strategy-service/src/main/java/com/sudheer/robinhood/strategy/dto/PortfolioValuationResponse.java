@@ -0,0 +1,41 @@
+package com.sudheer.robinhood.strategy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioValuationResponse {
+    private Long portfolioId;
+    private BigDecimal cashBalance;
+    private BigDecimal marketValue;
+    private BigDecimal totalValue;
+    private BigDecimal costBasis;
+    private BigDecimal unrealizedGainLoss;
+    private BigDecimal unrealizedGainLossPercentage;
+    private Instant valuedAt;
+    private List<Holding> holdings;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Holding {
+        private String symbol;
+        private BigDecimal quantity;
+        private BigDecimal averageCost;
+        private BigDecimal currentPrice;
+        private BigDecimal currentValue;
+        private BigDecimal unrealizedGainLoss;
+        private BigDecimal unrealizedGainLossPercentage;
+        private Instant priceUpdatedAt;
+    }
+}
@@ -0,0 +1,18 @@
+package com.sudheer.robinhood.strategy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceImportResponse {
+    private String symbol;
+    private Long rowsRead;
+    private Long barsAppended;
+    private Long rowsSkipped;
+    private Long rowsOutOfOrder;
+}
@@ -0,0 +1,19 @@
+package com.sudheer.robinhood.strategy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RebalancePlan {
+    private Long rebalancingEventId;
+    private Long portfolioId;
+    private Long strategyId;
+    private List<PlannedTrade> trades;
+}
@@ -0,0 +1,19 @@
+package com.sudheer.robinhood.strategy.dto;
+
+import com.sudheer.robinhood.strategy.model.Strategy.RebalanceFrequency;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RebalanceRunResponse {
+    private RebalanceFrequency frequency;
+    private Long portfoliosScanned;
+    private Long portfoliosDrifted;
+    private Long tradesPlanned;
+    private Long elapsedMillis;
+}
@@ -0,0 +1,18 @@
+package com.sudheer.robinhood.strategy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendationFeedResponse {
+    private List<RecommendationResponse> recommendations;
+    // Pass back as cursor for the next page; null on the last page
+    private String nextCursor;
+}
@@ -0,0 +1,26 @@
+package com.sudheer.robinhood.strategy.dto;
+
+import com.sudheer.robinhood.strategy.model.Recommendation.RecommendationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendationResponse {
+    private Long id;
+    private Long strategyId;
+    private RecommendationType recommendationType;
+    private String symbol;
+    private BigDecimal confidenceScore;
+    private String reasoning;
+    private Boolean isActedUpon;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+}
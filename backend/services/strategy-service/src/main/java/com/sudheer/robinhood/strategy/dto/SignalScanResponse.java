@@ -0,0 +1,18 @@
+package com.sudheer.robinhood.strategy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SignalScanResponse {
+    private Integer symbolsScanned;
+    private Long barsProcessed;
+    private Integer signals;
+    private Integer recommendationsCreated;
+    private Long elapsedMillis;
+}
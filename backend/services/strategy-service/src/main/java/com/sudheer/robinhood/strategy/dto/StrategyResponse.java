@@ -0,0 +1,45 @@
+package com.sudheer.robinhood.strategy.dto;
+
+import com.sudheer.robinhood.strategy.model.Strategy.RebalanceFrequency;
+import com.sudheer.robinhood.strategy.model.Strategy.RiskLevel;
+import com.sudheer.robinhood.strategy.model.Strategy.StrategyType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StrategyResponse {
+    private Long strategyId;
+    private Long userId;
+    private String name;
+    private String description;
+    private StrategyType strategyType;
+    private Boolean isActive;
+    private Boolean isPublic;
+    private RiskLevel riskLevel;
+    private BigDecimal targetReturn;
+    private BigDecimal maxDrawdown;
+    private RebalanceFrequency rebalanceFrequency;
+    private List<Allocation> allocations;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Allocation {
+        private String symbol;
+        private BigDecimal targetPercentage;
+        private BigDecimal minPercentage;
+        private BigDecimal maxPercentage;
+    }
+}
@@ -0,0 +1,53 @@
+package com.sudheer.robinhood.strategy.dto;
+
+import com.sudheer.robinhood.strategy.model.Strategy.RebalanceFrequency;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Grid of backtest variants for one strategy: every allocation set is run
+ * with every rebalance frequency. Either axis defaults to the strategy's own value.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SweepRequest {
+
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+
+    @NotNull(message = "End date is required")
+    private LocalDate endDate;
+
+    @NotNull(message = "Initial capital is required")
+    @DecimalMin(value = "1.00", message = "Initial capital must be at least 1.00")
+    private BigDecimal initialCapital;
+
+    private List<@Valid List<@Valid AllocationVariant>> allocationSets;
+
+    private List<RebalanceFrequency> rebalanceFrequencies;
+
+    @Builder.Default
+    private RankBy rankBy = RankBy.SHARPE_RATIO;
+
+    @Min(1)
+    @Builder.Default
+    private Integer limit = 20;
+
+    public enum RankBy {
+        SHARPE_RATIO, // Highest first
+        MAX_DRAWDOWN, // Shallowest first
+        TOTAL_RETURN // Highest first
+    }
+}
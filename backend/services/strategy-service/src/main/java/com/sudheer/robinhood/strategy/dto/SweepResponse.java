@@ -0,0 +1,39 @@
+package com.sudheer.robinhood.strategy.dto;
+
+import com.sudheer.robinhood.strategy.dto.SweepRequest.RankBy;
+import com.sudheer.robinhood.strategy.model.Strategy.RebalanceFrequency;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SweepResponse {
+    private Long strategyId;
+    private Integer variantsEvaluated;
+    private RankBy rankBy;
+    private Long elapsedMillis;
+    private List<Entry> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private Integer rank;
+        private List<AllocationVariant> allocations;
+        private RebalanceFrequency rebalanceFrequency;
+        private BigDecimal finalCapital;
+        private BigDecimal totalReturn;
+        private BigDecimal sharpeRatio;
+        private BigDecimal maxDrawdown;
+        private Integer totalTrades;
+        private Integer winningTrades;
+    }
+}
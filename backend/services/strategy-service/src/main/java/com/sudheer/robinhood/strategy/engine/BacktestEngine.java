@@ -0,0 +1,156 @@
+package com.sudheer.robinhood.strategy.engine;
+
+import com.sudheer.robinhood.strategy.model.Strategy.RebalanceFrequency;
+import org.springframework.stereotype.Component;
+
+/**
+ * Replays target allocations over a PriceMatrix, trading at the close.
+ *
+ * The loop touches only primitive arrays: positions, cost basis and the
+ * running return statistics live in a handful of double[]s sized by symbol
+ * count, so a run allocates nothing per bar. Stateless and thread-safe.
+ *
+ * A trade is any buy or sell fill; a winning trade is a sell above the
+ * position's average cost.
+ */
+@Component
+public class BacktestEngine {
+
+    private static final double TRADING_DAYS_PER_YEAR = 252.0;
+    private static final double MIN_TRADE_VALUE = 0.01;
+    private static final double BAND_EPSILON = 1e-9;
+
+    public BacktestResult run(PriceMatrix prices, BacktestParameters params) {
+        int n = params.symbolCount();
+        int from = params.getFromIndex();
+        int to = params.getToIndex();
+        if (from < 0 || to >= prices.dayCount() || from > to) {
+            throw new IllegalArgumentException("No trading days in the requested period");
+        }
+
+        double[][] closes = prices.getCloses();
+        int[] days = prices.getEpochDays();
+        int[] columns = params.getColumns();
+        double[] target = params.getTargetWeights();
+        double[] lower = params.getLowerBands();
+        double[] upper = params.getUpperBands();
+        RebalanceFrequency frequency = params.getRebalanceFrequency();
+
+        double[] shares = new double[n];
+        double[] avgCost = new double[n];
+        double[] price = new double[n];
+        int[] tradeCounts = new int[2]; // [total, winning]
+
+        double initial = params.getInitialCapital();
+        loadPrices(closes, columns, from, price);
+        double cash = rebalance(initial, initial, price, target, shares, avgCost, tradeCounts);
+
+        double previousEquity = initial;
+        double peak = initial;
+        double maxDrawdown = 0.0;
+        long count = 0;
+        double mean = 0.0;
+        double m2 = 0.0;
+        int previousKey = RebalanceCalendar.periodKey(days[from], frequency);
+
+        for (int t = from + 1; t <= to; t++) {
+            loadPrices(closes, columns, t, price);
+
+            double equity = cash;
+            for (int i = 0; i < n; i++) {
+                if (shares[i] != 0.0) {
+                    equity += shares[i] * price[i];
+                }
+            }
+
+            // Welford update of daily return mean/variance
+            double dailyReturn = previousEquity > 0.0 ? equity / previousEquity - 1.0 : 0.0;
+            count++;
+            double delta = dailyReturn - mean;
+            mean += delta / count;
+            m2 += delta * (dailyReturn - mean);
+
+            if (equity > peak) {
+                peak = equity;
+            } else if (peak > 0.0) {
+                maxDrawdown = Math.max(maxDrawdown, (peak - equity) / peak);
+            }
+
+            int key = RebalanceCalendar.periodKey(days[t], frequency);
+            if (key != previousKey) {
+                previousKey = key;
+                if (outsideBands(equity, price, shares, lower, upper)) {
+                    cash = rebalance(equity, cash, price, target, shares, avgCost, tradeCounts);
+                }
+            }
+            previousEquity = equity;
+        }
+
+        double sharpe = 0.0;
+        if (count > 1) {
+            double stdDev = Math.sqrt(m2 / (count - 1));
+            if (stdDev > 0.0) {
+                sharpe = mean / stdDev * Math.sqrt(TRADING_DAYS_PER_YEAR);
+            }
+        }
+
+        return new BacktestResult(
+                previousEquity,
+                (previousEquity / initial - 1.0) * 100.0,
+                sharpe,
+                maxDrawdown * 100.0,
+                tradeCounts[0],
+                tradeCounts[1],
+                to - from + 1);
+    }
+
+    private static void loadPrices(double[][] closes, int[] columns, int t, double[] price) {
+        for (int i = 0; i < columns.length; i++) {
+            price[i] = closes[columns[i]][t];
+        }
+    }
+
+    private static boolean outsideBands(double equity, double[] price, double[] shares,
+                                        double[] lower, double[] upper) {
+        if (equity <= 0.0) {
+            return false;
+        }
+        for (int i = 0; i < shares.length; i++) {
+            if (Double.isNaN(price[i])) {
+                continue;
+            }
+            double weight = shares[i] * price[i] / equity;
+            if (weight < lower[i] - BAND_EPSILON || weight > upper[i] + BAND_EPSILON) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves every tradable position to its target weight of equity and returns the new cash balance.
+     * Symbols without a price yet are skipped, leaving their share of equity in cash.
+     */
+    private static double rebalance(double equity, double cash, double[] price, double[] target,
+                                    double[] shares, double[] avgCost, int[] tradeCounts) {
+        for (int i = 0; i < shares.length; i++) {
+            double p = price[i];
+            if (Double.isNaN(p) || p <= 0.0) {
+                continue;
+            }
+            double delta = equity * target[i] / p - shares[i];
+            if (Math.abs(delta * p) < MIN_TRADE_VALUE) {
+                continue;
+            }
+            if (delta > 0.0) {
+                avgCost[i] = (avgCost[i] * shares[i] + delta * p) / (shares[i] + delta);
+            } else if (p > avgCost[i]) {
+                tradeCounts[1]++;
+            }
+            shares[i] += delta;
+            cash -= delta * p;
+            tradeCounts[0]++;
+        }
+        return cash;
+    }
+}
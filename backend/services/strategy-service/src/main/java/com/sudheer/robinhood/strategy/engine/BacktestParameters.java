@@ -0,0 +1,74 @@
+package com.sudheer.robinhood.strategy.engine;
+
+import com.sudheer.robinhood.strategy.model.Strategy.RebalanceFrequency;
+import com.sudheer.robinhood.strategy.model.StrategyAllocation;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Primitive form of a strategy's allocations for one backtest run.
+ * Weights are fractions (0.25 for 25%); column[i] points into the PriceMatrix.
+ */
+@Getter
+@Builder
+public final class BacktestParameters {
+
+    private final int[] columns;
+    private final double[] targetWeights;
+    private final double[] lowerBands;
+    private final double[] upperBands;
+    private final RebalanceFrequency rebalanceFrequency;
+    private final double initialCapital;
+    private final int fromIndex;
+    private final int toIndex;
+
+    public int symbolCount() {
+        return columns.length;
+    }
+
+    /**
+     * Converts allocation rows into weight columns. A missing min/max band
+     * collapses onto the target, so the position is reset on every scheduled rebalance.
+     */
+    public static BacktestParameters of(List<StrategyAllocation> allocations,
+                                        PriceMatrix prices,
+                                        RebalanceFrequency frequency,
+                                        double initialCapital,
+                                        int fromIndex,
+                                        int toIndex) {
+        int n = allocations.size();
+        int[] columns = new int[n];
+        double[] target = new double[n];
+        double[] lower = new double[n];
+        double[] upper = new double[n];
+
+        for (int i = 0; i < n; i++) {
+            StrategyAllocation allocation = allocations.get(i);
+            columns[i] = prices.indexOf(allocation.getSymbol());
+            if (columns[i] < 0) {
+                throw new IllegalArgumentException("No price history for " + allocation.getSymbol());
+            }
+            target[i] = fraction(allocation.getTargetPercentage(), 0.0);
+            lower[i] = fraction(allocation.getMinPercentage(), target[i]);
+            upper[i] = fraction(allocation.getMaxPercentage(), target[i]);
+        }
+
+        return BacktestParameters.builder()
+                .columns(columns)
+                .targetWeights(target)
+                .lowerBands(lower)
+                .upperBands(upper)
+                .rebalanceFrequency(frequency != null ? frequency : RebalanceFrequency.NEVER)
+                .initialCapital(initialCapital)
+                .fromIndex(fromIndex)
+                .toIndex(toIndex)
+                .build();
+    }
+
+    private static double fraction(BigDecimal percentage, double fallback) {
+        return percentage != null ? percentage.doubleValue() / 100.0 : fallback;
+    }
+}
@@ -0,0 +1,20 @@
+package com.sudheer.robinhood.strategy.engine;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of one engine run. Returns and drawdown are percentages (15.5 for 15.5%).
+ */
+@Getter
+@AllArgsConstructor
+public final class BacktestResult {
+
+    private final double finalCapital;
+    private final double totalReturn;
+    private final double sharpeRatio;
+    private final double maxDrawdown;
+    private final int totalTrades;
+    private final int winningTrades;
+    private final int tradingDays;
+}
@@ -0,0 +1,329 @@
+package com.sudheer.robinhood.strategy.engine;
+
+import lombok.Getter;
+
+/**
+ * Long-only mean-variance optimizer with per-asset bounds.
+ *
+ * Maximizes w'mu - (riskAversion / 2) w'Sigma w subject to sum(w) = 1 and
+ * lower[i] <= w[i] <= upper[i]. Sigma is the sample covariance of daily
+ * returns shrunk towards a scaled identity with the Ledoit-Wolf intensity.
+ * Without that, a universe with more symbols than observed days has a
+ * singular covariance matrix and the solution is noise.
+ *
+ * The solver is accelerated projected gradient (FISTA), with the momentum
+ * reset whenever it stops pointing downhill. Each step is one Sigma-vector
+ * product plus a projection onto the bounded simplex: the shift that makes
+ * the clipped weights sum to 1 is found by Newton steps on that piecewise
+ * linear sum, warm-started from the previous step's shift and falling back
+ * to bisection.
+ *
+ * Every array is sized when the instance is created, so the numeric work
+ * allocates nothing. An instance is not thread-safe; use one per request.
+ */
+public final class MeanVarianceOptimizer {
+
+    private static final double TRADING_DAYS = 252.0;
+    private static final int POWER_ITERATIONS = 50;
+    private static final int PROJECTION_ITERATIONS = 100;
+
+    private final int capacity;
+    private final int maxObservations;
+    private final double[] returns;      // symbol-major: returns[i * maxObservations + t]
+    private final double[] covariance;   // row-major n x n, annualized
+    private final double[] mean;         // annualized
+    private final double[] weights;
+    private final double[] previous;
+    private final double[] momentum;
+    private final double[] gradient;
+    private final double[] scratch;
+
+    private int n;
+    private int observations;
+    private double shift;
+
+    @Getter
+    private double shrinkage;
+    @Getter
+    private int iterations;
+
+    public MeanVarianceOptimizer(int capacity, int maxObservations) {
+        this.capacity = capacity;
+        this.maxObservations = maxObservations;
+        this.returns = new double[capacity * maxObservations];
+        this.covariance = new double[capacity * capacity];
+        this.mean = new double[capacity];
+        this.weights = new double[capacity];
+        this.previous = new double[capacity];
+        this.momentum = new double[capacity];
+        this.gradient = new double[capacity];
+        this.scratch = new double[capacity];
+    }
+
+    /**
+     * Loads the to - from simple daily returns between closes[symbol][from]
+     * and closes[symbol][to] inclusive, which must all be positive and finite.
+     */
+    public void loadReturns(double[][] closes, int from, int to) {
+        int symbols = closes.length;
+        int days = to - from;
+        if (symbols > capacity || days > maxObservations) {
+            throw new IllegalArgumentException("Optimizer sized for " + capacity + " symbols and "
+                    + maxObservations + " observations");
+        }
+        if (days < 2) {
+            throw new IllegalArgumentException("At least 2 daily returns are needed");
+        }
+        n = symbols;
+        observations = days;
+        for (int i = 0; i < n; i++) {
+            double[] column = closes[i];
+            int base = i * maxObservations;
+            for (int t = 0; t < days; t++) {
+                returns[base + t] = column[from + t + 1] / column[from + t] - 1.0;
+            }
+        }
+        estimate();
+    }
+
+    /**
+     * Annualized means and Ledoit-Wolf shrunk covariance of the loaded returns.
+     */
+    private void estimate() {
+        int stride = maxObservations;
+        for (int i = 0; i < n; i++) {
+            int base = i * stride;
+            double sum = 0.0;
+            for (int t = 0; t < observations; t++) {
+                sum += returns[base + t];
+            }
+            double m = sum / observations;
+            mean[i] = m * TRADING_DAYS;
+            for (int t = 0; t < observations; t++) {
+                returns[base + t] -= m;
+            }
+        }
+
+        // Sample covariance with 1/T, as the shrinkage estimate assumes
+        double frobenius = 0.0;
+        double trace = 0.0;
+        for (int i = 0; i < n; i++) {
+            int bi = i * stride;
+            for (int j = i; j < n; j++) {
+                int bj = j * stride;
+                double dot = 0.0;
+                for (int t = 0; t < observations; t++) {
+                    dot += returns[bi + t] * returns[bj + t];
+                }
+                double s = dot / observations;
+                covariance[i * n + j] = s;
+                covariance[j * n + i] = s;
+                frobenius += i == j ? s * s : 2.0 * s * s;
+            }
+            trace += covariance[i * n + i];
+        }
+
+        // Sum over days of ||x_t x_t' - S||^2 reduces to sum ||x_t||^4 - T ||S||^2
+        double fourth = 0.0;
+        for (int t = 0; t < observations; t++) {
+            double squared = 0.0;
+            for (int i = 0; i < n; i++) {
+                double x = returns[i * stride + t];
+                squared += x * x;
+            }
+            fourth += squared * squared;
+        }
+        double target = trace / n;
+        double distance = frobenius - n * target * target;
+        double spread = Math.max(0.0, (fourth - observations * frobenius) / ((double) observations * observations));
+        shrinkage = distance > 0.0 ? Math.min(1.0, spread / distance) : 1.0;
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                double s = (1.0 - shrinkage) * covariance[i * n + j];
+                if (i == j) {
+                    s += shrinkage * target;
+                }
+                covariance[i * n + j] = s * TRADING_DAYS;
+            }
+        }
+    }
+
+    /**
+     * Solves for the weights; read them with {@link #weight}. lower and upper
+     * are fractions (0.25 = 25%) and must admit a portfolio summing to 1.
+     */
+    public void solve(double riskAversion, double[] lower, double[] upper, int maxIterations, double tolerance) {
+        double lowerSum = 0.0;
+        double upperSum = 0.0;
+        for (int i = 0; i < n; i++) {
+            if (lower[i] > upper[i]) {
+                throw new IllegalArgumentException("Minimum above maximum for asset " + i);
+            }
+            lowerSum += lower[i];
+            upperSum += upper[i];
+        }
+        if (lowerSum > 1.0 + 1e-9 || upperSum < 1.0 - 1e-9) {
+            throw new IllegalArgumentException("Minimums must sum to at most 100% and maximums to at least 100%");
+        }
+
+        double step = 1.0 / (riskAversion * largestEigenvalue());
+        shift = 0.0;
+        for (int i = 0; i < n; i++) {
+            scratch[i] = 1.0 / n;
+        }
+        project(scratch, lower, upper, weights);
+        System.arraycopy(weights, 0, momentum, 0, n);
+
+        double t = 1.0;
+        iterations = 0;
+        while (iterations < maxIterations) {
+            iterations++;
+            multiply(momentum, gradient);
+            for (int i = 0; i < n; i++) {
+                // Ascent on w'mu - (riskAversion / 2) w'Sigma w
+                scratch[i] = momentum[i] + step * (mean[i] - riskAversion * gradient[i]);
+            }
+            System.arraycopy(weights, 0, previous, 0, n);
+            project(scratch, lower, upper, weights);
+
+            double change = 0.0;
+            for (int i = 0; i < n; i++) {
+                change = Math.max(change, Math.abs(weights[i] - previous[i]));
+            }
+            if (change < tolerance) {
+                break;
+            }
+            double direction = 0.0;
+            for (int i = 0; i < n; i++) {
+                direction += (momentum[i] - weights[i]) * (weights[i] - previous[i]);
+            }
+            if (direction > 0.0) {
+                // Momentum overshot: restart from the current point
+                t = 1.0;
+                System.arraycopy(weights, 0, momentum, 0, n);
+                continue;
+            }
+            double next = (1.0 + Math.sqrt(1.0 + 4.0 * t * t)) / 2.0;
+            double beta = (t - 1.0) / next;
+            for (int i = 0; i < n; i++) {
+                momentum[i] = weights[i] + beta * (weights[i] - previous[i]);
+            }
+            t = next;
+        }
+    }
+
+    public double weight(int i) {
+        return weights[i];
+    }
+
+    public double expectedReturn() {
+        double r = 0.0;
+        for (int i = 0; i < n; i++) {
+            r += weights[i] * mean[i];
+        }
+        return r;
+    }
+
+    public double volatility() {
+        multiply(weights, scratch);
+        double variance = 0.0;
+        for (int i = 0; i < n; i++) {
+            variance += weights[i] * scratch[i];
+        }
+        return Math.sqrt(Math.max(0.0, variance));
+    }
+
+    private void multiply(double[] x, double[] out) {
+        for (int i = 0; i < n; i++) {
+            int row = i * n;
+            double sum = 0.0;
+            for (int j = 0; j < n; j++) {
+                sum += covariance[row + j] * x[j];
+            }
+            out[i] = sum;
+        }
+    }
+
+    /**
+     * Power iteration, capped by the Gershgorin bound. The power estimate
+     * approaches from below, so it is padded to keep the step stable.
+     */
+    private double largestEigenvalue() {
+        double gershgorin = 0.0;
+        for (int i = 0; i < n; i++) {
+            double row = 0.0;
+            for (int j = 0; j < n; j++) {
+                row += Math.abs(covariance[i * n + j]);
+            }
+            gershgorin = Math.max(gershgorin, row);
+        }
+        for (int i = 0; i < n; i++) {
+            previous[i] = 1.0;
+        }
+        double estimate = 0.0;
+        for (int k = 0; k < POWER_ITERATIONS; k++) {
+            multiply(previous, gradient);
+            double norm = 0.0;
+            for (int i = 0; i < n; i++) {
+                norm += gradient[i] * gradient[i];
+            }
+            norm = Math.sqrt(norm);
+            if (norm == 0.0) {
+                break;
+            }
+            estimate = norm;
+            for (int i = 0; i < n; i++) {
+                previous[i] = gradient[i] / norm;
+            }
+        }
+        double bound = Math.min(gershgorin, estimate * 1.1);
+        return bound > 0.0 ? bound : 1.0;
+    }
+
+    /**
+     * Euclidean projection of v onto {sum(w) = 1, lower <= w <= upper}:
+     * w[i] = clip(v[i] - shift), with the shift solved for in place.
+     */
+    private void project(double[] v, double[] lower, double[] upper, double[] out) {
+        double lo = Double.POSITIVE_INFINITY;
+        double hi = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            lo = Math.min(lo, v[i] - upper[i]);
+            hi = Math.max(hi, v[i] - lower[i]);
+        }
+        // sum(clip(v - tau)) falls from sum(upper) at lo to sum(lower) at hi
+        double tau = Math.max(lo, Math.min(hi, shift));
+        for (int k = 0; k < PROJECTION_ITERATIONS; k++) {
+            double sum = 0.0;
+            int free = 0;
+            for (int i = 0; i < n; i++) {
+                double w = v[i] - tau;
+                if (w <= lower[i]) {
+                    sum += lower[i];
+                } else if (w >= upper[i]) {
+                    sum += upper[i];
+                } else {
+                    sum += w;
+                    free++;
+                }
+            }
+            double excess = sum - 1.0;
+            if (Math.abs(excess) <= 1e-15 || hi - lo <= 1e-15) {
+                break;
+            }
+            if (excess > 0.0) {
+                lo = tau;
+            } else {
+                hi = tau;
+            }
+            // Within one linear piece the sum has slope -free, so Newton lands exactly
+            double newton = free > 0 ? tau + excess / free : Double.NaN;
+            tau = newton > lo && newton < hi ? newton : 0.5 * (lo + hi);
+        }
+        shift = tau;
+        for (int i = 0; i < n; i++) {
+            out[i] = Math.max(lower[i], Math.min(upper[i], v[i] - tau));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.sudheer.robinhood.strategy.engine;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Running performance statistics over a stream of periodic returns.
+ *
+ * Each add() is O(1): Welford's method for mean/variance, a running growth
+ * index with its peak for drawdown, and a win counter. The raw fields are
+ * what gets persisted, so a restart resumes exactly where it stopped.
+ */
+@Getter
+@AllArgsConstructor
+public final class PerformanceAccumulator {
+
+    private static final double PERIODS_PER_YEAR = 252.0;
+    private static final double DAYS_PER_YEAR = 365.25;
+
+    private long observations;
+    private double meanReturn;
+    private double m2;
+    private double growth;
+    private double peakGrowth;
+    private double maxDrawdown;
+    private long winningPeriods;
+
+    public PerformanceAccumulator() {
+        this(0, 0.0, 0.0, 1.0, 1.0, 0.0, 0);
+    }
+
+    public void add(double periodReturn) {
+        observations++;
+        double delta = periodReturn - meanReturn;
+        meanReturn += delta / observations;
+        m2 += delta * (periodReturn - meanReturn);
+
+        growth *= 1.0 + periodReturn;
+        if (growth > peakGrowth) {
+            peakGrowth = growth;
+        } else if (peakGrowth > 0.0) {
+            maxDrawdown = Math.max(maxDrawdown, (peakGrowth - growth) / peakGrowth);
+        }
+
+        if (periodReturn > 0.0) {
+            winningPeriods++;
+        }
+    }
+
+    /**
+     * Total return in percent (15.5 for 15.5%).
+     */
+    public double totalReturn() {
+        return (growth - 1.0) * 100.0;
+    }
+
+    /**
+     * Compounded yearly return in percent over the given calendar span.
+     * Periods shorter than a year are not extrapolated; the total return is reported instead.
+     */
+    public double annualizedReturn(long calendarDays) {
+        if (calendarDays < DAYS_PER_YEAR || growth <= 0.0) {
+            return totalReturn();
+        }
+        return (Math.pow(growth, DAYS_PER_YEAR / calendarDays) - 1.0) * 100.0;
+    }
+
+    /**
+     * Annualized standard deviation of period returns, in percent.
+     */
+    public double volatility() {
+        return standardDeviation() * Math.sqrt(PERIODS_PER_YEAR) * 100.0;
+    }
+
+    public double sharpeRatio() {
+        double stdDev = standardDeviation();
+        return stdDev > 0.0 ? meanReturn / stdDev * Math.sqrt(PERIODS_PER_YEAR) : 0.0;
+    }
+
+    public double maxDrawdownPercent() {
+        return maxDrawdown * 100.0;
+    }
+
+    public double winRate() {
+        return observations > 0 ? winningPeriods * 100.0 / observations : 0.0;
+    }
+
+    private double standardDeviation() {
+        return observations > 1 ? Math.sqrt(m2 / (observations - 1)) : 0.0;
+    }
+}
@@ -0,0 +1,105 @@
+package com.sudheer.robinhood.strategy.engine;
+
+import com.sudheer.robinhood.strategy.marketdata.PriceSeries;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Closing prices for several symbols aligned on a shared trading calendar.
+ * One double[] column per symbol; gaps are forward-filled and days before a
+ * symbol's first quote are NaN. Read-only once built, so one instance can be
+ * shared by any number of concurrent backtests.
+ */
+@Getter
+public final class PriceMatrix {
+
+    private final String[] symbols;
+    private final int[] epochDays;
+    private final double[][] closes;
+
+    private PriceMatrix(String[] symbols, int[] epochDays, double[][] closes) {
+        this.symbols = symbols;
+        this.epochDays = epochDays;
+        this.closes = closes;
+    }
+
+    public static PriceMatrix align(List<PriceSeries> series) {
+        int total = 0;
+        for (PriceSeries s : series) {
+            total += s.size();
+        }
+
+        // Union of all trading days, sorted and de-duplicated
+        int[] all = new int[total];
+        int offset = 0;
+        for (PriceSeries s : series) {
+            System.arraycopy(s.getEpochDays(), 0, all, offset, s.size());
+            offset += s.size();
+        }
+        Arrays.sort(all);
+        int days = 0;
+        for (int i = 0; i < total; i++) {
+            if (days == 0 || all[i] != all[days - 1]) {
+                all[days++] = all[i];
+            }
+        }
+        int[] calendar = Arrays.copyOf(all, days);
+
+        String[] symbols = new String[series.size()];
+        double[][] closes = new double[series.size()][];
+        for (int s = 0; s < series.size(); s++) {
+            PriceSeries source = series.get(s);
+            symbols[s] = source.getSymbol();
+            closes[s] = fill(calendar, source.getEpochDays(), source.getCloses());
+        }
+        return new PriceMatrix(symbols, calendar, closes);
+    }
+
+    private static double[] fill(int[] calendar, int[] days, double[] values) {
+        double[] column = new double[calendar.length];
+        double last = Double.NaN;
+        int j = 0;
+        for (int t = 0; t < calendar.length; t++) {
+            while (j < days.length && days[j] <= calendar[t]) {
+                last = values[j++];
+            }
+            column[t] = last;
+        }
+        return column;
+    }
+
+    public int symbolCount() {
+        return symbols.length;
+    }
+
+    public int dayCount() {
+        return epochDays.length;
+    }
+
+    public int indexOf(String symbol) {
+        for (int s = 0; s < symbols.length; s++) {
+            if (symbols[s].equals(symbol)) {
+                return s;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Index of the first trading day on or after the given epoch day.
+     */
+    public int firstIndexOnOrAfter(int epochDay) {
+        int index = Arrays.binarySearch(epochDays, epochDay);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Index of the last trading day on or before the given epoch day.
+     */
+    public int lastIndexOnOrBefore(int epochDay) {
+        int index = Arrays.binarySearch(epochDays, epochDay);
+        return index >= 0 ? index : -index - 2;
+    }
+}
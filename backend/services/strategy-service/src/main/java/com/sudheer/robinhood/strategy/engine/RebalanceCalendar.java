@@ -0,0 +1,43 @@
+package com.sudheer.robinhood.strategy.engine;
+
+import com.sudheer.robinhood.strategy.model.Strategy.RebalanceFrequency;
+
+/**
+ * Maps epoch days to rebalance periods without allocating LocalDate objects.
+ * A rebalance is due on the first trading day whose period key differs from
+ * the previous trading day's key.
+ */
+public final class RebalanceCalendar {
+
+    private RebalanceCalendar() {
+    }
+
+    public static int periodKey(int epochDay, RebalanceFrequency frequency) {
+        return switch (frequency) {
+            case DAILY -> epochDay;
+            case WEEKLY -> Math.floorDiv(epochDay + 3, 7); // 1970-01-01 was a Thursday; weeks start Monday
+            case MONTHLY -> monthIndex(epochDay);
+            case QUARTERLY -> Math.floorDiv(monthIndex(epochDay), 3);
+            case ANNUALLY -> Math.floorDiv(monthIndex(epochDay), 12);
+            case NEVER -> 0;
+        };
+    }
+
+    /**
+     * Months since year 0 (year * 12 + month - 1), using the civil-from-days algorithm.
+     */
+    static int monthIndex(int epochDay) {
+        int z = epochDay + 719468;
+        int era = Math.floorDiv(z, 146097);
+        int doe = z - era * 146097;
+        int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        int year = yoe + era * 400;
+        int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        int mp = (5 * doy + 2) / 153;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        if (month <= 2) {
+            year++;
+        }
+        return year * 12 + month - 1;
+    }
+}
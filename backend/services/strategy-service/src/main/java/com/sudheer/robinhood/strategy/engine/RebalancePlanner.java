@@ -0,0 +1,93 @@
+package com.sudheer.robinhood.strategy.engine;
+
+import com.sudheer.robinhood.strategy.dto.PlannedTrade;
+import com.sudheer.robinhood.strategy.dto.PlannedTrade.Side;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plans the fewest trades that bring a portfolio back inside its allocation bands.
+ *
+ * Only positions whose weight is outside [lower, upper] are traded, each back to
+ * its target weight; positions inside their band are left alone. Held symbols
+ * that are not in the strategy have a 0/0/0 band and are sold. Sells are planned
+ * before buys, and buys are scaled down when cash plus sale proceeds cannot cover them.
+ */
+public final class RebalancePlanner {
+
+    private static final double BAND_EPSILON = 1e-9;
+
+    private RebalancePlanner() {
+    }
+
+    /**
+     * All arrays are indexed by position; price may be NaN for symbols without a quote,
+     * which are skipped because they cannot be valued.
+     */
+    public static List<PlannedTrade> plan(double cash, String[] symbols, double[] quantities, double[] prices,
+                                          double[] targets, double[] lower, double[] upper, double minTradeValue) {
+        int n = symbols.length;
+        double value = cash;
+        for (int i = 0; i < n; i++) {
+            if (!Double.isNaN(prices[i])) {
+                value += quantities[i] * prices[i];
+            }
+        }
+        if (value <= 0.0) {
+            return List.of();
+        }
+
+        double[] deltas = new double[n];
+        double proceeds = 0.0;
+        double purchases = 0.0;
+        for (int i = 0; i < n; i++) {
+            double price = prices[i];
+            if (Double.isNaN(price) || price <= 0.0) {
+                continue;
+            }
+            double current = quantities[i] * price;
+            double weight = current / value;
+            if (weight >= lower[i] - BAND_EPSILON && weight <= upper[i] + BAND_EPSILON) {
+                continue;
+            }
+            double delta = targets[i] * value - current;
+            if (Math.abs(delta) < minTradeValue) {
+                continue;
+            }
+            deltas[i] = delta;
+            if (delta < 0.0) {
+                proceeds -= delta;
+            } else {
+                purchases += delta;
+            }
+        }
+
+        double buyScale = purchases > 0.0 ? Math.min(1.0, Math.max(0.0, cash + proceeds) / purchases) : 1.0;
+
+        List<PlannedTrade> trades = new ArrayList<>();
+        for (int pass = 0; pass < 2; pass++) {
+            boolean selling = pass == 0;
+            for (int i = 0; i < n; i++) {
+                double delta = deltas[i];
+                if (delta == 0.0 || (delta < 0.0) != selling) {
+                    continue;
+                }
+                double amount = selling ? -delta : delta * buyScale;
+                if (amount < minTradeValue) {
+                    continue;
+                }
+                double quantity = selling ? Math.min(quantities[i], amount / prices[i]) : amount / prices[i];
+                trades.add(PlannedTrade.builder()
+                        .symbol(symbols[i])
+                        .side(selling ? Side.SELL : Side.BUY)
+                        .quantity(BigDecimal.valueOf(quantity).setScale(8, RoundingMode.DOWN))
+                        .estimatedPrice(BigDecimal.valueOf(prices[i]).setScale(2, RoundingMode.HALF_UP))
+                        .build());
+            }
+        }
+        return trades;
+    }
+}
@@ -0,0 +1,67 @@
+package com.sudheer.robinhood.strategy.engine;
+
+/**
+ * Maximum (or minimum) of the last `window` values, O(1) amortized per add.
+ *
+ * A monotonic deque on a fixed ring: each add drops from the back every value
+ * it dominates, then drops from the front anything that left the window, so
+ * the front is always the extremum. Every value enters and leaves once.
+ */
+public final class RollingExtremum {
+
+    private final int window;
+    private final boolean max;
+    private final long[] positions;
+    private final double[] values;
+    private int head;
+    private int size;
+    private long added;
+
+    private RollingExtremum(int window, boolean max) {
+        this.window = window;
+        this.max = max;
+        this.positions = new long[window];
+        this.values = new double[window];
+    }
+
+    public static RollingExtremum max(int window) {
+        return new RollingExtremum(window, true);
+    }
+
+    public static RollingExtremum min(int window) {
+        return new RollingExtremum(window, false);
+    }
+
+    public void add(double value) {
+        long position = added++;
+        while (size > 0 && dominates(value, values[index(size - 1)])) {
+            size--;
+        }
+        if (size > 0 && positions[head] <= position - window) {
+            head = (head + 1) % window;
+            size--;
+        }
+        positions[index(size)] = position;
+        values[index(size)] = value;
+        size++;
+    }
+
+    /**
+     * The extremum of the values in the window; NaN before the first add.
+     */
+    public double get() {
+        return size > 0 ? values[head] : Double.NaN;
+    }
+
+    public boolean isFull() {
+        return added >= window;
+    }
+
+    private boolean dominates(double candidate, double existing) {
+        return max ? candidate >= existing : candidate <= existing;
+    }
+
+    private int index(int offset) {
+        return (head + offset) % window;
+    }
+}
@@ -0,0 +1,213 @@
+package com.sudheer.robinhood.strategy.engine;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Technical indicators for one symbol, advanced one daily close at a time.
+ *
+ * Each update is O(1): the moving averages and standard deviations keep
+ * running sums over fixed rings (re-summed exactly whenever a ring wraps, so
+ * rounding error cannot build up), RSI uses Wilder's smoothing, and the
+ * channel high/low are {@link RollingExtremum}s. The values before the latest
+ * update are kept alongside, so callers can detect crossings.
+ */
+@Getter
+public final class RollingIndicators {
+
+    private static final double PERIODS_PER_YEAR = 252.0;
+
+    private final int shortWindow;
+    private final int longWindow;
+    private final int rsiPeriod;
+    private final int volatilityWindow;
+    private final int channelWindow;
+
+    @Getter(AccessLevel.NONE)
+    private final Ring shortCloses;
+    @Getter(AccessLevel.NONE)
+    private final Ring longCloses;
+    @Getter(AccessLevel.NONE)
+    private final Ring logReturns;
+    @Getter(AccessLevel.NONE)
+    private final RollingExtremum channelHigh;
+    @Getter(AccessLevel.NONE)
+    private final RollingExtremum channelLow;
+
+    private long bars;
+    private int lastEpochDay = Integer.MIN_VALUE;
+    private double close = Double.NaN;
+    private double previousClose = Double.NaN;
+
+    @Getter(AccessLevel.NONE)
+    private double gainSum;
+    @Getter(AccessLevel.NONE)
+    private double lossSum;
+    @Getter(AccessLevel.NONE)
+    private double averageGain;
+    @Getter(AccessLevel.NONE)
+    private double averageLoss;
+
+    private double shortSma = Double.NaN;
+    private double longSma = Double.NaN;
+    private double zScore = Double.NaN;
+    private double rsi = Double.NaN;
+    private double volatility = Double.NaN;
+    private double high = Double.NaN;
+    private double low = Double.NaN;
+
+    private double previousShortSma = Double.NaN;
+    private double previousLongSma = Double.NaN;
+    private double previousZScore = Double.NaN;
+    private double previousRsi = Double.NaN;
+    private double previousVolatility = Double.NaN;
+    private double previousHigh = Double.NaN;
+    private double previousLow = Double.NaN;
+
+    public RollingIndicators(int shortWindow, int longWindow, int rsiPeriod, int volatilityWindow, int channelWindow) {
+        this.shortWindow = shortWindow;
+        this.longWindow = longWindow;
+        this.rsiPeriod = rsiPeriod;
+        this.volatilityWindow = volatilityWindow;
+        this.channelWindow = channelWindow;
+        this.shortCloses = new Ring(shortWindow);
+        this.longCloses = new Ring(longWindow);
+        this.logReturns = new Ring(volatilityWindow);
+        this.channelHigh = RollingExtremum.max(channelWindow);
+        this.channelLow = RollingExtremum.min(channelWindow);
+    }
+
+    public void update(int epochDay, double newClose) {
+        previousShortSma = shortSma;
+        previousLongSma = longSma;
+        previousZScore = zScore;
+        previousRsi = rsi;
+        previousVolatility = volatility;
+        previousHigh = high;
+        previousLow = low;
+
+        previousClose = close;
+        close = newClose;
+        lastEpochDay = epochDay;
+        bars++;
+
+        if (bars > 1) {
+            double change = newClose - previousClose;
+            updateRsi(Math.max(change, 0.0), Math.max(-change, 0.0));
+            if (previousClose > 0.0 && newClose > 0.0) {
+                logReturns.add(Math.log(newClose / previousClose));
+            }
+        }
+        shortCloses.add(newClose);
+        longCloses.add(newClose);
+        // The channel is the range of the bars before this one, so a close can break out of it
+        high = channelHigh.get();
+        low = channelLow.get();
+        channelHigh.add(newClose);
+        channelLow.add(newClose);
+
+        if (shortCloses.isFull()) {
+            shortSma = shortCloses.mean();
+            double sd = shortCloses.standardDeviation();
+            zScore = sd > 0.0 ? (newClose - shortSma) / sd : 0.0;
+        }
+        if (longCloses.isFull()) {
+            longSma = longCloses.mean();
+        }
+        if (logReturns.isFull()) {
+            volatility = logReturns.standardDeviation() * Math.sqrt(PERIODS_PER_YEAR);
+        }
+    }
+
+    private void updateRsi(double gain, double loss) {
+        long changes = bars - 1;
+        if (changes <= rsiPeriod) {
+            gainSum += gain;
+            lossSum += loss;
+            if (changes < rsiPeriod) {
+                return;
+            }
+            averageGain = gainSum / rsiPeriod;
+            averageLoss = lossSum / rsiPeriod;
+        } else {
+            averageGain = (averageGain * (rsiPeriod - 1) + gain) / rsiPeriod;
+            averageLoss = (averageLoss * (rsiPeriod - 1) + loss) / rsiPeriod;
+        }
+        rsi = averageLoss == 0.0 ? 100.0 : 100.0 - 100.0 / (1.0 + averageGain / averageLoss);
+    }
+
+    /**
+     * True once every indicator has a full window behind it.
+     */
+    public boolean isReady() {
+        return longCloses.isFull() && shortCloses.isFull() && logReturns.isFull()
+                && channelHigh.isFull() && !Double.isNaN(previousRsi) && !Double.isNaN(previousLongSma);
+    }
+
+    /**
+     * Fraction below the channel high (0.1 = 10% down); NaN until the channel has data.
+     */
+    public double drawdown() {
+        return high > 0.0 ? 1.0 - close / high : Double.NaN;
+    }
+
+    public double previousDrawdown() {
+        return previousHigh > 0.0 ? 1.0 - previousClose / previousHigh : Double.NaN;
+    }
+
+    /**
+     * Fixed-size window with running sum and sum of squares.
+     */
+    private static final class Ring {
+        private final double[] values;
+        private int next;
+        private int size;
+        private double sum;
+        private double sumOfSquares;
+
+        private Ring(int capacity) {
+            this.values = new double[capacity];
+        }
+
+        private void add(double value) {
+            if (size == values.length) {
+                double evicted = values[next];
+                sum -= evicted;
+                sumOfSquares -= evicted * evicted;
+            } else {
+                size++;
+            }
+            values[next] = value;
+            sum += value;
+            sumOfSquares += value * value;
+            if (++next == values.length) {
+                next = 0;
+                resum();
+            }
+        }
+
+        private void resum() {
+            double s = 0.0;
+            double sq = 0.0;
+            for (int i = 0; i < size; i++) {
+                s += values[i];
+                sq += values[i] * values[i];
+            }
+            sum = s;
+            sumOfSquares = sq;
+        }
+
+        private boolean isFull() {
+            return size == values.length;
+        }
+
+        private double mean() {
+            return sum / size;
+        }
+
+        private double standardDeviation() {
+            double mean = sum / size;
+            return Math.sqrt(Math.max(0.0, sumOfSquares / size - mean * mean));
+        }
+    }
+}
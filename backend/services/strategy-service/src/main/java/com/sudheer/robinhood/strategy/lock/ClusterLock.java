@@ -0,0 +1,72 @@
+package com.sudheer.robinhood.strategy.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Cluster-wide mutual exclusion for scheduled jobs, on a PostgreSQL session
+ * advisory lock.
+ *
+ * Every node fires the same @Scheduled triggers; the node that takes the lock
+ * does the work and the others skip that run. The lock is held on one pooled
+ * connection for as long as the task runs, and PostgreSQL releases it with
+ * the session if the node dies mid-task.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterLock {
+
+    // First half of the two-int advisory lock key, so these locks stay apart from any others
+    private static final int NAMESPACE = 0x53545247; // "STRG"
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Runs the task if no other node holds the named lock; returns whether it ran.
+     */
+    public boolean runExclusively(String name, Runnable task) {
+        return callExclusively(name, () -> {
+            task.run();
+            return Boolean.TRUE;
+        }).isPresent();
+    }
+
+    /**
+     * Calls the task if no other node holds the named lock; empty when it was
+     * skipped or returned null.
+     */
+    public <T> Optional<T> callExclusively(String name, Supplier<T> task) {
+        return jdbcTemplate.execute((ConnectionCallback<Optional<T>>) connection -> {
+            if (!lock(connection, "SELECT pg_try_advisory_lock(?, ?)", name)) {
+                log.debug("Lock {} is held by another node, skipping", name);
+                return Optional.empty();
+            }
+            try {
+                return Optional.ofNullable(task.get());
+            } finally {
+                lock(connection, "SELECT pg_advisory_unlock(?, ?)", name);
+            }
+        });
+    }
+
+    private static boolean lock(Connection connection, String sql, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, NAMESPACE);
+            statement.setInt(2, name.hashCode());
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.sudheer.robinhood.strategy.marketdata;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * Read-only views over one symbol's mapped OHLCV columns. Reading through
+ * these buffers goes straight to the page cache; nothing is copied onto the heap.
+ */
+@Getter
+@AllArgsConstructor
+public final class BarColumns {
+
+    private final String symbol;
+    private final int count;
+    private final IntBuffer epochDays;
+    private final DoubleBuffer open;
+    private final DoubleBuffer high;
+    private final DoubleBuffer low;
+    private final DoubleBuffer close;
+    private final LongBuffer volume;
+
+    public int lastEpochDay() {
+        return count > 0 ? epochDays.get(count - 1) : Integer.MIN_VALUE;
+    }
+
+    /**
+     * Index of the first bar on or after the given epoch day (count if none).
+     */
+    public int lowerBound(int epochDay) {
+        int lo = 0;
+        int hi = count;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (epochDays.get(mid) < epochDay) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Index of the last bar on or before the given epoch day (-1 if none).
+     */
+    public int indexOnOrBefore(int epochDay) {
+        return lowerBound(epochDay + 1) - 1;
+    }
+
+    /**
+     * Copies the closes for bars [from, to) into a PriceSeries for alignment with other symbols.
+     */
+    public PriceSeries closes(int from, int to) {
+        int length = Math.max(0, to - from);
+        int[] days = new int[length];
+        double[] closes = new double[length];
+        epochDays.get(from, days, 0, length);
+        close.get(from, closes, 0, length);
+        return new PriceSeries(symbol, days, closes);
+    }
+}
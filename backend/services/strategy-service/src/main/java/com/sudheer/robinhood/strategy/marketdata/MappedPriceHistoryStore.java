@@ -0,0 +1,207 @@
+package com.sudheer.robinhood.strategy.marketdata;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * Append-only daily bar store, one directory per symbol and one file per column:
+ *
+ * <pre>
+ *   {directory}/{SYMBOL}/day.i32     epoch day, int32
+ *   {directory}/{SYMBOL}/open.f64    float64
+ *   {directory}/{SYMBOL}/high.f64    float64
+ *   {directory}/{SYMBOL}/low.f64     float64
+ *   {directory}/{SYMBOL}/close.f64   float64
+ *   {directory}/{SYMBOL}/volume.i64  int64
+ * </pre>
+ *
+ * All values are little-endian with no header, so a column file is simply an
+ * array on disk. Startup maps every column read-only and parses nothing. The
+ * bar count is the shortest column, so a torn append is ignored on read and
+ * trimmed before the next append.
+ */
+@Component
+@Slf4j
+public class MappedPriceHistoryStore implements PriceHistoryProvider {
+
+    private static final String[] COLUMN_FILES = {"day.i32", "open.f64", "high.f64", "low.f64", "close.f64", "volume.i64"};
+    private static final int[] COLUMN_WIDTHS = {Integer.BYTES, Double.BYTES, Double.BYTES, Double.BYTES, Double.BYTES, Long.BYTES};
+    private static final Pattern SYMBOL_PATTERN = Pattern.compile("[A-Z0-9][A-Z0-9.\\-]{0,9}");
+
+    private final Path directory;
+    private final Map<String, BarColumns> symbols = new ConcurrentHashMap<>();
+    private final ReentrantLock appendLock = new ReentrantLock();
+
+    public MappedPriceHistoryStore(@Value("${strategy.marketdata.directory:data/prices}") String directory) {
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            for (Path symbolDirectory : entries) {
+                String symbol = symbolDirectory.getFileName().toString();
+                if (!SYMBOL_PATTERN.matcher(symbol).matches()) {
+                    log.warn("Skipping {}: not a symbol directory", symbolDirectory);
+                    continue;
+                }
+                symbols.put(symbol, map(symbol));
+            }
+        }
+        log.info("Mapped price history for {} symbols from {}", symbols.size(), directory);
+    }
+
+    @Override
+    public Optional<PriceSeries> getCloses(String symbol, LocalDate start, LocalDate end) {
+        BarColumns columns = symbols.get(symbol);
+        if (columns == null) {
+            return Optional.empty();
+        }
+        int from = columns.lowerBound((int) start.toEpochDay());
+        int to = columns.lowerBound((int) end.toEpochDay() + 1);
+        return Optional.of(columns.closes(from, to));
+    }
+
+    /**
+     * Zero-copy access to every column of a symbol, for full-history scans.
+     */
+    public Optional<BarColumns> getColumns(String symbol) {
+        return Optional.ofNullable(symbols.get(symbol));
+    }
+
+    /**
+     * Every symbol with stored bars, as a live view.
+     */
+    public Set<String> symbols() {
+        return Collections.unmodifiableSet(symbols.keySet());
+    }
+
+    public int lastEpochDay(String symbol) {
+        BarColumns columns = symbols.get(symbol);
+        return columns != null ? columns.lastEpochDay() : Integer.MIN_VALUE;
+    }
+
+    /**
+     * Appends bars [0, count) of the given columns. Days must be strictly ascending
+     * and after the last stored bar. The symbol is remapped once the write is done.
+     */
+    public void append(String symbol, int[] days, double[] open, double[] high, double[] low,
+                       double[] close, long[] volume, int count) {
+        Path symbolDirectory = symbolDirectory(symbol);
+        if (count == 0) {
+            return;
+        }
+        appendLock.lock();
+        try {
+            int previous = lastEpochDay(symbol);
+            for (int i = 0; i < count; i++) {
+                if (days[i] <= previous) {
+                    throw new IllegalArgumentException("Bars for " + symbol + " must be appended in ascending date order");
+                }
+                previous = days[i];
+            }
+
+            Files.createDirectories(symbolDirectory);
+            int existing = symbols.containsKey(symbol) ? symbols.get(symbol).getCount() : 0;
+
+            ByteBuffer buffer = ByteBuffer.allocate(count * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            for (int c = 0; c < COLUMN_FILES.length; c++) {
+                buffer.clear();
+                for (int i = 0; i < count; i++) {
+                    switch (c) {
+                        case 0 -> buffer.putInt(days[i]);
+                        case 1 -> buffer.putDouble(open[i]);
+                        case 2 -> buffer.putDouble(high[i]);
+                        case 3 -> buffer.putDouble(low[i]);
+                        case 4 -> buffer.putDouble(close[i]);
+                        default -> buffer.putLong(volume[i]);
+                    }
+                }
+                buffer.flip();
+                try (FileChannel channel = FileChannel.open(symbolDirectory.resolve(COLUMN_FILES[c]),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                    // Drop any torn tail from an earlier failed append before writing
+                    long end = (long) existing * COLUMN_WIDTHS[c];
+                    channel.truncate(end);
+                    channel.position(end);
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    channel.force(false);
+                }
+            }
+
+            symbols.put(symbol, map(symbol));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append bars for " + symbol, e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * The symbol's directory, refusing any symbol that would resolve outside the store.
+     */
+    private Path symbolDirectory(String symbol) {
+        if (symbol == null || !SYMBOL_PATTERN.matcher(symbol).matches()) {
+            throw new IllegalArgumentException("Invalid symbol: " + symbol);
+        }
+        Path symbolDirectory = directory.resolve(symbol).normalize();
+        if (!directory.equals(symbolDirectory.getParent())) {
+            throw new IllegalArgumentException("Invalid symbol: " + symbol);
+        }
+        return symbolDirectory;
+    }
+
+    private BarColumns map(String symbol) throws IOException {
+        Path symbolDirectory = symbolDirectory(symbol);
+        ByteBuffer[] mapped = new ByteBuffer[COLUMN_FILES.length];
+        int count = Integer.MAX_VALUE;
+
+        for (int c = 0; c < COLUMN_FILES.length; c++) {
+            Path file = symbolDirectory.resolve(COLUMN_FILES[c]);
+            if (!Files.exists(file)) {
+                count = 0;
+                mapped[c] = ByteBuffer.allocate(0);
+                continue;
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long size = channel.size();
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                mapped[c] = buffer;
+                count = (int) Math.min(count, size / COLUMN_WIDTHS[c]);
+            }
+        }
+
+        return new BarColumns(symbol, count,
+                mapped[0].order(ByteOrder.LITTLE_ENDIAN).asIntBuffer(),
+                mapped[1].order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer(),
+                mapped[2].order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer(),
+                mapped[3].order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer(),
+                mapped[4].order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer(),
+                mapped[5].order(ByteOrder.LITTLE_ENDIAN).asLongBuffer());
+    }
+}
@@ -0,0 +1,107 @@
+package com.sudheer.robinhood.strategy.marketdata;
+
+import com.sudheer.robinhood.strategy.dto.PriceImportResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Streams "date,open,high,low,close,volume" CSV rows (ISO dates, ascending) into the
+ * mapped store in fixed-size chunks. Rows on or before the last stored day are
+ * skipped, so re-importing an extended file only appends the new tail. The
+ * store only appends, so a row dated on or before the previous accepted row
+ * (a duplicate or out-of-order day) cannot be stored either; such rows are
+ * counted in rowsOutOfOrder instead of being dropped silently.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PriceCsvImporter {
+
+    private static final int CHUNK_SIZE = 4096;
+
+    private final MappedPriceHistoryStore store;
+
+    public PriceImportResponse importCsv(String symbol, Reader source) throws IOException {
+        int[] days = new int[CHUNK_SIZE];
+        double[] open = new double[CHUNK_SIZE];
+        double[] high = new double[CHUNK_SIZE];
+        double[] low = new double[CHUNK_SIZE];
+        double[] close = new double[CHUNK_SIZE];
+        long[] volume = new long[CHUNK_SIZE];
+
+        int storedDay = store.lastEpochDay(symbol);
+        int lastDay = storedDay;
+        int buffered = 0;
+        long rowsRead = 0;
+        long appended = 0;
+        long skipped = 0;
+        long outOfOrder = 0;
+
+        BufferedReader reader = new BufferedReader(source);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] fields = line.split(",");
+            int day;
+            try {
+                day = (int) LocalDate.parse(fields[0].trim()).toEpochDay();
+            } catch (DateTimeParseException e) {
+                if (rowsRead == 0) {
+                    continue; // Header row
+                }
+                throw new IllegalArgumentException("Invalid date on row " + (rowsRead + 1) + ": " + fields[0]);
+            }
+            rowsRead++;
+
+            if (day <= storedDay) {
+                skipped++;
+                continue;
+            }
+            if (day <= lastDay) {
+                outOfOrder++;
+                continue;
+            }
+            if (fields.length < 6) {
+                throw new IllegalArgumentException("Expected 6 columns on row " + rowsRead);
+            }
+
+            days[buffered] = day;
+            open[buffered] = Double.parseDouble(fields[1].trim());
+            high[buffered] = Double.parseDouble(fields[2].trim());
+            low[buffered] = Double.parseDouble(fields[3].trim());
+            close[buffered] = Double.parseDouble(fields[4].trim());
+            volume[buffered] = (long) Double.parseDouble(fields[5].trim());
+            lastDay = day;
+
+            if (++buffered == CHUNK_SIZE) {
+                store.append(symbol, days, open, high, low, close, volume, buffered);
+                appended += buffered;
+                buffered = 0;
+            }
+        }
+        store.append(symbol, days, open, high, low, close, volume, buffered);
+        appended += buffered;
+
+        log.info("Imported {} bars for {} ({} rows read, {} already stored)", appended, symbol, rowsRead, skipped);
+        if (outOfOrder > 0) {
+            log.warn("Dropped {} out-of-order or duplicate rows importing {}", outOfOrder, symbol);
+        }
+
+        return PriceImportResponse.builder()
+                .symbol(symbol)
+                .rowsRead(rowsRead)
+                .barsAppended(appended)
+                .rowsSkipped(skipped)
+                .rowsOutOfOrder(outOfOrder)
+                .build();
+    }
+}
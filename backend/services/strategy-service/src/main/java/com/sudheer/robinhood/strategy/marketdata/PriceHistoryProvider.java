@@ -0,0 +1,16 @@
+package com.sudheer.robinhood.strategy.marketdata;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Source of daily price history for backtests and performance calculations.
+ */
+public interface PriceHistoryProvider {
+
+    /**
+     * Closing prices for a symbol between start and end (inclusive),
+     * or empty if the symbol is unknown.
+     */
+    Optional<PriceSeries> getCloses(String symbol, LocalDate start, LocalDate end);
+}
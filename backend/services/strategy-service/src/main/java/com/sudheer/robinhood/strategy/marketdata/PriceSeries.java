@@ -0,0 +1,28 @@
+package com.sudheer.robinhood.strategy.marketdata;
+
+import lombok.Getter;
+
+/**
+ * Daily closing prices for one symbol, stored as parallel primitive columns.
+ * Days are epoch days (LocalDate.toEpochDay) in ascending order.
+ */
+@Getter
+public final class PriceSeries {
+
+    private final String symbol;
+    private final int[] epochDays;
+    private final double[] closes;
+
+    public PriceSeries(String symbol, int[] epochDays, double[] closes) {
+        if (epochDays.length != closes.length) {
+            throw new IllegalArgumentException("Price columns for " + symbol + " have different lengths");
+        }
+        this.symbol = symbol;
+        this.epochDays = epochDays;
+        this.closes = closes;
+    }
+
+    public int size() {
+        return epochDays.length;
+    }
+}
@@ -0,0 +1,135 @@
+package com.sudheer.robinhood.strategy.marketdata;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Latest trade price per symbol, held in preallocated primitive slots.
+ *
+ * A symbol is assigned a slot once; after that, ticks and reads touch only
+ * AtomicLongArrays (price as raw double bits, update time, version), so the
+ * feed never blocks readers and readers never allocate. Callers on a hot path
+ * resolve the slot once with {@link #slot(String)} and read by index.
+ * Each tick bumps the slot's version, which lets the database flush skip
+ * symbols that have not moved since the last write.
+ */
+@Component
+public class QuoteBoard {
+
+    public static final int NO_SLOT = -1;
+
+    private static final long NO_PRICE = Double.doubleToRawLongBits(Double.NaN);
+
+    private final int capacity;
+    private final Map<String, Integer> slots = new ConcurrentHashMap<>();
+    private final String[] symbols;
+    private final AtomicLongArray prices;
+    private final AtomicLongArray updatedAtMillis;
+    private final AtomicLongArray versions;
+    private final AtomicInteger size = new AtomicInteger();
+    private final ReentrantLock registerLock = new ReentrantLock();
+    private final Counter ticks;
+
+    public QuoteBoard(QuoteProperties properties, MeterRegistry meterRegistry) {
+        this.capacity = properties.getCapacity();
+        this.symbols = new String[capacity];
+        this.prices = new AtomicLongArray(capacity);
+        this.updatedAtMillis = new AtomicLongArray(capacity);
+        this.versions = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            prices.set(i, NO_PRICE);
+        }
+
+        this.ticks = meterRegistry.counter("quotes.ticks");
+        Gauge.builder("quotes.symbols", size, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * Slot for the symbol, assigning one on first sight.
+     */
+    public int register(String symbol) {
+        Integer slot = slots.get(symbol);
+        if (slot != null) {
+            return slot;
+        }
+        // First sight is rare; one lock keeps the slot claim, its symbol and the size bump together
+        registerLock.lock();
+        try {
+            slot = slots.get(symbol);
+            if (slot != null) {
+                return slot;
+            }
+            int assigned = size.get();
+            if (assigned >= capacity) {
+                throw new IllegalStateException("Quote board is full (" + capacity + " symbols)");
+            }
+            symbols[assigned] = symbol;
+            size.set(assigned + 1);
+            slots.put(symbol, assigned);
+            return assigned;
+        } finally {
+            registerLock.unlock();
+        }
+    }
+
+    /**
+     * Slot for the symbol, or {@link #NO_SLOT} if it has never been registered.
+     */
+    public int slot(String symbol) {
+        Integer slot = slots.get(symbol);
+        return slot != null ? slot : NO_SLOT;
+    }
+
+    public void update(int slot, double price, long timestampMillis) {
+        prices.set(slot, Double.doubleToRawLongBits(price));
+        updatedAtMillis.set(slot, timestampMillis);
+        versions.incrementAndGet(slot);
+        ticks.increment();
+    }
+
+    public void update(String symbol, double price, long timestampMillis) {
+        update(register(symbol), price, timestampMillis);
+    }
+
+    /**
+     * Latest price, or NaN if the slot has not ticked yet.
+     */
+    public double price(int slot) {
+        return slot == NO_SLOT ? Double.NaN : Double.longBitsToDouble(prices.get(slot));
+    }
+
+    public double price(String symbol) {
+        return price(slot(symbol));
+    }
+
+    public long updatedAtMillis(int slot) {
+        return updatedAtMillis.get(slot);
+    }
+
+    public long version(int slot) {
+        return versions.get(slot);
+    }
+
+    public String symbol(int slot) {
+        return symbols[slot];
+    }
+
+    /**
+     * Number of registered symbols; slots [0, size) are valid.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
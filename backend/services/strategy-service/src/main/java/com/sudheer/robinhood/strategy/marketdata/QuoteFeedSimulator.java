@@ -0,0 +1,63 @@
+package com.sudheer.robinhood.strategy.marketdata;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local stand-in for a market data feed: every tick, each priced symbol on the
+ * board takes a lognormal step. Runs on its own thread so it never competes
+ * with the application's scheduled jobs.
+ */
+@Component
+@ConditionalOnProperty(name = "strategy.quotes.simulator.enabled", havingValue = "true")
+@Slf4j
+public class QuoteFeedSimulator implements DisposableBean {
+
+    private final QuoteBoard quoteBoard;
+    private final long tickIntervalMillis;
+    private final double volatility;
+    private final SplittableRandom random = new SplittableRandom();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "quote-feed-simulator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public QuoteFeedSimulator(QuoteBoard quoteBoard, QuoteProperties properties) {
+        this.quoteBoard = quoteBoard;
+        this.tickIntervalMillis = Math.max(1, properties.getSimulator().getTickIntervalMillis());
+        this.volatility = properties.getSimulator().getVolatility();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleAtFixedRate(this::tick, tickIntervalMillis, tickIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Quote feed simulator ticking {} symbols every {} ms", quoteBoard.size(), tickIntervalMillis);
+    }
+
+    private void tick() {
+        long now = System.currentTimeMillis();
+        int size = quoteBoard.size();
+        for (int slot = 0; slot < size; slot++) {
+            double price = quoteBoard.price(slot);
+            if (Double.isNaN(price)) {
+                continue;
+            }
+            quoteBoard.update(slot, price * Math.exp(volatility * random.nextGaussian()), now);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
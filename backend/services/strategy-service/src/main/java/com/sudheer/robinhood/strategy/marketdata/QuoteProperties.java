@@ -0,0 +1,62 @@
+package com.sudheer.robinhood.strategy.marketdata;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "strategy.quotes")
+public class QuoteProperties {
+
+    /**
+     * Symbols the quote board can hold; slots are preallocated and never resized.
+     */
+    private int capacity = 16_384;
+
+    /**
+     * How long a portfolio's holdings stay in memory before they are re-read from portfolios.holdings.
+     */
+    private long holdingsTtlMillis = 30_000;
+
+    /**
+     * Portfolios whose holdings are kept in memory at once; the least recently valued go first.
+     */
+    private long maxBooks = 10_000;
+
+    /**
+     * A portfolio's holdings are dropped after this long without a valuation.
+     */
+    private long bookIdleMillis = 300_000;
+
+    /**
+     * Redis pub/sub channel carrying the id of a portfolio whose holdings were written,
+     * so its in-memory holdings are dropped before holdings-ttl-millis runs out.
+     */
+    private String holdingsChangedChannel = "portfolios.holdings.changed";
+
+    /**
+     * Interval between bulk writes of live prices back to portfolios.holdings.
+     */
+    private long flushIntervalMillis = 60_000;
+
+    /**
+     * Symbols per UPDATE statement during a flush.
+     */
+    private int flushBatchSize = 1000;
+
+    private Simulator simulator = new Simulator();
+
+    @Data
+    public static class Simulator {
+
+        private boolean enabled = false;
+
+        private long tickIntervalMillis = 100;
+
+        /**
+         * Standard deviation of the per-tick log return.
+         */
+        private double volatility = 0.0005;
+    }
+}
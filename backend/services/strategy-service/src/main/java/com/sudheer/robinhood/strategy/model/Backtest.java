@@ -64,6 +64,18 @@ public class Backtest {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * When the job was last handed to the queue; a PENDING row queued long ago has lost its message.
+     */
+    @Column(name = "queued_at")
+    private LocalDateTime queuedAt;
+
+    /**
+     * When a worker claimed the job; a RUNNING row started long ago has lost its worker.
+     */
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
     @Column(name = "completed_at")
     private LocalDateTime completedAt;
 
@@ -9,6 +9,7 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
@@ -52,7 +53,11 @@ public class Recommendation {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    @Column(name = "expires_at")
+    // Bar day of the signal that raised it; null when not raised by the signal engine
+    @Column(name = "signal_day", updatable = false)
+    private LocalDate signalDay;
+
+    @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
 
     public enum RecommendationType {
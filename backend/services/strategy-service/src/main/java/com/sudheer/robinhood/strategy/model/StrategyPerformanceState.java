@@ -0,0 +1,80 @@
+package com.sudheer.robinhood.strategy.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Persisted running state behind a strategy's inception-to-date StrategyPerformance row.
+ * Raw accumulator fields are kept as doubles so resuming is exact.
+ */
+@Entity
+@Table(name = "strategy_performance_state", schema = "strategies")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class StrategyPerformanceState implements Persistable<Long> {
+
+    @Id
+    @Column(name = "strategy_id")
+    private Long strategyId;
+
+    @Column(name = "performance_id")
+    private Long performanceId;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "last_date", nullable = false)
+    private LocalDate lastDate;
+
+    @Column(nullable = false)
+    private long observations;
+
+    @Column(name = "mean_return", nullable = false)
+    private double meanReturn;
+
+    @Column(nullable = false)
+    private double m2;
+
+    @Column(nullable = false)
+    private double growth;
+
+    @Column(name = "peak_growth", nullable = false)
+    private double peakGrowth;
+
+    @Column(name = "max_drawdown", nullable = false)
+    private double maxDrawdown;
+
+    @Column(name = "winning_periods", nullable = false)
+    private long winningPeriods;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Transient
+    @Builder.Default
+    private boolean isNew = true;
+
+    @Override
+    public Long getId() {
+        return strategyId;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
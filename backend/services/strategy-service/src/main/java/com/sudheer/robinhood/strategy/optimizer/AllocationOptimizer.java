@@ -0,0 +1,211 @@
+package com.sudheer.robinhood.strategy.optimizer;
+
+import com.sudheer.robinhood.strategy.dto.OptimizeAllocationRequest;
+import com.sudheer.robinhood.strategy.dto.OptimizeAllocationResponse;
+import com.sudheer.robinhood.strategy.dto.StrategyResponse;
+import com.sudheer.robinhood.strategy.engine.MeanVarianceOptimizer;
+import com.sudheer.robinhood.strategy.engine.PriceMatrix;
+import com.sudheer.robinhood.strategy.marketdata.PriceHistoryProvider;
+import com.sudheer.robinhood.strategy.marketdata.PriceSeries;
+import com.sudheer.robinhood.strategy.model.Strategy.RiskLevel;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Suggests StrategyAllocation targets for a symbol universe and risk level.
+ *
+ * Closes over the lookback window are aligned on one calendar and cut to the
+ * days every symbol has prices. {@link MeanVarianceOptimizer} then solves for
+ * the efficient-frontier portfolio at the risk level's risk aversion within
+ * each symbol's min/max. Weights come back as target percentages with two
+ * decimals (the column's scale) that sum to exactly 100.00 and stay within
+ * the bounds, so they can be saved as they are.
+ */
+@Service
+@Slf4j
+public class AllocationOptimizer {
+
+    private static final int UNITS = 10_000; // hundredths of a percent
+
+    private final PriceHistoryProvider priceHistoryProvider;
+    private final OptimizerProperties properties;
+    private final Timer optimizeTimer;
+
+    public AllocationOptimizer(PriceHistoryProvider priceHistoryProvider, OptimizerProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.priceHistoryProvider = priceHistoryProvider;
+        this.properties = properties;
+        this.optimizeTimer = Timer.builder("strategy.optimizer.optimize")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public OptimizeAllocationResponse optimize(OptimizeAllocationRequest request) {
+        long started = System.nanoTime();
+        List<OptimizeAllocationRequest.SymbolBounds> universe = request.getSymbols();
+        int n = universe.size();
+        if (n > properties.getMaxSymbols()) {
+            throw new IllegalArgumentException("At most " + properties.getMaxSymbols() + " symbols can be optimized");
+        }
+
+        String[] symbols = new String[n];
+        int[] lowerUnits = new int[n];
+        int[] upperUnits = new int[n];
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < n; i++) {
+            OptimizeAllocationRequest.SymbolBounds bounds = universe.get(i);
+            symbols[i] = bounds.getSymbol().trim().toUpperCase(Locale.ROOT);
+            if (!seen.add(symbols[i])) {
+                throw new IllegalArgumentException("Duplicate symbol " + symbols[i]);
+            }
+            lowerUnits[i] = units(bounds.getMinPercentage(), 0.0);
+            upperUnits[i] = units(bounds.getMaxPercentage(), properties.getDefaultMaxPercentage());
+            if (lowerUnits[i] > upperUnits[i]) {
+                throw new IllegalArgumentException("minPercentage is above maxPercentage for " + symbols[i]);
+            }
+        }
+
+        LocalDate end = request.getAsOf() != null ? request.getAsOf() : LocalDate.now();
+        LocalDate start = end.minusDays(properties.getLookbackDays());
+        List<PriceSeries> series = new ArrayList<>(n);
+        for (String symbol : symbols) {
+            series.add(priceHistoryProvider.getCloses(symbol, start, end)
+                    .orElseThrow(() -> new RuntimeException("No price history for " + symbol)));
+        }
+        PriceMatrix prices = PriceMatrix.align(series);
+        double[][] closes = prices.getCloses();
+
+        // Start on the first day every symbol has a quote
+        int from = 0;
+        int to = prices.dayCount() - 1;
+        for (int i = 0; i < n; i++) {
+            int first = 0;
+            while (first <= to && !(closes[i][first] > 0.0)) {
+                first++;
+            }
+            for (int t = first; t <= to; t++) {
+                if (!(closes[i][t] > 0.0) || Double.isInfinite(closes[i][t])) {
+                    throw new IllegalArgumentException("Invalid close for " + symbols[i] + " on "
+                            + LocalDate.ofEpochDay(prices.getEpochDays()[t]));
+                }
+            }
+            from = Math.max(from, first);
+        }
+        int observations = to - from;
+        if (observations < properties.getMinObservations()) {
+            throw new IllegalArgumentException("Only " + Math.max(0, observations) + " daily returns are shared by all "
+                    + "symbols in the last " + properties.getLookbackDays() + " days; at least "
+                    + properties.getMinObservations() + " are needed");
+        }
+
+        double[] lower = new double[n];
+        double[] upper = new double[n];
+        for (int i = 0; i < n; i++) {
+            lower[i] = lowerUnits[i] / (double) UNITS;
+            upper[i] = upperUnits[i] / (double) UNITS;
+        }
+        MeanVarianceOptimizer optimizer = new MeanVarianceOptimizer(n, observations);
+        optimizer.loadReturns(closes, from, to);
+        optimizer.solve(riskAversion(request.getRiskLevel()), lower, upper,
+                properties.getMaxIterations(), properties.getTolerance());
+
+        int[] targets = roundToUnits(optimizer, lowerUnits, upperUnits);
+        List<StrategyResponse.Allocation> allocations = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (targets[i] == 0) {
+                continue;
+            }
+            OptimizeAllocationRequest.SymbolBounds bounds = universe.get(i);
+            allocations.add(StrategyResponse.Allocation.builder()
+                    .symbol(symbols[i])
+                    .targetPercentage(percent(targets[i]))
+                    .minPercentage(bounds.getMinPercentage() != null ? percent(lowerUnits[i]) : null)
+                    .maxPercentage(bounds.getMaxPercentage() != null ? percent(upperUnits[i]) : null)
+                    .build());
+        }
+
+        long elapsed = System.nanoTime() - started;
+        optimizeTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Optimized {} symbols over {} returns for {} risk in {} iterations, {} ms",
+                n, observations, request.getRiskLevel(), optimizer.getIterations(), elapsed / 1_000_000);
+
+        return OptimizeAllocationResponse.builder()
+                .riskLevel(request.getRiskLevel())
+                .periodStart(LocalDate.ofEpochDay(prices.getEpochDays()[from]))
+                .periodEnd(LocalDate.ofEpochDay(prices.getEpochDays()[to]))
+                .observations(observations)
+                .expectedReturn(BigDecimal.valueOf(optimizer.expectedReturn() * 100.0).setScale(2, RoundingMode.HALF_UP))
+                .volatility(BigDecimal.valueOf(optimizer.volatility() * 100.0).setScale(2, RoundingMode.HALF_UP))
+                .shrinkage(BigDecimal.valueOf(optimizer.getShrinkage()).setScale(4, RoundingMode.HALF_UP))
+                .iterations(optimizer.getIterations())
+                .allocations(allocations)
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsed))
+                .build();
+    }
+
+    private double riskAversion(RiskLevel riskLevel) {
+        return switch (riskLevel) {
+            case LOW -> properties.getLowRiskAversion();
+            case MEDIUM -> properties.getMediumRiskAversion();
+            case HIGH -> properties.getHighRiskAversion();
+        };
+    }
+
+    /**
+     * Largest-remainder rounding of the weights to hundredths of a percent:
+     * floor each weight, then hand the leftover units to the largest
+     * fractional parts. Bounds are already on that grid, so flooring a weight
+     * inside them keeps it inside.
+     */
+    private static int[] roundToUnits(MeanVarianceOptimizer optimizer, int[] lowerUnits, int[] upperUnits) {
+        int n = lowerUnits.length;
+        int[] units = new int[n];
+        double[] remainders = new double[n];
+        int total = 0;
+        for (int i = 0; i < n; i++) {
+            double exact = optimizer.weight(i) * UNITS;
+            int floor = (int) Math.floor(exact + 1e-9);
+            units[i] = Math.max(lowerUnits[i], Math.min(upperUnits[i], floor));
+            remainders[i] = exact - units[i];
+            total += units[i];
+        }
+        while (total != UNITS) {
+            boolean add = total < UNITS;
+            int best = -1;
+            for (int i = 0; i < n; i++) {
+                boolean movable = add ? units[i] < upperUnits[i] : units[i] > lowerUnits[i];
+                if (movable && (best < 0 || (add ? remainders[i] > remainders[best] : remainders[i] < remainders[best]))) {
+                    best = i;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            units[best] += add ? 1 : -1;
+            remainders[best] += add ? -1.0 : 1.0;
+            total += add ? 1 : -1;
+        }
+        return units;
+    }
+
+    private static int units(BigDecimal percentage, double fallback) {
+        double value = percentage != null ? percentage.doubleValue() : fallback;
+        return (int) Math.round(Math.max(0.0, Math.min(100.0, value)) * 100.0);
+    }
+
+    private static BigDecimal percent(int units) {
+        return BigDecimal.valueOf(units, 2);
+    }
+}
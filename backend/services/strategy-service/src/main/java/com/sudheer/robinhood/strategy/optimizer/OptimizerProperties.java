@@ -0,0 +1,45 @@
+package com.sudheer.robinhood.strategy.optimizer;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "strategy.optimizer")
+public class OptimizerProperties {
+
+    /**
+     * Calendar days of price history the covariance matrix is estimated from.
+     */
+    private int lookbackDays = 365;
+
+    /**
+     * Fewest daily returns, over the days every symbol has prices, worth optimizing on.
+     */
+    private int minObservations = 60;
+
+    private int maxSymbols = 500;
+
+    /**
+     * Risk aversion per Strategy.RiskLevel: higher sits further down the
+     * efficient frontier, trading expected return for lower volatility.
+     */
+    private double lowRiskAversion = 12.0;
+
+    private double mediumRiskAversion = 5.0;
+
+    private double highRiskAversion = 2.0;
+
+    /**
+     * Maximum weight for a symbol that sets no maxPercentage.
+     */
+    private double defaultMaxPercentage = 100.0;
+
+    private int maxIterations = 5_000;
+
+    /**
+     * Stop once no weight moves by more than this in an iteration.
+     */
+    private double tolerance = 1e-8;
+}
@@ -0,0 +1,17 @@
+package com.sudheer.robinhood.strategy.queue;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Queue message for a PENDING backtest. The database row is the source of truth;
+ * the message only carries what the dispatcher needs for scheduling.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacktestJob {
+    private Long backtestId;
+    private Long userId;
+}
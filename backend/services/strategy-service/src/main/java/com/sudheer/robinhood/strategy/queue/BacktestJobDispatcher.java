@@ -0,0 +1,159 @@
+package com.sudheer.robinhood.strategy.queue;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fair scheduler in front of a fixed worker pool.
+ *
+ * Jobs are buffered in one FIFO per user and handed out round-robin across
+ * users, so a user who submits a hundred backtests at the close cannot starve
+ * one who submits a single job. At most workerThreads jobs run at once and at
+ * most maxRunningPerUser of them belong to the same user. When capacity jobs
+ * are buffered, submit() blocks, which pushes back on the message listener.
+ */
+@Component
+@Slf4j
+public class BacktestJobDispatcher implements DisposableBean {
+
+    private final BacktestJobRunner runner;
+    private final int workerThreads;
+    private final int maxRunningPerUser;
+    private final int capacity;
+    private final ExecutorService workers;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Map<Long, ArrayDeque<BacktestJob>> pendingByUser = new HashMap<>();
+    private final Map<Long, Integer> runningByUser = new HashMap<>();
+    private final ArrayDeque<Long> readyUsers = new ArrayDeque<>();
+    private final Set<Long> readyUserSet = new HashSet<>();
+    private int buffered;
+    private int running;
+
+    public BacktestJobDispatcher(BacktestJobRunner runner, BacktestQueueProperties properties, MeterRegistry meterRegistry) {
+        this.runner = runner;
+        this.workerThreads = Math.max(1, properties.getWorkerThreads());
+        this.maxRunningPerUser = Math.max(1, properties.getMaxRunningPerUser());
+        this.capacity = Math.max(1, properties.getCapacity());
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerThreads, r -> {
+            Thread thread = new Thread(r, "backtest-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("backtest.jobs.queued", this, BacktestJobDispatcher::queuedCount).register(meterRegistry);
+        Gauge.builder("backtest.jobs.running", this, BacktestJobDispatcher::runningCount).register(meterRegistry);
+    }
+
+    public void submit(BacktestJob job) throws InterruptedException {
+        Long userId = job.getUserId();
+        lock.lockInterruptibly();
+        try {
+            while (buffered >= capacity) {
+                notFull.await();
+            }
+            pendingByUser.computeIfAbsent(userId, id -> new ArrayDeque<>()).addLast(job);
+            buffered++;
+            markReadyIfEligible(userId);
+            drain();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int queuedCount() {
+        lock.lock();
+        try {
+            return buffered;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int runningCount() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Must hold lock
+    private void drain() {
+        while (running < workerThreads && !readyUsers.isEmpty() && !workers.isShutdown()) {
+            Long userId = readyUsers.pollFirst();
+            readyUserSet.remove(userId);
+
+            ArrayDeque<BacktestJob> queue = pendingByUser.get(userId);
+            BacktestJob job = queue.pollFirst();
+            if (queue.isEmpty()) {
+                pendingByUser.remove(userId);
+            }
+            buffered--;
+            running++;
+            runningByUser.merge(userId, 1, Integer::sum);
+            notFull.signal();
+
+            // Re-queue at the back so other users get the next slot
+            markReadyIfEligible(userId);
+            workers.execute(() -> execute(job));
+        }
+    }
+
+    // Must hold lock
+    private void markReadyIfEligible(Long userId) {
+        if (readyUserSet.contains(userId) || !pendingByUser.containsKey(userId)) {
+            return;
+        }
+        if (runningByUser.getOrDefault(userId, 0) < maxRunningPerUser) {
+            readyUsers.addLast(userId);
+            readyUserSet.add(userId);
+        }
+    }
+
+    private void execute(BacktestJob job) {
+        try {
+            runner.run(job);
+        } catch (RuntimeException e) {
+            log.error("Backtest job {} crashed: {}", job.getBacktestId(), e.getMessage(), e);
+        } finally {
+            lock.lock();
+            try {
+                running--;
+                runningByUser.computeIfPresent(job.getUserId(), (id, count) -> count > 1 ? count - 1 : null);
+                markReadyIfEligible(job.getUserId());
+                drain();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Backtest workers still busy after 30s, interrupting");
+            workers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.sudheer.robinhood.strategy.queue;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds broker messages into the fair dispatcher. Blocks while the dispatcher is full,
+ * so unconsumed jobs stay in RabbitMQ instead of piling up on the heap.
+ * The message is acked once buffered; jobs a dead node had buffered or was
+ * running are queued again by {@link BacktestJobSubmitter}.
+ */
+@Component
+@ConditionalOnProperty(name = "strategy.backtest.queue.transport", havingValue = "rabbit", matchIfMissing = true)
+@RequiredArgsConstructor
+public class BacktestJobListener {
+
+    private final BacktestJobDispatcher dispatcher;
+
+    @RabbitListener(queues = "${strategy.backtest.queue.name}")
+    public void onJob(BacktestJob job) throws InterruptedException {
+        dispatcher.submit(job);
+    }
+}
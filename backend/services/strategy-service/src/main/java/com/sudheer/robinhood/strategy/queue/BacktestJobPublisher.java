@@ -0,0 +1,6 @@
+package com.sudheer.robinhood.strategy.queue;
+
+public interface BacktestJobPublisher {
+
+    void publish(BacktestJob job);
+}
@@ -0,0 +1,37 @@
+package com.sudheer.robinhood.strategy.queue;
+
+import com.sudheer.robinhood.strategy.engine.BacktestResult;
+import com.sudheer.robinhood.strategy.service.BacktestService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drives one backtest through RUNNING to COMPLETED or FAILED.
+ * Status changes are separate transactions so the RUNNING state is visible while the engine works.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BacktestJobRunner {
+
+    private final BacktestService backtestService;
+
+    public void run(BacktestJob job) {
+        Long backtestId = job.getBacktestId();
+
+        // Redelivered or recovered jobs that another worker already claimed are skipped
+        if (!backtestService.markRunning(backtestId)) {
+            log.debug("Backtest {} is no longer PENDING, skipping", backtestId);
+            return;
+        }
+
+        try {
+            BacktestResult result = backtestService.computeBacktest(backtestId);
+            backtestService.completeBacktest(backtestId, result);
+        } catch (RuntimeException e) {
+            log.warn("Backtest {} failed: {}", backtestId, e.getMessage());
+            backtestService.failBacktest(backtestId);
+        }
+    }
+}
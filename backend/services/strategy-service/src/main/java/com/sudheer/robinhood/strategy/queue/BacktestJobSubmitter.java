@@ -0,0 +1,68 @@
+package com.sudheer.robinhood.strategy.queue;
+
+import com.sudheer.robinhood.strategy.lock.ClusterLock;
+import com.sudheer.robinhood.strategy.service.BacktestService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Publishes jobs once the PENDING row is committed, and recovers jobs lost
+ * with a node.
+ *
+ * A message is acked once the dispatcher has buffered it, so a node that dies
+ * loses its buffered jobs (still PENDING) and its running ones (left RUNNING).
+ * At startup, PENDING rows are published again; every reaperInterval, PENDING
+ * rows queued and RUNNING rows started more than staleAfter ago are queued
+ * again. Both run on one node at a time under a cluster lock. A duplicate
+ * message is harmless: only the worker that moves the row out of PENDING runs it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BacktestJobSubmitter {
+
+    private static final String RECOVERY_LOCK = "backtest-recovery";
+
+    private final BacktestJobPublisher publisher;
+    private final BacktestService backtestService;
+    private final BacktestQueueProperties properties;
+    private final ClusterLock clusterLock;
+
+    @TransactionalEventListener
+    public void onBacktestSubmitted(BacktestJob job) {
+        publisher.publish(job);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverPendingJobs() {
+        if (!properties.isRecoverOnStartup()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        requeue(now, now.minus(properties.getStaleAfter()));
+    }
+
+    @Scheduled(fixedDelayString = "${strategy.backtest.queue.reaper-interval-millis:60000}",
+            initialDelayString = "${strategy.backtest.queue.reaper-interval-millis:60000}")
+    public void requeueStaleJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getStaleAfter());
+        requeue(cutoff, cutoff);
+    }
+
+    private void requeue(LocalDateTime queuedBefore, LocalDateTime startedBefore) {
+        try {
+            clusterLock.callExclusively(RECOVERY_LOCK, () -> backtestService.requeueStale(queuedBefore, startedBefore))
+                    .filter(count -> count > 0)
+                    .ifPresent(count -> log.info("Re-queued {} stale backtests", count));
+        } catch (RuntimeException e) {
+            log.warn("Backtest recovery failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.sudheer.robinhood.strategy.queue;
+
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "strategy.backtest.queue.transport", havingValue = "rabbit", matchIfMissing = true)
+public class BacktestQueueConfig {
+
+    @Bean
+    public Queue backtestJobQueue(BacktestQueueProperties properties) {
+        return QueueBuilder.durable(properties.getName()).build();
+    }
+}
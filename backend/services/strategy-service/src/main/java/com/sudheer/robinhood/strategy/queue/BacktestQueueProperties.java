@@ -0,0 +1,45 @@
+package com.sudheer.robinhood.strategy.queue;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "strategy.backtest.queue")
+public class BacktestQueueProperties {
+
+    /**
+     * "rabbit" to publish through RabbitMQ, "in-memory" to hand jobs straight to the local dispatcher.
+     */
+    private String transport = "rabbit";
+
+    private String name = "strategy.backtest.jobs";
+
+    /**
+     * Maximum backtests running at once on this node.
+     */
+    private int workerThreads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Maximum backtests running at once for a single user, so one user's burst cannot fill every worker.
+     */
+    private int maxRunningPerUser = 1;
+
+    /**
+     * Jobs buffered in the dispatcher before intake blocks.
+     */
+    private int capacity = 1000;
+
+    private boolean recoverOnStartup = true;
+
+    /**
+     * A PENDING job queued, or a RUNNING job started, longer ago than this is
+     * taken as lost and queued again. Must exceed the longest backtest.
+     */
+    private Duration staleAfter = Duration.ofMinutes(30);
+
+    private long reaperIntervalMillis = 60_000;
+}
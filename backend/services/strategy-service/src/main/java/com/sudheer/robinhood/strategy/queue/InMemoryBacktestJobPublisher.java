@@ -0,0 +1,26 @@
+package com.sudheer.robinhood.strategy.queue;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands jobs straight to the local dispatcher. Used in tests and single-node setups without a broker.
+ */
+@Component
+@ConditionalOnProperty(name = "strategy.backtest.queue.transport", havingValue = "in-memory")
+@RequiredArgsConstructor
+public class InMemoryBacktestJobPublisher implements BacktestJobPublisher {
+
+    private final BacktestJobDispatcher dispatcher;
+
+    @Override
+    public void publish(BacktestJob job) {
+        try {
+            dispatcher.submit(job);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while queueing backtest " + job.getBacktestId(), e);
+        }
+    }
+}
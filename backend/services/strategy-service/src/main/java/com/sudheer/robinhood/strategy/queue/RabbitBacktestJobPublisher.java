@@ -0,0 +1,24 @@
+package com.sudheer.robinhood.strategy.queue;
+
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "strategy.backtest.queue.transport", havingValue = "rabbit", matchIfMissing = true)
+public class RabbitBacktestJobPublisher implements BacktestJobPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String queueName;
+
+    public RabbitBacktestJobPublisher(RabbitTemplate rabbitTemplate, BacktestQueueProperties properties) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.queueName = properties.getName();
+    }
+
+    @Override
+    public void publish(BacktestJob job) {
+        // Default exchange routes by queue name
+        rabbitTemplate.convertAndSend(queueName, job);
+    }
+}
@@ -0,0 +1,132 @@
+package com.sudheer.robinhood.strategy.recommendation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Rolls the daily expires_at partitions of strategies.recommendations forward.
+ *
+ * Each run creates any missing partitions from today to partitionsAheadDays
+ * out, then drops every partition whose rows all expired more than retention
+ * ago. Dropping a partition removes its rows and index entries at once, with
+ * no dead tuples left for vacuum, where a DELETE of the same rows would churn
+ * the whole table. Both steps are idempotent, so several instances may run
+ * them; a drop that cannot get its lock within dropLockTimeout is retried on
+ * the next run.
+ */
+@Component
+@Slf4j
+public class RecommendationPartitionMaintenance {
+
+    private static final String PARTITION_PREFIX = "recommendations_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private static final String PARTITIONS_SQL = """
+            SELECT child.relname
+            FROM pg_inherits i
+            JOIN pg_class child ON child.oid = i.inhrelid
+            JOIN pg_class parent ON parent.oid = i.inhparent
+            JOIN pg_namespace n ON n.oid = parent.relnamespace
+            WHERE n.nspname = 'strategies' AND parent.relname = 'recommendations'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RecommendationProperties properties;
+
+    public RecommendationPartitionMaintenance(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                              RecommendationProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${strategy.recommendations.maintenance-cron:0 5 0 * * *}")
+    public void scheduledMaintenance() {
+        maintain();
+    }
+
+    public void maintain() {
+        try {
+            LocalDate today = LocalDate.now();
+            int created = createAhead(today);
+            int dropped = dropExpired(today);
+            if (created > 0 || dropped > 0) {
+                log.info("Recommendation partitions: created {}, dropped {}", created, dropped);
+            }
+        } catch (DataAccessException e) {
+            log.error("Recommendation partition maintenance failed", e);
+        }
+    }
+
+    private int createAhead(LocalDate today) {
+        List<String> existing = partitions();
+        int created = 0;
+        for (int offset = 0; offset <= properties.getPartitionsAheadDays(); offset++) {
+            LocalDate day = today.plusDays(offset);
+            String name = PARTITION_PREFIX + SUFFIX.format(day);
+            if (existing.contains(name)) {
+                continue;
+            }
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS strategies." + name
+                    + " PARTITION OF strategies.recommendations FOR VALUES FROM ('" + day + "') TO ('"
+                    + day.plusDays(1) + "')");
+            created++;
+        }
+        return created;
+    }
+
+    private int dropExpired(LocalDate today) {
+        // A partition's rows expire before its upper bound, the day after its suffix
+        LocalDate cutoff = today.minusDays(Math.max(0, properties.getRetention().toDays()));
+        String lockTimeout = "SET LOCAL lock_timeout = '" + Math.max(1, properties.getDropLockTimeout().toMillis()) + "ms'";
+        int dropped = 0;
+        for (String name : partitions()) {
+            LocalDate day = partitionDay(name);
+            if (day == null || day.plusDays(1).isAfter(cutoff)) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.execute(lockTimeout);
+                    jdbcTemplate.execute("DROP TABLE IF EXISTS strategies." + name);
+                });
+                dropped++;
+            } catch (DataAccessException e) {
+                log.warn("Could not drop {} this run: {}", name, e.getMessage());
+            }
+        }
+        return dropped;
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList(PARTITIONS_SQL, String.class);
+    }
+
+    private static LocalDate partitionDay(String name) {
+        if (!name.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(name.substring(PARTITION_PREFIX.length()), SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.sudheer.robinhood.strategy.recommendation;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "strategy.recommendations")
+public class RecommendationProperties {
+
+    private int defaultPageSize = 20;
+
+    private int maxPageSize = 100;
+
+    /**
+     * Ids per UPDATE when acting on recommendations in bulk.
+     */
+    private int actBatchSize = 1000;
+
+    private String maintenanceCron = "0 5 0 * * *";
+
+    /**
+     * Daily partitions kept created ahead of today. No row may expire further
+     * out than this, as there is no default partition to catch it.
+     */
+    private int partitionsAheadDays = 35;
+
+    /**
+     * How long expired recommendations stay readable (includeExpired=true)
+     * before their partition is dropped.
+     */
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * Longest a partition drop waits for the table lock before giving up
+     * until the next run, so it never queues readers behind it.
+     */
+    private Duration dropLockTimeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,48 @@
+package com.sudheer.robinhood.strategy.repository;
+
+import com.sudheer.robinhood.strategy.model.Backtest;
+import com.sudheer.robinhood.strategy.model.Backtest.BacktestStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface BacktestRepository extends JpaRepository<Backtest, Long> {
+
+    List<Backtest> findByStrategyIdOrderByCreatedAtDesc(Long strategyId);
+
+    /**
+     * Atomically moves a PENDING backtest to RUNNING; returns 0 if it was no longer PENDING.
+     */
+    @Modifying
+    @Query("UPDATE Backtest b SET b.status = :running, b.startedAt = :now WHERE b.id = :id AND b.status = :pending")
+    int claim(@Param("id") Long id, @Param("pending") BacktestStatus pending, @Param("running") BacktestStatus running,
+              @Param("now") LocalDateTime now);
+
+    /**
+     * PENDING rows queued before queuedBefore and RUNNING rows started before startedBefore.
+     */
+    @Query("SELECT b.id, b.strategy.userId FROM Backtest b "
+            + "WHERE (b.status = :pending AND (b.queuedAt IS NULL OR b.queuedAt < :queuedBefore)) "
+            + "OR (b.status = :running AND (b.startedAt IS NULL OR b.startedAt < :startedBefore)) "
+            + "ORDER BY b.id")
+    List<Object[]> findStale(@Param("pending") BacktestStatus pending, @Param("running") BacktestStatus running,
+                             @Param("queuedBefore") LocalDateTime queuedBefore,
+                             @Param("startedBefore") LocalDateTime startedBefore);
+
+    /**
+     * Puts the given rows back to PENDING, re-checking staleness so a job claimed meanwhile is left alone.
+     */
+    @Modifying
+    @Query("UPDATE Backtest b SET b.status = :pending, b.startedAt = NULL, b.queuedAt = :now "
+            + "WHERE b.id IN :ids AND ((b.status = :pending AND (b.queuedAt IS NULL OR b.queuedAt < :queuedBefore)) "
+            + "OR (b.status = :running AND (b.startedAt IS NULL OR b.startedAt < :startedBefore)))")
+    int requeue(@Param("ids") List<Long> ids, @Param("pending") BacktestStatus pending,
+                @Param("running") BacktestStatus running, @Param("queuedBefore") LocalDateTime queuedBefore,
+                @Param("startedBefore") LocalDateTime startedBefore, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,138 @@
+package com.sudheer.robinhood.strategy.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ObjDoubleConsumer;
+
+/**
+ * Plain JDBC access to portfolios.holdings for mark-to-market. Live prices are
+ * written back set-based, one UPDATE per batch of symbols, rather than row by row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PortfolioHoldingsRepository {
+
+    private static final String PORTFOLIO_SQL = """
+            SELECT id, cash_balance FROM portfolios.portfolios WHERE id = ?
+            """;
+
+    private static final String HOLDINGS_SQL = """
+            SELECT symbol, quantity, average_cost, current_price
+            FROM portfolios.holdings
+            WHERE portfolio_id = ?
+            ORDER BY symbol
+            """;
+
+    private static final String HELD_SYMBOLS_SQL = """
+            SELECT symbol, MAX(current_price) AS current_price
+            FROM portfolios.holdings
+            GROUP BY symbol
+            """;
+
+    private static final String UPDATE_PRICES_SQL = """
+            WITH changed AS (
+            UPDATE portfolios.holdings h
+            SET current_price = q.price,
+                current_value = ROUND(h.quantity * q.price, 2),
+                unrealized_gain_loss = ROUND(h.quantity * (q.price - h.average_cost), 2),
+                unrealized_gain_loss_percentage = CASE WHEN h.average_cost > 0
+                    THEN ROUND((q.price - h.average_cost) / h.average_cost * 100, 4) END,
+                updated_at = CURRENT_TIMESTAMP
+            FROM (
+                SELECT t.symbol, ROUND(t.price::numeric, 2) AS price
+                FROM unnest(?::varchar[], ?::float8[]) AS t(symbol, price)
+            ) q
+            WHERE h.symbol = q.symbol
+              AND h.current_price IS DISTINCT FROM q.price
+            RETURNING h.portfolio_id
+            )
+            SELECT DISTINCT portfolio_id FROM changed
+            """;
+
+    private static final String UPDATE_TOTALS_SQL = """
+            UPDATE portfolios.portfolios p
+            SET total_value = p.cash_balance + v.market_value,
+                updated_at = CURRENT_TIMESTAMP
+            FROM (
+                SELECT portfolio_id, COALESCE(SUM(current_value), 0) AS market_value
+                FROM portfolios.holdings
+                WHERE portfolio_id = ANY(?::bigint[])
+                GROUP BY portfolio_id
+            ) v
+            WHERE p.id = v.portfolio_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<Double> findCashBalance(long portfolioId) {
+        return jdbcTemplate.query(PORTFOLIO_SQL, (rs, rowNum) -> rs.getDouble("cash_balance"), portfolioId)
+                .stream()
+                .findFirst();
+    }
+
+    public List<HoldingRow> findHoldings(long portfolioId) {
+        return jdbcTemplate.query(HOLDINGS_SQL, (rs, rowNum) -> {
+            double price = rs.getDouble("current_price");
+            if (rs.wasNull()) {
+                price = Double.NaN;
+            }
+            return new HoldingRow(rs.getString("symbol"), rs.getDouble("quantity"), rs.getDouble("average_cost"), price);
+        }, portfolioId);
+    }
+
+    /**
+     * Every held symbol with its last stored price (NaN if never priced).
+     */
+    public void forEachHeldSymbol(ObjDoubleConsumer<String> consumer) {
+        jdbcTemplate.query(HELD_SYMBOLS_SQL, rs -> {
+            double price = rs.getDouble("current_price");
+            consumer.accept(rs.getString("symbol"), rs.wasNull() ? Double.NaN : price);
+        });
+    }
+
+    /**
+     * Writes prices [0, count) to every holding of those symbols and recomputes
+     * current value and unrealized P&L in the same statement. Adds the ids of
+     * the portfolios with a changed holding to changedPortfolios.
+     */
+    public void updatePrices(String[] symbols, double[] prices, int count, Set<Long> changedPortfolios) {
+        String[] batchSymbols = Arrays.copyOf(symbols, count);
+        Double[] batchPrices = new Double[count];
+        for (int i = 0; i < count; i++) {
+            batchPrices[i] = prices[i];
+        }
+        jdbcTemplate.query(UPDATE_PRICES_SQL, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("varchar", batchSymbols));
+            ps.setArray(2, ps.getConnection().createArrayOf("float8", batchPrices));
+        }, rs -> {
+            changedPortfolios.add(rs.getLong("portfolio_id"));
+        });
+    }
+
+    /**
+     * Recomputes total_value for the given portfolios. Returns rows changed.
+     */
+    public int updatePortfolioTotals(Collection<Long> portfolioIds) {
+        Long[] ids = portfolioIds.toArray(new Long[0]);
+        return jdbcTemplate.update(UPDATE_TOTALS_SQL, ps ->
+                ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)));
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class HoldingRow {
+        private String symbol;
+        private double quantity;
+        private double averageCost;
+        private double currentPrice;
+    }
+}
@@ -0,0 +1,131 @@
+package com.sudheer.robinhood.strategy.repository;
+
+import com.sudheer.robinhood.strategy.model.Strategy.RebalanceFrequency;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain JDBC access to the portfolios schema for the rebalance planner.
+ * Portfolios are read in keyset pages and events are written with one
+ * multi-row INSERT per page, so a sweep never holds more than one page in memory.
+ * The INSERT skips portfolios that already have a PENDING event for the day,
+ * so a re-run or a second node never plans the same rebalance twice.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PortfolioRebalanceRepository {
+
+    // Each portfolio follows its owner's most recently updated active strategy; the portfolio
+    // is in this sweep only if that strategy has the given frequency
+    private static final String PORTFOLIO_PAGE_SQL = """
+            SELECT p.id, p.cash_balance, s.id AS strategy_id
+            FROM portfolios.portfolios p
+            JOIN LATERAL (
+                SELECT st.id, st.rebalance_frequency FROM strategies.strategies st
+                WHERE st.user_id = p.user_id AND st.is_active = true
+                ORDER BY st.updated_at DESC NULLS LAST, st.id DESC
+                LIMIT 1
+            ) s ON true
+            WHERE s.rebalance_frequency = ? AND p.id > ?
+            ORDER BY p.id
+            LIMIT ?
+            """;
+
+    private static final String HOLDINGS_SQL = """
+            SELECT portfolio_id, symbol, quantity, current_price
+            FROM portfolios.holdings
+            WHERE portfolio_id = ANY(?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<PortfolioRow> findPortfolioPage(RebalanceFrequency frequency, long afterId, int limit) {
+        return jdbcTemplate.query(PORTFOLIO_PAGE_SQL,
+                (rs, rowNum) -> new PortfolioRow(rs.getLong("id"), rs.getDouble("cash_balance"), rs.getLong("strategy_id")),
+                frequency.name(), afterId, limit);
+    }
+
+    public Map<Long, List<HoldingRow>> findHoldings(List<Long> portfolioIds) {
+        Map<Long, List<HoldingRow>> holdings = new HashMap<>();
+        if (portfolioIds.isEmpty()) {
+            return holdings;
+        }
+        jdbcTemplate.query(HOLDINGS_SQL, ps -> {
+            Array ids = ps.getConnection().createArrayOf("bigint", portfolioIds.toArray());
+            ps.setArray(1, ids);
+        }, rs -> {
+            double price = rs.getDouble("current_price");
+            if (rs.wasNull()) {
+                price = Double.NaN;
+            }
+            holdings.computeIfAbsent(rs.getLong("portfolio_id"), id -> new ArrayList<>())
+                    .add(new HoldingRow(rs.getString("symbol"), rs.getDouble("quantity"), price));
+        });
+        return holdings;
+    }
+
+    /**
+     * Inserts one PENDING rebalancing_events row per plan in a single statement.
+     * Returns the generated event id keyed by portfolio id; portfolios that
+     * already had a PENDING event planned on that day are left out.
+     */
+    public Map<Long, Long> insertRebalancingEvents(List<EventRow> events, LocalDate plannedOn) {
+        if (events.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        StringBuilder sql = new StringBuilder("INSERT INTO portfolios.rebalancing_events "
+                + "(portfolio_id, strategy_id, status, total_trades_planned, planned_on) VALUES ");
+        Object[] args = new Object[events.size() * 4];
+        for (int i = 0; i < events.size(); i++) {
+            EventRow event = events.get(i);
+            sql.append(i == 0 ? "(?, ?, 'PENDING', ?, ?)" : ", (?, ?, 'PENDING', ?, ?)");
+            args[i * 4] = event.getPortfolioId();
+            args[i * 4 + 1] = event.getStrategyId();
+            args[i * 4 + 2] = event.getTotalTradesPlanned();
+            args[i * 4 + 3] = plannedOn;
+        }
+        sql.append(" ON CONFLICT (portfolio_id, planned_on) WHERE status = 'PENDING' DO NOTHING");
+        sql.append(" RETURNING id, portfolio_id");
+
+        Map<Long, Long> ids = new HashMap<>();
+        jdbcTemplate.query(sql.toString(), rs -> {
+            ids.put(rs.getLong("portfolio_id"), rs.getLong("id"));
+        }, args);
+        return ids;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class PortfolioRow {
+        private long portfolioId;
+        private double cashBalance;
+        private long strategyId;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class HoldingRow {
+        private String symbol;
+        private double quantity;
+        private double currentPrice;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class EventRow {
+        private long portfolioId;
+        private long strategyId;
+        private int totalTradesPlanned;
+    }
+}
@@ -0,0 +1,93 @@
+package com.sudheer.robinhood.strategy.repository;
+
+import com.sudheer.robinhood.strategy.dto.RecommendationResponse;
+import com.sudheer.robinhood.strategy.model.Recommendation.RecommendationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Plain JDBC access to a user's recommendation feed.
+ *
+ * Pages are keyset-paginated on (user_id, created_at, id), which the
+ * idx_recommendations_user_feed index serves in order: every page is one
+ * index range scan of limit rows, however much history the user has, where
+ * OFFSET would read and discard every earlier row. The expires_at bound lets
+ * the planner skip expired partitions entirely.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecommendationFeedRepository {
+
+    private static final String COLUMNS = """
+            SELECT id, strategy_id, recommendation_type, symbol, confidence_score, reasoning,
+                is_acted_upon, created_at, expires_at
+            FROM strategies.recommendations
+            """;
+
+    private static final String FIRST_PAGE_SQL = COLUMNS + """
+            WHERE user_id = ? AND expires_at > ?
+            ORDER BY created_at DESC, id DESC
+            LIMIT ?
+            """;
+
+    private static final String NEXT_PAGE_SQL = COLUMNS + """
+            WHERE user_id = ? AND expires_at > ? AND (created_at, id) < (?, ?)
+            ORDER BY created_at DESC, id DESC
+            LIMIT ?
+            """;
+
+    private static final String MARK_ACTED_UPON_SQL = """
+            UPDATE strategies.recommendations
+            SET is_acted_upon = true
+            WHERE user_id = ? AND id = ANY(?) AND is_acted_upon = false AND expires_at > ?
+            """;
+
+    private static final RowMapper<RecommendationResponse> ROW_MAPPER = (rs, rowNum) -> {
+        long strategyId = rs.getLong("strategy_id");
+        return RecommendationResponse.builder()
+                .id(rs.getLong("id"))
+                .strategyId(rs.wasNull() ? null : strategyId)
+                .recommendationType(RecommendationType.valueOf(rs.getString("recommendation_type")))
+                .symbol(rs.getString("symbol"))
+                .confidenceScore(rs.getBigDecimal("confidence_score"))
+                .reasoning(rs.getString("reasoning"))
+                .isActedUpon(rs.getBoolean("is_acted_upon"))
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .expiresAt(rs.getTimestamp("expires_at").toLocalDateTime())
+                .build();
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Newest first, excluding rows that expired at or before expiresAfter.
+     * afterCreatedAt and afterId are the last row of the previous page, or
+     * null for the first page.
+     */
+    public List<RecommendationResponse> findPage(long userId, LocalDateTime expiresAfter,
+                                                 LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        if (afterCreatedAt == null || afterId == null) {
+            return jdbcTemplate.query(FIRST_PAGE_SQL, ROW_MAPPER, userId, Timestamp.valueOf(expiresAfter), limit);
+        }
+        return jdbcTemplate.query(NEXT_PAGE_SQL, ROW_MAPPER, userId, Timestamp.valueOf(expiresAfter),
+                Timestamp.valueOf(afterCreatedAt), afterId, limit);
+    }
+
+    /**
+     * Marks the user's open, unexpired recommendations among ids as acted
+     * upon in one statement. Returns the number of rows changed.
+     */
+    public int markActedUpon(long userId, Long[] ids, LocalDateTime now) {
+        return jdbcTemplate.update(MARK_ACTED_UPON_SQL, ps -> {
+            ps.setLong(1, userId);
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", ids));
+            ps.setTimestamp(3, Timestamp.valueOf(now));
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package com.sudheer.robinhood.strategy.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+/**
+ * Turns a batch of per-symbol signals into Recommendation rows in one
+ * statement. Each signal joins to every active strategy of its family that
+ * allocates to the symbol, so the fan-out to users happens in the database
+ * rather than as a query per signal. A strategy that already has an open,
+ * unexpired recommendation of the same type for the symbol gets no duplicate,
+ * and within a batch only the latest such signal is kept. A signal for a bar
+ * day that already produced a recommendation, acted upon or not, is dropped
+ * by the unique index on signal_day, so re-scanned bars and concurrent scans
+ * write nothing twice. Signals already past their expiry are skipped.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecommendationSignalRepository {
+
+    private static final String INSERT_FOR_HOLDERS_SQL = """
+            INSERT INTO strategies.recommendations (user_id, strategy_id, recommendation_type, symbol,
+                confidence_score, reasoning, is_acted_upon, created_at, signal_day, expires_at)
+            SELECT DISTINCT ON (s.id, sig.symbol, sig.type)
+                s.user_id, s.id, sig.type, sig.symbol, sig.confidence, sig.reasoning, false,
+                CURRENT_TIMESTAMP, sig.signal_day, sig.expires_at
+            FROM unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::numeric[], ?::text[], ?::date[], ?::timestamp[])
+                WITH ORDINALITY AS sig(symbol, family, type, confidence, reasoning, signal_day, expires_at, position)
+            JOIN strategies.strategy_allocations a ON a.symbol = sig.symbol
+            JOIN strategies.strategies s ON s.id = a.strategy_id
+                AND s.is_active = true
+                AND s.strategy_type = sig.family
+            WHERE sig.expires_at > CURRENT_TIMESTAMP
+              AND NOT EXISTS (
+                SELECT 1 FROM strategies.recommendations r
+                WHERE r.strategy_id = s.id
+                  AND r.symbol = sig.symbol
+                  AND r.recommendation_type = sig.type
+                  AND r.is_acted_upon = false
+                  AND r.expires_at > CURRENT_TIMESTAMP
+            )
+            ORDER BY s.id, sig.symbol, sig.type, sig.position DESC
+            ON CONFLICT (strategy_id, symbol, recommendation_type, signal_day, expires_at) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts recommendations for signals [0, count); returns rows created.
+     */
+    public int insertForHolders(String[] symbols, String[] families, String[] types, BigDecimal[] confidences,
+                                String[] reasonings, Date[] signalDays, Timestamp[] expiresAt, int count) {
+        String[] batchSymbols = Arrays.copyOf(symbols, count);
+        String[] batchFamilies = Arrays.copyOf(families, count);
+        String[] batchTypes = Arrays.copyOf(types, count);
+        BigDecimal[] batchConfidences = Arrays.copyOf(confidences, count);
+        String[] batchReasonings = Arrays.copyOf(reasonings, count);
+        Date[] batchSignalDays = Arrays.copyOf(signalDays, count);
+        Timestamp[] batchExpiresAt = Arrays.copyOf(expiresAt, count);
+        return jdbcTemplate.update(INSERT_FOR_HOLDERS_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("varchar", batchSymbols));
+            ps.setArray(2, connection.createArrayOf("varchar", batchFamilies));
+            ps.setArray(3, connection.createArrayOf("varchar", batchTypes));
+            ps.setArray(4, connection.createArrayOf("numeric", batchConfidences));
+            ps.setArray(5, connection.createArrayOf("text", batchReasonings));
+            ps.setArray(6, connection.createArrayOf("date", batchSignalDays));
+            ps.setArray(7, connection.createArrayOf("timestamp", batchExpiresAt));
+        });
+    }
+}
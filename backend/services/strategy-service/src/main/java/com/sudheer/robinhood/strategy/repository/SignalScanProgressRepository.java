@@ -0,0 +1,69 @@
+package com.sudheer.robinhood.strategy.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The last bar day the signal engine has written signals through, per symbol.
+ * Shared by every node, so a restarted node or one that did not see an import
+ * raises no signal for a bar another scan already covered.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SignalScanProgressRepository {
+
+    private static final String FIND_SQL = """
+            SELECT symbol, scanned_through FROM strategies.signal_scan_progress WHERE symbol = ANY(?::varchar[])
+            """;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO strategies.signal_scan_progress AS p (symbol, scanned_through)
+            SELECT * FROM unnest(?::varchar[], ?::date[])
+            ON CONFLICT (symbol) DO UPDATE
+                SET scanned_through = GREATEST(p.scanned_through, EXCLUDED.scanned_through),
+                    updated_at = CURRENT_TIMESTAMP
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Epoch day each of the symbols was scanned through; symbols never scanned are absent.
+     */
+    public Map<String, Integer> findScannedThrough(Collection<String> symbols) {
+        Map<String, Integer> scannedThrough = new HashMap<>();
+        if (symbols.isEmpty()) {
+            return scannedThrough;
+        }
+        String[] batchSymbols = symbols.toArray(new String[0]);
+        jdbcTemplate.query(FIND_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", batchSymbols)),
+                rs -> {
+                    scannedThrough.put(rs.getString("symbol"), (int) rs.getDate("scanned_through").toLocalDate().toEpochDay());
+                });
+        return scannedThrough;
+    }
+
+    /**
+     * Moves each symbol's progress forward to its day; never moves it back.
+     */
+    public void saveScannedThrough(List<String> symbols, List<Date> days) {
+        if (symbols.isEmpty()) {
+            return;
+        }
+        String[] batchSymbols = symbols.toArray(new String[0]);
+        Date[] batchDays = days.toArray(new Date[0]);
+        jdbcTemplate.update(UPSERT_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("varchar", batchSymbols));
+            ps.setArray(2, connection.createArrayOf("date", batchDays));
+        });
+    }
+}
@@ -0,0 +1,13 @@
+package com.sudheer.robinhood.strategy.repository;
+
+import com.sudheer.robinhood.strategy.model.StrategyPerformance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StrategyPerformanceRepository extends JpaRepository<StrategyPerformance, Long> {
+
+    List<StrategyPerformance> findByStrategyIdOrderByPeriodEndDesc(Long strategyId);
+}
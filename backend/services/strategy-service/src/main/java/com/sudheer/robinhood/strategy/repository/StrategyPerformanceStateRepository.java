@@ -0,0 +1,9 @@
+package com.sudheer.robinhood.strategy.repository;
+
+import com.sudheer.robinhood.strategy.model.StrategyPerformanceState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StrategyPerformanceStateRepository extends JpaRepository<StrategyPerformanceState, Long> {
+}
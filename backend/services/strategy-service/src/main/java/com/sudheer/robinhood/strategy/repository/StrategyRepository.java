@@ -0,0 +1,31 @@
+package com.sudheer.robinhood.strategy.repository;
+
+import com.sudheer.robinhood.strategy.model.Strategy;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StrategyRepository extends JpaRepository<Strategy, Long> {
+
+    @Query("SELECT s FROM Strategy s LEFT JOIN FETCH s.allocations WHERE s.id = :id")
+    Optional<Strategy> findWithAllocationsById(@Param("id") Long id);
+
+    /**
+     * Keyset page of active strategy ids after the given id.
+     */
+    @Query("SELECT s.id FROM Strategy s WHERE s.isActive = true AND s.id > :afterId ORDER BY s.id")
+    List<Long> findActiveIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT DISTINCT s FROM Strategy s LEFT JOIN FETCH s.allocations WHERE s.id IN :ids")
+    List<Strategy> findWithAllocationsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT DISTINCT s FROM Strategy s LEFT JOIN FETCH s.allocations WHERE s.userId = :userId ORDER BY s.id")
+    List<Strategy> findWithAllocationsByUserId(@Param("userId") Long userId);
+}
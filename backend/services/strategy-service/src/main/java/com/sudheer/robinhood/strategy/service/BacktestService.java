@@ -0,0 +1,206 @@
+package com.sudheer.robinhood.strategy.service;
+
+import com.sudheer.robinhood.strategy.dto.BacktestRequest;
+import com.sudheer.robinhood.strategy.dto.BacktestResponse;
+import com.sudheer.robinhood.strategy.engine.BacktestEngine;
+import com.sudheer.robinhood.strategy.engine.BacktestParameters;
+import com.sudheer.robinhood.strategy.engine.BacktestResult;
+import com.sudheer.robinhood.strategy.engine.PriceMatrix;
+import com.sudheer.robinhood.strategy.marketdata.PriceHistoryProvider;
+import com.sudheer.robinhood.strategy.marketdata.PriceSeries;
+import com.sudheer.robinhood.strategy.model.Backtest;
+import com.sudheer.robinhood.strategy.model.Backtest.BacktestStatus;
+import com.sudheer.robinhood.strategy.model.Strategy;
+import com.sudheer.robinhood.strategy.model.StrategyAllocation;
+import com.sudheer.robinhood.strategy.queue.BacktestJob;
+import com.sudheer.robinhood.strategy.repository.BacktestRepository;
+import com.sudheer.robinhood.strategy.repository.StrategyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BacktestService {
+
+    private final StrategyRepository strategyRepository;
+    private final BacktestRepository backtestRepository;
+    private final PriceHistoryProvider priceHistoryProvider;
+    private final BacktestEngine backtestEngine;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Records a PENDING backtest and queues it once the transaction commits.
+     * The engine runs later on a backtest worker, never on the request thread.
+     */
+    @Transactional
+    public BacktestResponse submitBacktest(Long strategyId, BacktestRequest request) {
+        if (request.getEndDate().isBefore(request.getStartDate())) {
+            throw new RuntimeException("End date must not be before start date");
+        }
+
+        Strategy strategy = strategyRepository.findById(Objects.requireNonNull(strategyId))
+                .orElseThrow(() -> new RuntimeException("Strategy not found"));
+
+        Backtest backtest = Backtest.builder()
+                .strategy(strategy)
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .initialCapital(request.getInitialCapital())
+                .status(BacktestStatus.PENDING)
+                .queuedAt(LocalDateTime.now())
+                .build();
+        backtest = backtestRepository.save(backtest);
+
+        eventPublisher.publishEvent(new BacktestJob(backtest.getId(), strategy.getUserId()));
+        log.info("Backtest {} queued for strategy {}", backtest.getId(), strategyId);
+
+        return toResponse(backtest);
+    }
+
+    @Transactional
+    public boolean markRunning(Long backtestId) {
+        return backtestRepository.claim(backtestId, BacktestStatus.PENDING, BacktestStatus.RUNNING,
+                LocalDateTime.now()) == 1;
+    }
+
+    @Transactional(readOnly = true)
+    public BacktestResult computeBacktest(Long backtestId) {
+        Backtest backtest = backtestRepository.findById(Objects.requireNonNull(backtestId))
+                .orElseThrow(() -> new RuntimeException("Backtest not found"));
+        Strategy strategy = strategyRepository.findWithAllocationsById(backtest.getStrategy().getId())
+                .orElseThrow(() -> new RuntimeException("Strategy not found"));
+        return execute(strategy, backtest);
+    }
+
+    @Transactional
+    public void completeBacktest(Long backtestId, BacktestResult result) {
+        Backtest backtest = backtestRepository.findById(Objects.requireNonNull(backtestId))
+                .orElseThrow(() -> new RuntimeException("Backtest not found"));
+        applyResult(backtest, result);
+        backtestRepository.save(backtest);
+        log.info("Backtest {} completed: return={}%, sharpe={}",
+                backtestId, backtest.getTotalReturn(), backtest.getSharpeRatio());
+    }
+
+    @Transactional
+    public void failBacktest(Long backtestId) {
+        backtestRepository.findById(Objects.requireNonNull(backtestId)).ifPresent(backtest -> {
+            backtest.setStatus(BacktestStatus.FAILED);
+            backtest.setCompletedAt(LocalDateTime.now());
+            backtestRepository.save(backtest);
+        });
+    }
+
+    /**
+     * Queues again the PENDING backtests last queued before queuedBefore, whose
+     * message may have been lost with a node's dispatcher buffer, and resets to
+     * PENDING the RUNNING ones started before startedBefore, whose worker is
+     * presumed dead. Jobs are published once the transaction commits.
+     */
+    @Transactional
+    public int requeueStale(LocalDateTime queuedBefore, LocalDateTime startedBefore) {
+        List<Object[]> stale = backtestRepository.findStale(BacktestStatus.PENDING, BacktestStatus.RUNNING,
+                queuedBefore, startedBefore);
+        if (stale.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = stale.stream().map(row -> (Long) row[0]).collect(Collectors.toList());
+        backtestRepository.requeue(ids, BacktestStatus.PENDING, BacktestStatus.RUNNING,
+                queuedBefore, startedBefore, LocalDateTime.now());
+        // A job claimed in between is skipped by the worker, which only runs PENDING rows
+        stale.forEach(row -> eventPublisher.publishEvent(new BacktestJob((Long) row[0], (Long) row[1])));
+        return stale.size();
+    }
+
+    @Transactional(readOnly = true)
+    public BacktestResponse getBacktest(Long backtestId) {
+        Backtest backtest = backtestRepository.findById(Objects.requireNonNull(backtestId))
+                .orElseThrow(() -> new RuntimeException("Backtest not found"));
+        return toResponse(backtest);
+    }
+
+    @Transactional(readOnly = true)
+    public List<BacktestResponse> getBacktestsForStrategy(Long strategyId) {
+        return backtestRepository.findByStrategyIdOrderByCreatedAtDesc(strategyId).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Loads price history for the strategy's symbols and replays the allocation over it.
+     */
+    BacktestResult execute(Strategy strategy, Backtest backtest) {
+        List<StrategyAllocation> allocations = strategy.getAllocations();
+        if (allocations.isEmpty()) {
+            throw new RuntimeException("Strategy has no allocations");
+        }
+
+        List<String> symbols = allocations.stream()
+                .map(StrategyAllocation::getSymbol)
+                .distinct()
+                .collect(Collectors.toList());
+        PriceMatrix prices = loadPriceMatrix(symbols, backtest.getStartDate(), backtest.getEndDate());
+
+        BacktestParameters params = BacktestParameters.of(
+                allocations,
+                prices,
+                strategy.getRebalanceFrequency(),
+                backtest.getInitialCapital().doubleValue(),
+                prices.firstIndexOnOrAfter((int) backtest.getStartDate().toEpochDay()),
+                prices.lastIndexOnOrBefore((int) backtest.getEndDate().toEpochDay()));
+
+        return backtestEngine.run(prices, params);
+    }
+
+    public PriceMatrix loadPriceMatrix(List<String> symbols, LocalDate start, LocalDate end) {
+        List<PriceSeries> series = new ArrayList<>(symbols.size());
+        for (String symbol : symbols) {
+            series.add(priceHistoryProvider.getCloses(symbol, start, end)
+                    .orElseThrow(() -> new RuntimeException("No price history for " + symbol)));
+        }
+        return PriceMatrix.align(series);
+    }
+
+    static void applyResult(Backtest backtest, BacktestResult result) {
+        backtest.setFinalCapital(BigDecimal.valueOf(result.getFinalCapital()).setScale(2, RoundingMode.HALF_UP));
+        backtest.setTotalReturn(BigDecimal.valueOf(result.getTotalReturn()).setScale(4, RoundingMode.HALF_UP));
+        backtest.setSharpeRatio(BigDecimal.valueOf(result.getSharpeRatio()).setScale(4, RoundingMode.HALF_UP));
+        backtest.setMaxDrawdown(BigDecimal.valueOf(result.getMaxDrawdown()).setScale(4, RoundingMode.HALF_UP));
+        backtest.setTotalTrades(result.getTotalTrades());
+        backtest.setWinningTrades(result.getWinningTrades());
+        backtest.setStatus(BacktestStatus.COMPLETED);
+        backtest.setCompletedAt(LocalDateTime.now());
+    }
+
+    private BacktestResponse toResponse(Backtest backtest) {
+        return BacktestResponse.builder()
+                .backtestId(backtest.getId())
+                .strategyId(backtest.getStrategy().getId())
+                .startDate(backtest.getStartDate())
+                .endDate(backtest.getEndDate())
+                .initialCapital(backtest.getInitialCapital())
+                .finalCapital(backtest.getFinalCapital())
+                .totalReturn(backtest.getTotalReturn())
+                .sharpeRatio(backtest.getSharpeRatio())
+                .maxDrawdown(backtest.getMaxDrawdown())
+                .totalTrades(backtest.getTotalTrades())
+                .winningTrades(backtest.getWinningTrades())
+                .status(backtest.getStatus())
+                .createdAt(backtest.getCreatedAt())
+                .completedAt(backtest.getCompletedAt())
+                .build();
+    }
+}
@@ -0,0 +1,288 @@
+package com.sudheer.robinhood.strategy.service;
+
+import com.sudheer.robinhood.strategy.dto.PortfolioValuationResponse;
+import com.sudheer.robinhood.strategy.dto.QuoteResponse;
+import com.sudheer.robinhood.strategy.lock.ClusterLock;
+import com.sudheer.robinhood.strategy.marketdata.MappedPriceHistoryStore;
+import com.sudheer.robinhood.strategy.marketdata.QuoteBoard;
+import com.sudheer.robinhood.strategy.marketdata.QuoteProperties;
+import com.sudheer.robinhood.strategy.repository.PortfolioHoldingsRepository;
+import com.sudheer.robinhood.strategy.repository.PortfolioHoldingsRepository.HoldingRow;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Values portfolios against the live {@link QuoteBoard}.
+ *
+ * Each portfolio's holdings are read once into primitive arrays with their
+ * quote slots resolved, and kept for holdings-ttl-millis, so a valuation is a
+ * loop over a few arrays with no I/O. At most max-books portfolios are held,
+ * each dropped after book-idle-millis without a valuation or as soon as its
+ * id arrives on the holdings-changed channel. The database never sees individual
+ * ticks: every flush-interval-millis the symbols whose version moved are
+ * written to portfolios.holdings in batched set-based UPDATEs, followed by
+ * one UPDATE of total_value for every portfolio those batches changed. Every
+ * node fires the flush; one of them writes.
+ */
+@Service
+@Slf4j
+public class MarkToMarketService implements MessageListener {
+
+    private static final String FLUSH_LOCK = "quote-flush";
+
+    private final QuoteBoard quoteBoard;
+    private final PortfolioHoldingsRepository holdingsRepository;
+    private final MappedPriceHistoryStore priceStore;
+    private final int flushBatchSize;
+    private final Timer flushTimer;
+
+    private final ClusterLock clusterLock;
+
+    private final Cache<Long, PortfolioBook> books;
+    private final long[] flushedVersions;
+
+    public MarkToMarketService(QuoteBoard quoteBoard, PortfolioHoldingsRepository holdingsRepository,
+                               MappedPriceHistoryStore priceStore, QuoteProperties properties,
+                               ClusterLock clusterLock, MeterRegistry meterRegistry) {
+        this.quoteBoard = quoteBoard;
+        this.holdingsRepository = holdingsRepository;
+        this.priceStore = priceStore;
+        this.clusterLock = clusterLock;
+        this.books = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBooks())
+                .expireAfterWrite(Duration.ofMillis(properties.getHoldingsTtlMillis()))
+                .expireAfterAccess(Duration.ofMillis(properties.getBookIdleMillis()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, books, "portfolio-books");
+        this.flushBatchSize = Math.max(1, properties.getFlushBatchSize());
+        this.flushedVersions = new long[quoteBoard.capacity()];
+        this.flushTimer = Timer.builder("quotes.flush").register(meterRegistry);
+    }
+
+    /**
+     * Registers every held symbol and seeds it from the last stored bar, or
+     * failing that the last price written to holdings.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedQuoteBoard() {
+        long now = System.currentTimeMillis();
+        holdingsRepository.forEachHeldSymbol((symbol, storedPrice) -> seed(quoteBoard.register(symbol), symbol, storedPrice, now));
+        log.info("Quote board seeded with {} held symbols", quoteBoard.size());
+    }
+
+    public QuoteResponse getQuote(String symbol) {
+        int slot = quoteBoard.slot(symbol);
+        double price = quoteBoard.price(slot);
+        if (Double.isNaN(price)) {
+            throw new RuntimeException("No quote for " + symbol);
+        }
+        return QuoteResponse.builder()
+                .symbol(symbol)
+                .price(money(price))
+                .updatedAt(Instant.ofEpochMilli(quoteBoard.updatedAtMillis(slot)))
+                .build();
+    }
+
+    public PortfolioValuationResponse getValuation(Long portfolioId) {
+        PortfolioBook book = book(portfolioId);
+
+        int n = book.slots.length;
+        double marketValue = 0.0;
+        double costBasis = 0.0;
+        List<PortfolioValuationResponse.Holding> holdings = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            int slot = book.slots[i];
+            double price = quoteBoard.price(slot);
+            long pricedAt = quoteBoard.updatedAtMillis(slot);
+            if (Double.isNaN(price)) {
+                price = book.storedPrices[i];
+                pricedAt = book.loadedAtMillis;
+            }
+            double quantity = book.quantities[i];
+            double cost = quantity * book.averageCosts[i];
+            double value = Double.isNaN(price) ? 0.0 : quantity * price;
+            marketValue += value;
+            costBasis += cost;
+
+            holdings.add(PortfolioValuationResponse.Holding.builder()
+                    .symbol(book.symbols[i])
+                    .quantity(BigDecimal.valueOf(quantity))
+                    .averageCost(money(book.averageCosts[i]))
+                    .currentPrice(Double.isNaN(price) ? null : money(price))
+                    .currentValue(money(value))
+                    .unrealizedGainLoss(money(value - cost))
+                    .unrealizedGainLossPercentage(percentage(value - cost, cost))
+                    .priceUpdatedAt(Instant.ofEpochMilli(pricedAt))
+                    .build());
+        }
+
+        return PortfolioValuationResponse.builder()
+                .portfolioId(portfolioId)
+                .cashBalance(money(book.cashBalance))
+                .marketValue(money(marketValue))
+                .totalValue(money(book.cashBalance + marketValue))
+                .costBasis(money(costBasis))
+                .unrealizedGainLoss(money(marketValue - costBasis))
+                .unrealizedGainLossPercentage(percentage(marketValue - costBasis, costBasis))
+                .valuedAt(Instant.now())
+                .holdings(holdings)
+                .build();
+    }
+
+    /**
+     * Writes every symbol that ticked since the last flush back to the database.
+     */
+    @Scheduled(fixedDelayString = "${strategy.quotes.flush-interval-millis:60000}",
+            initialDelayString = "${strategy.quotes.flush-interval-millis:60000}")
+    public void flush() {
+        // The lock also keeps a slow flush on this node from overlapping the next one
+        clusterLock.runExclusively(FLUSH_LOCK, () -> flushTimer.record(this::flushChangedSymbols));
+    }
+
+    private void flushChangedSymbols() {
+        String[] symbols = new String[flushBatchSize];
+        double[] prices = new double[flushBatchSize];
+        long[] versions = new long[flushBatchSize];
+        int[] slots = new int[flushBatchSize];
+        int count = 0;
+        int symbolsWritten = 0;
+        Set<Long> changedPortfolios = new HashSet<>();
+
+        int size = quoteBoard.size();
+        for (int slot = 0; slot < size; slot++) {
+            long version = quoteBoard.version(slot);
+            double price = quoteBoard.price(slot);
+            if (version == flushedVersions[slot] || Double.isNaN(price)) {
+                continue;
+            }
+            symbols[count] = quoteBoard.symbol(slot);
+            prices[count] = price;
+            versions[count] = version;
+            slots[count] = slot;
+            if (++count == flushBatchSize) {
+                writeBatch(symbols, prices, slots, versions, count, changedPortfolios);
+                symbolsWritten += count;
+                count = 0;
+            }
+        }
+        if (count > 0) {
+            writeBatch(symbols, prices, slots, versions, count, changedPortfolios);
+            symbolsWritten += count;
+        }
+        if (!changedPortfolios.isEmpty()) {
+            holdingsRepository.updatePortfolioTotals(changedPortfolios);
+        }
+        if (symbolsWritten > 0) {
+            log.debug("Flushed {} symbols to {} portfolios", symbolsWritten, changedPortfolios.size());
+        }
+    }
+
+    private void writeBatch(String[] symbols, double[] prices, int[] slots, long[] versions, int count,
+                            Set<Long> changedPortfolios) {
+        holdingsRepository.updatePrices(symbols, prices, count, changedPortfolios);
+        for (int i = 0; i < count; i++) {
+            flushedVersions[slots[i]] = versions[i];
+        }
+    }
+
+    /**
+     * Drops the portfolio's in-memory holdings; the next valuation re-reads them.
+     */
+    public void evictBook(long portfolioId) {
+        books.invalidate(portfolioId);
+    }
+
+    /**
+     * A portfolio id published on the holdings-changed channel.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8).trim();
+        try {
+            evictBook(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed holdings change: {}", body);
+        }
+    }
+
+    private PortfolioBook book(Long portfolioId) {
+        // A missing portfolio throws out of the loader and is not cached
+        return books.get(portfolioId, this::loadBook);
+    }
+
+    private PortfolioBook loadBook(Long portfolioId) {
+        long now = System.currentTimeMillis();
+        double cashBalance = holdingsRepository.findCashBalance(portfolioId)
+                .orElseThrow(() -> new RuntimeException("Portfolio not found"));
+        List<HoldingRow> rows = holdingsRepository.findHoldings(portfolioId);
+
+        int n = rows.size();
+        PortfolioBook loaded = new PortfolioBook(cashBalance, new String[n], new int[n], new double[n],
+                new double[n], new double[n], now);
+        for (int i = 0; i < n; i++) {
+            HoldingRow row = rows.get(i);
+            int slot = quoteBoard.register(row.getSymbol());
+            seed(slot, row.getSymbol(), row.getCurrentPrice(), now);
+            loaded.symbols[i] = row.getSymbol();
+            loaded.slots[i] = slot;
+            loaded.quantities[i] = row.getQuantity();
+            loaded.averageCosts[i] = row.getAverageCost();
+            loaded.storedPrices[i] = row.getCurrentPrice();
+        }
+        return loaded;
+    }
+
+    private void seed(int slot, String symbol, double storedPrice, long now) {
+        if (!Double.isNaN(quoteBoard.price(slot))) {
+            return;
+        }
+        double price = priceStore.getColumns(symbol)
+                .filter(columns -> columns.getCount() > 0)
+                .map(columns -> columns.getClose().get(columns.getCount() - 1))
+                .orElse(storedPrice);
+        if (!Double.isNaN(price)) {
+            quoteBoard.update(slot, price, now);
+        }
+    }
+
+    private static BigDecimal money(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal percentage(double gain, double cost) {
+        return cost > 0.0 ? BigDecimal.valueOf(gain / cost * 100.0).setScale(4, RoundingMode.HALF_UP) : null;
+    }
+
+    @AllArgsConstructor
+    private static final class PortfolioBook {
+        private final double cashBalance;
+        private final String[] symbols;
+        private final int[] slots;
+        private final double[] quantities;
+        private final double[] averageCosts;
+        private final double[] storedPrices;
+        private final long loadedAtMillis;
+    }
+}
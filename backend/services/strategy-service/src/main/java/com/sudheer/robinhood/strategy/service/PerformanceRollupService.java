@@ -0,0 +1,379 @@
+package com.sudheer.robinhood.strategy.service;
+
+import com.sudheer.robinhood.strategy.dto.PerformanceResponse;
+import com.sudheer.robinhood.strategy.dto.PerformanceRollupResponse;
+import com.sudheer.robinhood.strategy.engine.PerformanceAccumulator;
+import com.sudheer.robinhood.strategy.engine.PriceMatrix;
+import com.sudheer.robinhood.strategy.lock.ClusterLock;
+import com.sudheer.robinhood.strategy.marketdata.BarColumns;
+import com.sudheer.robinhood.strategy.marketdata.MappedPriceHistoryStore;
+import com.sudheer.robinhood.strategy.marketdata.PriceSeries;
+import com.sudheer.robinhood.strategy.model.Strategy;
+import com.sudheer.robinhood.strategy.model.StrategyAllocation;
+import com.sudheer.robinhood.strategy.model.StrategyPerformance;
+import com.sudheer.robinhood.strategy.model.StrategyPerformanceState;
+import com.sudheer.robinhood.strategy.repository.StrategyPerformanceRepository;
+import com.sudheer.robinhood.strategy.repository.StrategyPerformanceStateRepository;
+import com.sudheer.robinhood.strategy.repository.StrategyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps each active strategy's inception-to-date StrategyPerformance row current.
+ *
+ * The first rollup for a strategy replays its history once from createdAt.
+ * After that each run folds the returns of the bar days since the last run
+ * into the persisted accumulator, so the nightly cost per strategy is
+ * O(symbols), independent of history length. Strategies are walked in
+ * keyset-paginated batches; each batch is read at once, and each strategy is
+ * written in a transaction of its own so that one failure rolls back only
+ * that strategy. The strategy return is the
+ * target-weighted return of its symbols from one bar day to the next, up to
+ * the latest day all of them have a bar for; a skipped night is caught up one
+ * bar day at a time, as the backfill would have counted it, and a bar
+ * imported late is picked up on the next run instead of being skipped.
+ */
+@Service
+@Slf4j
+public class PerformanceRollupService {
+
+    private static final String ROLLUP_LOCK = "performance-rollup";
+
+    private final StrategyRepository strategyRepository;
+    private final StrategyPerformanceRepository performanceRepository;
+    private final StrategyPerformanceStateRepository stateRepository;
+    private final MappedPriceHistoryStore priceStore;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterLock clusterLock;
+    private final int batchSize;
+    private final int maxBarLagDays;
+
+    public PerformanceRollupService(StrategyRepository strategyRepository,
+                                    StrategyPerformanceRepository performanceRepository,
+                                    StrategyPerformanceStateRepository stateRepository,
+                                    MappedPriceHistoryStore priceStore,
+                                    TransactionTemplate transactionTemplate,
+                                    ClusterLock clusterLock,
+                                    @Value("${strategy.performance.rollup.batch-size:500}") int batchSize,
+                                    @Value("${strategy.performance.rollup.max-bar-lag-days:5}") int maxBarLagDays) {
+        this.strategyRepository = strategyRepository;
+        this.performanceRepository = performanceRepository;
+        this.stateRepository = stateRepository;
+        this.priceStore = priceStore;
+        this.transactionTemplate = transactionTemplate;
+        this.clusterLock = clusterLock;
+        this.batchSize = batchSize;
+        this.maxBarLagDays = maxBarLagDays;
+    }
+
+    @Scheduled(cron = "${strategy.performance.rollup.cron:0 30 22 * * MON-FRI}")
+    public void scheduledRollup() {
+        // Every node fires the cron; one of them rolls up
+        rollupExclusively(LocalDate.now());
+    }
+
+    /**
+     * Runs the rollup unless another node is already running one; empty if it was skipped.
+     * Two concurrent rollups would fold the same days into a strategy twice.
+     */
+    public Optional<PerformanceRollupResponse> rollupExclusively(LocalDate asOf) {
+        return clusterLock.callExclusively(ROLLUP_LOCK, () -> rollup(asOf));
+    }
+
+    private PerformanceRollupResponse rollup(LocalDate asOf) {
+        long started = System.nanoTime();
+        int[] totals = new int[3]; // scanned, updated, failed
+        Map<String, Double> symbolReturns = new HashMap<>();
+
+        long afterId = 0L;
+        while (true) {
+            List<Long> ids = strategyRepository.findActiveIdsAfter(afterId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            rollupBatch(ids, asOf, symbolReturns, totals);
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Performance rollup as of {}: scanned={}, updated={}, failed={} in {} ms",
+                asOf, totals[0], totals[1], totals[2], elapsedMillis);
+
+        return PerformanceRollupResponse.builder()
+                .asOf(asOf)
+                .strategiesScanned(totals[0])
+                .strategiesUpdated(totals[1])
+                .strategiesFailed(totals[2])
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public List<PerformanceResponse> getPerformance(Long strategyId) {
+        return performanceRepository.findByStrategyIdOrderByPeriodEndDesc(Objects.requireNonNull(strategyId)).stream()
+                .map(performance -> PerformanceResponse.builder()
+                        .strategyId(strategyId)
+                        .periodStart(performance.getPeriodStart())
+                        .periodEnd(performance.getPeriodEnd())
+                        .totalReturn(performance.getTotalReturn())
+                        .annualizedReturn(performance.getAnnualizedReturn())
+                        .volatility(performance.getVolatility())
+                        .sharpeRatio(performance.getSharpeRatio())
+                        .maxDrawdown(performance.getMaxDrawdown())
+                        .winRate(performance.getWinRate())
+                        .calculatedAt(performance.getCalculatedAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private void rollupBatch(List<Long> ids, LocalDate asOf, Map<String, Double> symbolReturns, int[] totals) {
+        List<Strategy> strategies = new ArrayList<>();
+        Map<Long, StrategyPerformanceState> states = new HashMap<>();
+        Map<Long, StrategyPerformance> performances = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            strategies.addAll(strategyRepository.findWithAllocationsByIdIn(ids));
+            stateRepository.findAllById(ids).forEach(state -> states.put(state.getStrategyId(), state));
+            List<Long> performanceIds = states.values().stream()
+                    .map(StrategyPerformanceState::getPerformanceId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            performanceRepository.findAllById(performanceIds)
+                    .forEach(performance -> performances.put(performance.getId(), performance));
+        });
+
+        for (Strategy strategy : strategies) {
+            totals[0]++;
+            try {
+                Boolean updated = transactionTemplate.execute(status ->
+                        rollupStrategy(strategy, states.get(strategy.getId()), performances, asOf, symbolReturns));
+                if (Boolean.TRUE.equals(updated)) {
+                    totals[1]++;
+                }
+            } catch (RuntimeException e) {
+                totals[2]++;
+                log.warn("Performance rollup failed for strategy {}: {}", strategy.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private boolean rollupStrategy(Strategy strategy, StrategyPerformanceState state,
+                                   Map<Long, StrategyPerformance> performances, LocalDate asOf,
+                                   Map<String, Double> symbolReturns) {
+        if (state == null) {
+            state = backfill(strategy, asOf);
+        } else if (!advance(strategy, state, asOf, symbolReturns)) {
+            return false;
+        }
+
+        StrategyPerformance performance = state.getPerformanceId() != null
+                ? performances.get(state.getPerformanceId())
+                : null;
+        if (performance == null) {
+            performance = StrategyPerformance.builder().strategy(strategy).build();
+        }
+        applyState(performance, state);
+        performance = performanceRepository.save(performance);
+        state.setPerformanceId(performance.getId());
+        stateRepository.save(state);
+        return true;
+    }
+
+    /**
+     * Folds one return per bar day after state.lastDate, up to the settled day,
+     * into the state. Returns false if the strategy has no newer settled day.
+     */
+    private boolean advance(Strategy strategy, StrategyPerformanceState state, LocalDate asOf,
+                            Map<String, Double> symbolReturns) {
+        int previousDay = (int) state.getLastDate().toEpochDay();
+        int day = settledDay(strategy, previousDay, (int) asOf.toEpochDay());
+        if (day <= previousDay) {
+            return false;
+        }
+        int[] barDays = barDays(strategy, previousDay, day);
+        if (barDays.length == 0) {
+            return false;
+        }
+
+        // Same calendar as the backfill: the union of the symbols' bar days, a symbol
+        // without a bar on one of them contributing no return for it
+        PerformanceAccumulator accumulator = toAccumulator(state);
+        int from = previousDay;
+        for (int to : barDays) {
+            int fromDay = from;
+            double dailyReturn = 0.0;
+            for (StrategyAllocation allocation : strategy.getAllocations()) {
+                Double symbolReturn = symbolReturns.computeIfAbsent(
+                        allocation.getSymbol() + ':' + fromDay + ':' + to,
+                        key -> symbolReturn(allocation.getSymbol(), fromDay, to));
+                if (!symbolReturn.isNaN()) {
+                    dailyReturn += weight(allocation) * symbolReturn;
+                }
+            }
+            accumulator.add(dailyReturn);
+            from = to;
+        }
+        copyAccumulator(accumulator, state);
+        state.setLastDate(LocalDate.ofEpochDay(day));
+        return true;
+    }
+
+    /**
+     * The days in (afterDay, throughDay] on which any of the strategy's symbols has a bar, ascending.
+     */
+    private int[] barDays(Strategy strategy, int afterDay, int throughDay) {
+        TreeSet<Integer> days = new TreeSet<>();
+        for (StrategyAllocation allocation : strategy.getAllocations()) {
+            BarColumns columns = priceStore.getColumns(allocation.getSymbol()).orElse(null);
+            if (columns == null) {
+                continue;
+            }
+            int to = columns.indexOnOrBefore(throughDay);
+            for (int i = columns.lowerBound(afterDay + 1); i <= to; i++) {
+                days.add(columns.getEpochDays().get(i));
+            }
+        }
+        return days.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * The last day the strategy's bars are all in for: the earliest of its
+     * symbols' last bars on or before asOfDay. A symbol whose bar is imported
+     * late holds the strategy back until it arrives. Symbols with no bar since
+     * sinceDay, or more than maxBarLagDays behind the freshest symbol (halted
+     * or delisted), are not waited for. Integer.MIN_VALUE if there are no bars.
+     */
+    private int settledDay(Strategy strategy, int sinceDay, int asOfDay) {
+        List<StrategyAllocation> allocations = strategy.getAllocations();
+        int[] lastBars = new int[allocations.size()];
+        int freshest = Integer.MIN_VALUE;
+        for (int i = 0; i < lastBars.length; i++) {
+            BarColumns columns = priceStore.getColumns(allocations.get(i).getSymbol()).orElse(null);
+            int index = columns != null ? columns.indexOnOrBefore(asOfDay) : -1;
+            lastBars[i] = index >= 0 ? columns.getEpochDays().get(index) : Integer.MIN_VALUE;
+            freshest = Math.max(freshest, lastBars[i]);
+        }
+        int settled = freshest;
+        for (int lastBar : lastBars) {
+            if (lastBar >= sinceDay && (long) lastBar >= (long) freshest - maxBarLagDays) {
+                settled = Math.min(settled, lastBar);
+            }
+        }
+        return settled;
+    }
+
+    private double symbolReturn(String symbol, int previousDay, int day) {
+        BarColumns columns = priceStore.getColumns(symbol).orElse(null);
+        if (columns == null) {
+            return Double.NaN;
+        }
+        int from = columns.indexOnOrBefore(previousDay);
+        int to = columns.indexOnOrBefore(day);
+        if (from < 0 || to <= from) {
+            return Double.NaN;
+        }
+        double start = columns.getClose().get(from);
+        return start > 0.0 ? columns.getClose().get(to) / start - 1.0 : Double.NaN;
+    }
+
+    /**
+     * One-time replay of daily returns from the strategy's creation date through its settled day.
+     */
+    private StrategyPerformanceState backfill(Strategy strategy, LocalDate asOf) {
+        LocalDate start = strategy.getCreatedAt() != null ? strategy.getCreatedAt().toLocalDate() : asOf;
+        int settled = settledDay(strategy, Integer.MIN_VALUE, (int) asOf.toEpochDay());
+        LocalDate end = settled >= start.toEpochDay() ? LocalDate.ofEpochDay(settled) : start;
+        List<StrategyAllocation> allocations = strategy.getAllocations();
+
+        List<PriceSeries> series = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        for (StrategyAllocation allocation : allocations) {
+            priceStore.getCloses(allocation.getSymbol(), start, end).ifPresent(s -> {
+                series.add(s);
+                weights.add(weight(allocation));
+            });
+        }
+
+        PerformanceAccumulator accumulator = new PerformanceAccumulator();
+        LocalDate periodStart = end;
+        if (!series.isEmpty()) {
+            PriceMatrix prices = PriceMatrix.align(series);
+            double[][] closes = prices.getCloses();
+            if (prices.dayCount() > 0) {
+                periodStart = LocalDate.ofEpochDay(prices.getEpochDays()[0]);
+            }
+            for (int t = 1; t < prices.dayCount(); t++) {
+                double dailyReturn = 0.0;
+                for (int s = 0; s < closes.length; s++) {
+                    double previous = closes[s][t - 1];
+                    if (previous > 0.0) {
+                        dailyReturn += weights.get(s) * (closes[s][t] / previous - 1.0);
+                    }
+                }
+                accumulator.add(dailyReturn);
+            }
+        }
+
+        StrategyPerformanceState state = StrategyPerformanceState.builder()
+                .strategyId(strategy.getId())
+                .periodStart(periodStart)
+                .lastDate(end)
+                .build();
+        copyAccumulator(accumulator, state);
+        return state;
+    }
+
+    private static double weight(StrategyAllocation allocation) {
+        return allocation.getTargetPercentage() != null ? allocation.getTargetPercentage().doubleValue() / 100.0 : 0.0;
+    }
+
+    private static PerformanceAccumulator toAccumulator(StrategyPerformanceState state) {
+        return new PerformanceAccumulator(state.getObservations(), state.getMeanReturn(), state.getM2(),
+                state.getGrowth(), state.getPeakGrowth(), state.getMaxDrawdown(), state.getWinningPeriods());
+    }
+
+    private static void copyAccumulator(PerformanceAccumulator accumulator, StrategyPerformanceState state) {
+        state.setObservations(accumulator.getObservations());
+        state.setMeanReturn(accumulator.getMeanReturn());
+        state.setM2(accumulator.getM2());
+        state.setGrowth(accumulator.getGrowth());
+        state.setPeakGrowth(accumulator.getPeakGrowth());
+        state.setMaxDrawdown(accumulator.getMaxDrawdown());
+        state.setWinningPeriods(accumulator.getWinningPeriods());
+    }
+
+    private static void applyState(StrategyPerformance performance, StrategyPerformanceState state) {
+        PerformanceAccumulator accumulator = toAccumulator(state);
+        long calendarDays = ChronoUnit.DAYS.between(state.getPeriodStart(), state.getLastDate());
+
+        performance.setPeriodStart(state.getPeriodStart());
+        performance.setPeriodEnd(state.getLastDate());
+        performance.setTotalReturn(decimal(accumulator.totalReturn(), 4));
+        performance.setAnnualizedReturn(decimal(accumulator.annualizedReturn(calendarDays), 4));
+        performance.setVolatility(decimal(accumulator.volatility(), 4));
+        performance.setSharpeRatio(decimal(accumulator.sharpeRatio(), 4));
+        performance.setMaxDrawdown(decimal(accumulator.maxDrawdownPercent(), 4));
+        performance.setWinRate(decimal(accumulator.winRate(), 2));
+    }
+
+    private static BigDecimal decimal(double value, int scale) {
+        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,218 @@
+package com.sudheer.robinhood.strategy.service;
+
+import com.sudheer.robinhood.strategy.dto.PlannedTrade;
+import com.sudheer.robinhood.strategy.dto.RebalancePlan;
+import com.sudheer.robinhood.strategy.dto.RebalanceRunResponse;
+import com.sudheer.robinhood.strategy.engine.RebalanceCalendar;
+import com.sudheer.robinhood.strategy.engine.RebalancePlanner;
+import com.sudheer.robinhood.strategy.lock.ClusterLock;
+import com.sudheer.robinhood.strategy.marketdata.MappedPriceHistoryStore;
+import com.sudheer.robinhood.strategy.model.Strategy;
+import com.sudheer.robinhood.strategy.model.Strategy.RebalanceFrequency;
+import com.sudheer.robinhood.strategy.model.StrategyAllocation;
+import com.sudheer.robinhood.strategy.repository.PortfolioRebalanceRepository;
+import com.sudheer.robinhood.strategy.repository.PortfolioRebalanceRepository.EventRow;
+import com.sudheer.robinhood.strategy.repository.PortfolioRebalanceRepository.HoldingRow;
+import com.sudheer.robinhood.strategy.repository.PortfolioRebalanceRepository.PortfolioRow;
+import com.sudheer.robinhood.strategy.repository.StrategyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Scans portfolios whose owner has an active strategy, finds positions outside
+ * their min/max bands and records a PENDING rebalancing_events row per drifted
+ * portfolio. Portfolios are streamed in keyset pages, events are written
+ * with one multi-row insert per page, and the planned trades are optionally
+ * published to RabbitMQ for execution. A portfolio gets at most one PENDING
+ * event per day; the scheduled run takes a cluster lock so only one node plans.
+ */
+@Service
+@Slf4j
+public class RebalancePlanningService {
+
+    private final PortfolioRebalanceRepository portfolioRepository;
+    private final StrategyRepository strategyRepository;
+    private final MappedPriceHistoryStore priceStore;
+    private final RabbitTemplate rabbitTemplate;
+    private final ClusterLock clusterLock;
+    private final int pageSize;
+    private final double defaultBand;
+    private final double minTradeValue;
+    private final String planQueue;
+
+    public RebalancePlanningService(PortfolioRebalanceRepository portfolioRepository,
+                                    StrategyRepository strategyRepository,
+                                    MappedPriceHistoryStore priceStore,
+                                    RabbitTemplate rabbitTemplate,
+                                    ClusterLock clusterLock,
+                                    @Value("${strategy.rebalance.page-size:1000}") int pageSize,
+                                    @Value("${strategy.rebalance.default-band:5.0}") double defaultBand,
+                                    @Value("${strategy.rebalance.min-trade-value:1.00}") double minTradeValue,
+                                    @Value("${strategy.rebalance.plan-queue:}") String planQueue) {
+        this.portfolioRepository = portfolioRepository;
+        this.strategyRepository = strategyRepository;
+        this.priceStore = priceStore;
+        this.rabbitTemplate = rabbitTemplate;
+        this.clusterLock = clusterLock;
+        this.pageSize = pageSize;
+        this.defaultBand = defaultBand / 100.0;
+        this.minTradeValue = minTradeValue;
+        this.planQueue = planQueue;
+    }
+
+    @Scheduled(cron = "${strategy.rebalance.cron:0 0 21 * * MON-FRI}")
+    public void scheduledPlanning() {
+        clusterLock.runExclusively("rebalance-planning", () -> {
+            LocalDate today = LocalDate.now();
+            for (RebalanceFrequency frequency : RebalanceFrequency.values()) {
+                if (isDue(frequency, today)) {
+                    plan(frequency);
+                }
+            }
+        });
+    }
+
+    public RebalanceRunResponse plan(RebalanceFrequency frequency) {
+        long started = System.nanoTime();
+        long scanned = 0;
+        long drifted = 0;
+        long tradesPlanned = 0;
+        LocalDate today = LocalDate.now();
+
+        long afterId = 0L;
+        while (true) {
+            List<PortfolioRow> page = portfolioRepository.findPortfolioPage(frequency, afterId, pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            afterId = page.get(page.size() - 1).getPortfolioId();
+            scanned += page.size();
+
+            List<Long> portfolioIds = page.stream().map(PortfolioRow::getPortfolioId).collect(Collectors.toList());
+            Map<Long, List<HoldingRow>> holdings = portfolioRepository.findHoldings(portfolioIds);
+            List<Long> strategyIds = page.stream().map(PortfolioRow::getStrategyId).distinct().collect(Collectors.toList());
+            Map<Long, Strategy> strategies = strategyRepository.findWithAllocationsByIdIn(strategyIds).stream()
+                    .collect(Collectors.toMap(Strategy::getId, Function.identity()));
+
+            List<EventRow> events = new ArrayList<>();
+            List<RebalancePlan> candidates = new ArrayList<>();
+            for (PortfolioRow portfolio : page) {
+                Strategy strategy = strategies.get(portfolio.getStrategyId());
+                if (strategy == null) {
+                    continue;
+                }
+                List<PlannedTrade> trades = planPortfolio(portfolio, holdings.getOrDefault(portfolio.getPortfolioId(), List.of()),
+                        strategy.getAllocations());
+                if (trades.isEmpty()) {
+                    continue;
+                }
+                events.add(new EventRow(portfolio.getPortfolioId(), strategy.getId(), trades.size()));
+                candidates.add(RebalancePlan.builder()
+                        .portfolioId(portfolio.getPortfolioId())
+                        .strategyId(strategy.getId())
+                        .trades(trades)
+                        .build());
+            }
+
+            // Portfolios already planned today get no event id and are not published again
+            Map<Long, Long> eventIds = portfolioRepository.insertRebalancingEvents(events, today);
+            List<RebalancePlan> plans = new ArrayList<>(eventIds.size());
+            for (RebalancePlan plan : candidates) {
+                Long eventId = eventIds.get(plan.getPortfolioId());
+                if (eventId != null) {
+                    plan.setRebalancingEventId(eventId);
+                    plans.add(plan);
+                    tradesPlanned += plan.getTrades().size();
+                }
+            }
+            drifted += plans.size();
+
+            if (!plans.isEmpty() && !planQueue.isBlank()) {
+                rabbitTemplate.convertAndSend(planQueue, plans);
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Rebalance planning for {}: scanned={}, drifted={}, trades={} in {} ms",
+                frequency, scanned, drifted, tradesPlanned, elapsedMillis);
+
+        return RebalanceRunResponse.builder()
+                .frequency(frequency)
+                .portfoliosScanned(scanned)
+                .portfoliosDrifted(drifted)
+                .tradesPlanned(tradesPlanned)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private List<PlannedTrade> planPortfolio(PortfolioRow portfolio, List<HoldingRow> holdings,
+                                             List<StrategyAllocation> allocations) {
+        // Union of held and targeted symbols, one slot each
+        Map<String, Integer> slots = new LinkedHashMap<>();
+        holdings.forEach(holding -> slots.putIfAbsent(holding.getSymbol(), slots.size()));
+        allocations.forEach(allocation -> slots.putIfAbsent(allocation.getSymbol(), slots.size()));
+
+        int n = slots.size();
+        String[] symbols = slots.keySet().toArray(new String[0]);
+        double[] quantities = new double[n];
+        double[] prices = new double[n];
+        double[] targets = new double[n];
+        double[] lower = new double[n];
+        double[] upper = new double[n];
+
+        for (int i = 0; i < n; i++) {
+            prices[i] = lastClose(symbols[i]);
+        }
+        for (HoldingRow holding : holdings) {
+            int i = slots.get(holding.getSymbol());
+            quantities[i] = holding.getQuantity();
+            if (Double.isNaN(prices[i])) {
+                prices[i] = holding.getCurrentPrice();
+            }
+        }
+        for (StrategyAllocation allocation : allocations) {
+            int i = slots.get(allocation.getSymbol());
+            targets[i] = allocation.getTargetPercentage().doubleValue() / 100.0;
+            lower[i] = allocation.getMinPercentage() != null
+                    ? allocation.getMinPercentage().doubleValue() / 100.0
+                    : Math.max(0.0, targets[i] - defaultBand);
+            upper[i] = allocation.getMaxPercentage() != null
+                    ? allocation.getMaxPercentage().doubleValue() / 100.0
+                    : Math.min(1.0, targets[i] + defaultBand);
+        }
+
+        return RebalancePlanner.plan(portfolio.getCashBalance(), symbols, quantities, prices,
+                targets, lower, upper, minTradeValue);
+    }
+
+    private double lastClose(String symbol) {
+        return priceStore.getColumns(symbol)
+                .filter(columns -> columns.getCount() > 0)
+                .map(columns -> columns.getClose().get(columns.getCount() - 1))
+                .orElse(Double.NaN);
+    }
+
+    /**
+     * A frequency is due on the first weekday of a new rebalance period.
+     */
+    static boolean isDue(RebalanceFrequency frequency, LocalDate today) {
+        if (frequency == RebalanceFrequency.NEVER) {
+            return false;
+        }
+        LocalDate previous = today.getDayOfWeek() == DayOfWeek.MONDAY ? today.minusDays(3) : today.minusDays(1);
+        return RebalanceCalendar.periodKey((int) today.toEpochDay(), frequency)
+                != RebalanceCalendar.periodKey((int) previous.toEpochDay(), frequency);
+    }
+}
@@ -0,0 +1,106 @@
+package com.sudheer.robinhood.strategy.service;
+
+import com.sudheer.robinhood.strategy.dto.ActOnRecommendationsResponse;
+import com.sudheer.robinhood.strategy.dto.RecommendationFeedResponse;
+import com.sudheer.robinhood.strategy.dto.RecommendationResponse;
+import com.sudheer.robinhood.strategy.recommendation.RecommendationProperties;
+import com.sudheer.robinhood.strategy.repository.RecommendationFeedRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A user's recommendation feed, newest first, and bulk acting upon it.
+ *
+ * The cursor is the (created_at, id) of the last row returned, encoded
+ * opaquely so clients pass it back unchanged. One extra row is read per
+ * page to tell whether another page follows.
+ */
+@Service
+@RequiredArgsConstructor
+public class RecommendationFeedService {
+
+    private final RecommendationFeedRepository feedRepository;
+    private final RecommendationProperties properties;
+
+    @Transactional(readOnly = true)
+    public RecommendationFeedResponse getFeed(Long userId, String cursor, Integer limit, boolean includeExpired) {
+        int pageSize = limit == null ? properties.getDefaultPageSize()
+                : Math.max(1, Math.min(limit, properties.getMaxPageSize()));
+        LocalDateTime expiresAfter = includeExpired ? LocalDateTime.of(1970, 1, 1, 0, 0) : LocalDateTime.now();
+
+        LocalDateTime afterCreatedAt = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            long[] decoded = decodeCursor(cursor);
+            afterCreatedAt = fromEpochMicros(decoded[0]);
+            afterId = decoded[1];
+        }
+
+        List<RecommendationResponse> rows = feedRepository.findPage(Objects.requireNonNull(userId), expiresAfter,
+                afterCreatedAt, afterId, pageSize + 1);
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            RecommendationResponse last = rows.get(pageSize - 1);
+            nextCursor = encodeCursor(toEpochMicros(last.getCreatedAt()), last.getId());
+        }
+        return RecommendationFeedResponse.builder()
+                .recommendations(rows)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Marks the given recommendations acted upon, actBatchSize ids per
+     * UPDATE, all in one transaction.
+     */
+    @Transactional
+    public ActOnRecommendationsResponse actUpon(Long userId, List<Long> recommendationIds) {
+        Long[] ids = recommendationIds.stream().filter(Objects::nonNull).distinct().toArray(Long[]::new);
+        int batchSize = Math.max(1, properties.getActBatchSize());
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+        for (int from = 0; from < ids.length; from += batchSize) {
+            Long[] batch = Arrays.copyOfRange(ids, from, Math.min(ids.length, from + batchSize));
+            updated += feedRepository.markActedUpon(Objects.requireNonNull(userId), batch, now);
+        }
+        return ActOnRecommendationsResponse.builder()
+                .requested(ids.length)
+                .updated(updated)
+                .build();
+    }
+
+    private static String encodeCursor(long createdAtMicros, long id) {
+        String raw = createdAtMicros + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static long[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int separator = raw.indexOf(':');
+            return new long[]{Long.parseLong(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1))};
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    // created_at is a zone-less timestamp; UTC is only an encoding here, not a conversion
+    private static long toEpochMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,71 @@
+package com.sudheer.robinhood.strategy.service;
+
+import com.sudheer.robinhood.strategy.cache.StrategyCache;
+import com.sudheer.robinhood.strategy.dto.StrategyResponse;
+import com.sudheer.robinhood.strategy.model.Strategy;
+import com.sudheer.robinhood.strategy.model.StrategyAllocation;
+import com.sudheer.robinhood.strategy.repository.StrategyRepository;
+import com.sudheer.robinhood.shared.datasource.ReadWriteRoutingDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Strategy reads for dashboards, served through {@link StrategyCache}. Each
+ * miss loads the strategy and its allocations with one fetch join.
+ */
+@Service
+@RequiredArgsConstructor
+public class StrategyQueryService {
+
+    private final StrategyRepository strategyRepository;
+    private final StrategyCache strategyCache;
+
+    // Misses load from the primary: a replica row read just after an invalidation would stay cached for the TTL
+    public StrategyResponse getStrategy(Long strategyId) {
+        return strategyCache.getStrategy(strategyId, id -> ReadWriteRoutingDataSource.onPrimary(() ->
+                strategyRepository.findWithAllocationsById(id)
+                        .map(StrategyQueryService::toResponse)
+                        .orElseThrow(() -> new RuntimeException("Strategy not found"))));
+    }
+
+    public List<StrategyResponse> getStrategiesForUser(Long userId) {
+        return strategyCache.getStrategiesForUser(userId, id -> ReadWriteRoutingDataSource.onPrimary(() ->
+                strategyRepository.findWithAllocationsByUserId(id)
+                        .stream()
+                        .map(StrategyQueryService::toResponse)
+                        .collect(Collectors.toList())));
+    }
+
+    static StrategyResponse toResponse(Strategy strategy) {
+        List<StrategyResponse.Allocation> allocations = strategy.getAllocations().stream()
+                .sorted(Comparator.comparing(StrategyAllocation::getSymbol))
+                .map(allocation -> StrategyResponse.Allocation.builder()
+                        .symbol(allocation.getSymbol())
+                        .targetPercentage(allocation.getTargetPercentage())
+                        .minPercentage(allocation.getMinPercentage())
+                        .maxPercentage(allocation.getMaxPercentage())
+                        .build())
+                .collect(Collectors.toList());
+
+        return StrategyResponse.builder()
+                .strategyId(strategy.getId())
+                .userId(strategy.getUserId())
+                .name(strategy.getName())
+                .description(strategy.getDescription())
+                .strategyType(strategy.getStrategyType())
+                .isActive(strategy.getIsActive())
+                .isPublic(strategy.getIsPublic())
+                .riskLevel(strategy.getRiskLevel())
+                .targetReturn(strategy.getTargetReturn())
+                .maxDrawdown(strategy.getMaxDrawdown())
+                .rebalanceFrequency(strategy.getRebalanceFrequency())
+                .allocations(allocations)
+                .createdAt(strategy.getCreatedAt())
+                .updatedAt(strategy.getUpdatedAt())
+                .build();
+    }
+}
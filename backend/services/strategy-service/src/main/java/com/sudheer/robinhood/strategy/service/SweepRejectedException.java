@@ -0,0 +1,11 @@
+package com.sudheer.robinhood.strategy.service;
+
+/**
+ * The strategy's owner already has as many sweep variants running as allowed; the sweep should be retried later.
+ */
+public class SweepRejectedException extends RuntimeException {
+
+    public SweepRejectedException(String message) {
+        super(message);
+    }
+}
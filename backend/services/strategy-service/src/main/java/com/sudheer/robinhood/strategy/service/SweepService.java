@@ -0,0 +1,287 @@
+package com.sudheer.robinhood.strategy.service;
+
+import com.sudheer.robinhood.strategy.dto.AllocationVariant;
+import com.sudheer.robinhood.strategy.dto.SweepRequest;
+import com.sudheer.robinhood.strategy.dto.SweepRequest.RankBy;
+import com.sudheer.robinhood.strategy.dto.SweepResponse;
+import com.sudheer.robinhood.strategy.engine.BacktestEngine;
+import com.sudheer.robinhood.strategy.engine.BacktestParameters;
+import com.sudheer.robinhood.strategy.engine.BacktestResult;
+import com.sudheer.robinhood.strategy.engine.PriceMatrix;
+import com.sudheer.robinhood.strategy.model.Strategy;
+import com.sudheer.robinhood.strategy.model.Strategy.RebalanceFrequency;
+import com.sudheer.robinhood.strategy.model.StrategyAllocation;
+import com.sudheer.robinhood.strategy.repository.StrategyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+
+/**
+ * Runs a grid of allocation/rebalance variants of one strategy in parallel.
+ *
+ * Price history is loaded once into a single PriceMatrix that every variant
+ * reads; nothing touches JPA while the grid runs. Variants are split across a
+ * dedicated fork-join pool so sweeps do not compete with the common pool.
+ *
+ * A sweep runs on the request thread rather than through the per-user backtest
+ * queue, so each user is instead capped at max-variants-per-user variants in
+ * flight across their concurrent sweeps; a sweep that would go over is
+ * rejected rather than queued.
+ */
+@Service
+@Slf4j
+public class SweepService implements DisposableBean {
+
+    private static final int SEQUENTIAL_THRESHOLD = 4;
+    private static final BigDecimal MAX_TOTAL_PERCENTAGE = BigDecimal.valueOf(100);
+
+    private final StrategyRepository strategyRepository;
+    private final BacktestService backtestService;
+    private final BacktestEngine backtestEngine;
+    private final ForkJoinPool pool;
+    private final int maxVariants;
+    private final int maxVariantsPerUser;
+    private final Map<Long, Integer> variantsInFlight = new ConcurrentHashMap<>();
+
+    public SweepService(StrategyRepository strategyRepository,
+                        BacktestService backtestService,
+                        BacktestEngine backtestEngine,
+                        @Value("${strategy.backtest.sweep.parallelism:0}") int parallelism,
+                        @Value("${strategy.backtest.sweep.max-variants:5000}") int maxVariants,
+                        @Value("${strategy.backtest.sweep.max-variants-per-user:5000}") int maxVariantsPerUser) {
+        this.strategyRepository = strategyRepository;
+        this.backtestService = backtestService;
+        this.backtestEngine = backtestEngine;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.maxVariants = maxVariants;
+        this.maxVariantsPerUser = maxVariantsPerUser;
+    }
+
+    /**
+     * Runs the grid. Invalid input throws IllegalArgumentException; going over
+     * the owner's in-flight cap throws SweepRejectedException.
+     */
+    public SweepResponse runSweep(Long strategyId, SweepRequest request) {
+        if (request.getEndDate().isBefore(request.getStartDate())) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+
+        Strategy strategy = strategyRepository.findWithAllocationsById(Objects.requireNonNull(strategyId))
+                .orElseThrow(() -> new RuntimeException("Strategy not found"));
+
+        List<List<AllocationVariant>> allocationSets = request.getAllocationSets() != null && !request.getAllocationSets().isEmpty()
+                ? request.getAllocationSets()
+                : List.of(strategy.getAllocations().stream().map(SweepService::toVariant).collect(Collectors.toList()));
+        List<RebalanceFrequency> frequencies = request.getRebalanceFrequencies() != null && !request.getRebalanceFrequencies().isEmpty()
+                ? request.getRebalanceFrequencies()
+                : List.of(strategy.getRebalanceFrequency() != null ? strategy.getRebalanceFrequency() : RebalanceFrequency.NEVER);
+
+        int variantCount = allocationSets.size() * frequencies.size();
+        if (variantCount > maxVariants) {
+            throw new IllegalArgumentException("Sweep has " + variantCount + " variants; the limit is " + maxVariants);
+        }
+
+        // One shared, read-only copy of the prices for every symbol in the grid
+        Set<String> symbols = new LinkedHashSet<>();
+        for (int i = 0; i < allocationSets.size(); i++) {
+            validateAllocationSet(i, allocationSets.get(i));
+            allocationSets.get(i).forEach(variant -> symbols.add(variant.getSymbol()));
+        }
+
+        Long userId = strategy.getUserId();
+        reserveVariants(userId, variantCount);
+        try {
+            return runGrid(strategyId, request, allocationSets, frequencies, symbols, variantCount);
+        } finally {
+            variantsInFlight.computeIfPresent(userId, (id, running) -> running > variantCount ? running - variantCount : null);
+        }
+    }
+
+    private SweepResponse runGrid(Long strategyId, SweepRequest request, List<List<AllocationVariant>> allocationSets,
+                                  List<RebalanceFrequency> frequencies, Set<String> symbols, int variantCount) {
+        long started = System.nanoTime();
+        PriceMatrix prices = backtestService.loadPriceMatrix(new ArrayList<>(symbols), request.getStartDate(), request.getEndDate());
+        int fromIndex = prices.firstIndexOnOrAfter((int) request.getStartDate().toEpochDay());
+        int toIndex = prices.lastIndexOnOrBefore((int) request.getEndDate().toEpochDay());
+        double initialCapital = request.getInitialCapital().doubleValue();
+
+        BacktestParameters[] params = new BacktestParameters[variantCount];
+        List<List<AllocationVariant>> variantAllocations = new ArrayList<>(variantCount);
+        List<RebalanceFrequency> variantFrequencies = new ArrayList<>(variantCount);
+        int v = 0;
+        for (List<AllocationVariant> set : allocationSets) {
+            List<StrategyAllocation> allocations = set.stream().map(SweepService::toAllocation).collect(Collectors.toList());
+            for (RebalanceFrequency frequency : frequencies) {
+                params[v] = BacktestParameters.of(allocations, prices, frequency, initialCapital, fromIndex, toIndex);
+                variantAllocations.add(set);
+                variantFrequencies.add(frequency);
+                v++;
+            }
+        }
+
+        BacktestResult[] results = new BacktestResult[variantCount];
+        pool.invoke(new SweepTask(backtestEngine, prices, params, results, 0, variantCount));
+
+        RankBy rankBy = request.getRankBy() != null ? request.getRankBy() : RankBy.SHARPE_RATIO;
+        int limit = request.getLimit() != null ? request.getLimit() : variantCount;
+        List<SweepResponse.Entry> ranked = rank(results, rankBy, limit, variantAllocations, variantFrequencies);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Sweep of {} variants for strategy {} finished in {} ms", variantCount, strategyId, elapsedMillis);
+
+        return SweepResponse.builder()
+                .strategyId(strategyId)
+                .variantsEvaluated(variantCount)
+                .rankBy(rankBy)
+                .elapsedMillis(elapsedMillis)
+                .results(ranked)
+                .build();
+    }
+
+    /**
+     * Rejects sets the engine would run with double-counted symbols or more than 100% invested (negative cash).
+     */
+    private static void validateAllocationSet(int index, List<AllocationVariant> set) {
+        if (set.isEmpty()) {
+            throw new IllegalArgumentException("Allocation set " + index + " must not be empty");
+        }
+        Set<String> seen = new HashSet<>();
+        BigDecimal total = BigDecimal.ZERO;
+        for (AllocationVariant variant : set) {
+            if (!seen.add(variant.getSymbol())) {
+                throw new IllegalArgumentException("Allocation set " + index + " lists " + variant.getSymbol() + " more than once");
+            }
+            if (variant.getTargetPercentage() != null) {
+                total = total.add(variant.getTargetPercentage());
+            }
+        }
+        if (total.compareTo(MAX_TOTAL_PERCENTAGE) > 0) {
+            throw new IllegalArgumentException("Allocation set " + index + " targets " + total.stripTrailingZeros().toPlainString()
+                    + "%; the total must not exceed 100%");
+        }
+    }
+
+    private void reserveVariants(Long userId, int variantCount) {
+        boolean[] reserved = new boolean[1];
+        variantsInFlight.compute(userId, (id, running) -> {
+            int current = running != null ? running : 0;
+            if (current + variantCount > maxVariantsPerUser) {
+                return running;
+            }
+            reserved[0] = true;
+            return current + variantCount;
+        });
+        if (!reserved[0]) {
+            throw new SweepRejectedException("At most " + maxVariantsPerUser
+                    + " sweep variants may run at once per user; retry when a running sweep finishes");
+        }
+    }
+
+    private static List<SweepResponse.Entry> rank(BacktestResult[] results, RankBy rankBy, int limit,
+                                                  List<List<AllocationVariant>> allocations, List<RebalanceFrequency> frequencies) {
+        Comparator<Integer> order = switch (rankBy) {
+            case SHARPE_RATIO -> Comparator.comparingDouble((Integer i) -> results[i].getSharpeRatio()).reversed();
+            case MAX_DRAWDOWN -> Comparator.comparingDouble((Integer i) -> results[i].getMaxDrawdown());
+            case TOTAL_RETURN -> Comparator.comparingDouble((Integer i) -> results[i].getTotalReturn()).reversed();
+        };
+
+        List<Integer> indices = new ArrayList<>(results.length);
+        for (int i = 0; i < results.length; i++) {
+            indices.add(i);
+        }
+        indices.sort(order);
+
+        List<SweepResponse.Entry> entries = new ArrayList<>(Math.min(limit, results.length));
+        for (int r = 0; r < Math.min(limit, indices.size()); r++) {
+            int i = indices.get(r);
+            BacktestResult result = results[i];
+            entries.add(SweepResponse.Entry.builder()
+                    .rank(r + 1)
+                    .allocations(allocations.get(i))
+                    .rebalanceFrequency(frequencies.get(i))
+                    .finalCapital(decimal(result.getFinalCapital(), 2))
+                    .totalReturn(decimal(result.getTotalReturn(), 4))
+                    .sharpeRatio(decimal(result.getSharpeRatio(), 4))
+                    .maxDrawdown(decimal(result.getMaxDrawdown(), 4))
+                    .totalTrades(result.getTotalTrades())
+                    .winningTrades(result.getWinningTrades())
+                    .build());
+        }
+        return entries;
+    }
+
+    private static AllocationVariant toVariant(StrategyAllocation allocation) {
+        return AllocationVariant.builder()
+                .symbol(allocation.getSymbol())
+                .targetPercentage(allocation.getTargetPercentage())
+                .minPercentage(allocation.getMinPercentage())
+                .maxPercentage(allocation.getMaxPercentage())
+                .build();
+    }
+
+    private static StrategyAllocation toAllocation(AllocationVariant variant) {
+        return StrategyAllocation.builder()
+                .symbol(variant.getSymbol())
+                .targetPercentage(variant.getTargetPercentage())
+                .minPercentage(variant.getMinPercentage())
+                .maxPercentage(variant.getMaxPercentage())
+                .build();
+    }
+
+    private static BigDecimal decimal(double value, int scale) {
+        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP);
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdown();
+    }
+
+    private static final class SweepTask extends RecursiveAction {
+
+        private final BacktestEngine engine;
+        private final PriceMatrix prices;
+        private final BacktestParameters[] params;
+        private final BacktestResult[] results;
+        private final int from;
+        private final int to;
+
+        SweepTask(BacktestEngine engine, PriceMatrix prices, BacktestParameters[] params,
+                  BacktestResult[] results, int from, int to) {
+            this.engine = engine;
+            this.prices = prices;
+            this.params = params;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    results[i] = engine.run(prices, params[i]);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SweepTask(engine, prices, params, results, from, mid),
+                    new SweepTask(engine, prices, params, results, mid, to));
+        }
+    }
+}
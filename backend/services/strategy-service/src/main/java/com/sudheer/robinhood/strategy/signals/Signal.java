@@ -0,0 +1,19 @@
+package com.sudheer.robinhood.strategy.signals;
+
+import com.sudheer.robinhood.strategy.model.Recommendation.RecommendationType;
+import com.sudheer.robinhood.strategy.model.Strategy.StrategyType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One symbol's signal for one strategy family, before it is fanned out to holders.
+ */
+@Getter
+@AllArgsConstructor
+public final class Signal {
+    private final String symbol;
+    private final StrategyType family;
+    private final RecommendationType type;
+    private final double confidence;
+    private final String reasoning;
+}
@@ -0,0 +1,298 @@
+package com.sudheer.robinhood.strategy.signals;
+
+import com.sudheer.robinhood.strategy.dto.SignalScanResponse;
+import com.sudheer.robinhood.strategy.engine.RollingIndicators;
+import com.sudheer.robinhood.strategy.lock.ClusterLock;
+import com.sudheer.robinhood.strategy.marketdata.BarColumns;
+import com.sudheer.robinhood.strategy.marketdata.MappedPriceHistoryStore;
+import com.sudheer.robinhood.strategy.model.Strategy.StrategyType;
+import com.sudheer.robinhood.strategy.repository.RecommendationSignalRepository;
+import com.sudheer.robinhood.strategy.repository.SignalScanProgressRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Generates Recommendation rows from daily bars for momentum, value (mean
+ * reversion) and dividend strategies.
+ *
+ * Every symbol keeps one {@link RollingIndicators} and the index of the last
+ * bar it has seen, so a scan only feeds each symbol its new bars at O(1)
+ * apiece; indicators are shared by all users and never recomputed from full
+ * history except once at startup. Bars older than maxSignalAgeDays only warm
+ * the indicators. Signals are buffered and written batchSize at a time by
+ * {@link RecommendationSignalRepository}, which fans each one out to the
+ * active strategies of its family that hold the symbol.
+ *
+ * Indicator state lives in memory, so a restarted node feeds every bar
+ * again, but signals are only raised for bars after the day each symbol was
+ * last scanned through, which {@link SignalScanProgressRepository} keeps for
+ * all nodes and which is saved in the same transaction as the batch's
+ * recommendations. The open-recommendation check therefore sees each bar
+ * once and cannot let a signal through on a re-scan that it suppressed the
+ * first time. Should two scans still overlap, each recommendation carries its
+ * bar day, its expiry follows from that day, and the repository skips any
+ * (strategy, symbol, type, day) already stored. The startup and scheduled
+ * scans run on one node at a time under a cluster lock.
+ */
+@Service
+@Slf4j
+public class SignalEngine {
+
+    private static final StrategyType[] FAMILIES = {StrategyType.MOMENTUM, StrategyType.VALUE, StrategyType.DIVIDEND};
+    private static final String SCAN_LOCK = "signal-scan";
+
+    private final MappedPriceHistoryStore priceStore;
+    private final RecommendationSignalRepository recommendationRepository;
+    private final SignalScanProgressRepository progressRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SignalProperties properties;
+    private final SignalRules rules;
+    private final ClusterLock clusterLock;
+    private final MeterRegistry meterRegistry;
+    private final Timer scanTimer;
+
+    private final Map<String, SymbolState> states = new ConcurrentHashMap<>();
+    private final ReentrantLock scanLock = new ReentrantLock();
+
+    public SignalEngine(MappedPriceHistoryStore priceStore, RecommendationSignalRepository recommendationRepository,
+                        SignalScanProgressRepository progressRepository, TransactionTemplate transactionTemplate,
+                        SignalProperties properties, ClusterLock clusterLock, MeterRegistry meterRegistry) {
+        this.priceStore = priceStore;
+        this.recommendationRepository = recommendationRepository;
+        this.progressRepository = progressRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.rules = new SignalRules(properties);
+        this.clusterLock = clusterLock;
+        this.meterRegistry = meterRegistry;
+        this.scanTimer = Timer.builder("strategy.signals.scan").register(meterRegistry);
+    }
+
+    /**
+     * Warms every symbol's indicators from its stored history; signals on the
+     * most recent bars are written like any scan's. A node that finds another
+     * scanning warms up on its first scan instead.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            clusterLock.callExclusively(SCAN_LOCK, this::scanAll).ifPresent(result ->
+                    log.info("Signal engine warmed {} symbols over {} bars",
+                            result.getSymbolsScanned(), result.getBarsProcessed()));
+        } catch (RuntimeException e) {
+            log.error("Signal warm-up failed; the next scheduled scan resumes where it stopped", e);
+        }
+    }
+
+    @Scheduled(cron = "${strategy.signals.cron:0 15 22 * * MON-FRI}")
+    public void scheduledScan() {
+        try {
+            clusterLock.runExclusively(SCAN_LOCK, this::scanAll);
+        } catch (RuntimeException e) {
+            log.error("Scheduled signal scan failed", e);
+        }
+    }
+
+    public SignalScanResponse scanAll() {
+        return scan(priceStore.symbols());
+    }
+
+    /**
+     * Scans the symbols on a task executor thread, so that an import does not
+     * wait for a scan that is already running on this node.
+     */
+    @Async
+    public void scanInBackground(Collection<String> symbols) {
+        try {
+            scan(symbols);
+        } catch (RuntimeException e) {
+            log.error("Signal scan of {} failed; the next scheduled scan resumes where it stopped", symbols, e);
+        }
+    }
+
+    /**
+     * Feeds the given symbols every bar appended since they were last scanned.
+     * If a batch fails to write, this node loses the signals in it but feeds
+     * no bar twice: each symbol's in-memory progress is recorded bar by bar.
+     * The stored progress did not move, so a restart raises them again.
+     */
+    public SignalScanResponse scan(Collection<String> symbols) {
+        // A lock rather than synchronized: flushing blocks on JDBC and must not pin a virtual thread's carrier
+        scanLock.lock();
+        try {
+            long started = System.nanoTime();
+            Batch batch = new Batch(Math.max(1, properties.getBatchSize()));
+            int minSignalDay = (int) LocalDate.now().minusDays(properties.getMaxSignalAgeDays()).toEpochDay();
+            Map<String, Integer> scannedThrough = progressRepository.findScannedThrough(symbols);
+            int scanned = 0;
+            long bars = 0;
+            int signals = 0;
+
+            for (String symbol : symbols) {
+                BarColumns columns = priceStore.getColumns(symbol).orElse(null);
+                if (columns == null) {
+                    continue;
+                }
+                SymbolState state = states.computeIfAbsent(symbol, s -> new SymbolState(newIndicators()));
+                IntBuffer days = columns.getEpochDays();
+                DoubleBuffer closes = columns.getClose();
+                int count = columns.getCount();
+                // Bars up to the stored progress only warm the indicators, whichever node scanned them
+                Integer through = scannedThrough.get(symbol);
+                int firstSignalDay = through != null ? Math.max(minSignalDay, through + 1) : minSignalDay;
+                scanned++;
+
+                while (state.processed < count) {
+                    int i = state.processed++;
+                    bars++;
+                    int day = days.get(i);
+                    double close = closes.get(i);
+                    if (!(close > 0.0)) {
+                        continue;
+                    }
+                    state.indicators.update(day, close);
+                    if (day < firstSignalDay || !state.indicators.isReady()) {
+                        continue;
+                    }
+                    for (StrategyType family : FAMILIES) {
+                        Signal signal = rules.evaluate(symbol, family, state.indicators);
+                        if (signal != null) {
+                            signals++;
+                            meterRegistry.counter("strategy.signals", "family", family.name(),
+                                    "type", signal.getType().name()).increment();
+                            if (batch.add(signal, day)) {
+                                batch.flush();
+                            }
+                        }
+                    }
+                }
+                int lastDay = count > 0 ? days.get(count - 1) : Integer.MIN_VALUE;
+                if (lastDay >= firstSignalDay && batch.scannedThrough(symbol, lastDay)) {
+                    batch.flush();
+                }
+            }
+            batch.flush();
+
+            long elapsed = System.nanoTime() - started;
+            scanTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            if (signals > 0) {
+                log.info("Signal scan: {} signals over {} new bars created {} recommendations",
+                        signals, bars, batch.created);
+            }
+            return SignalScanResponse.builder()
+                    .symbolsScanned(scanned)
+                    .barsProcessed(bars)
+                    .signals(signals)
+                    .recommendationsCreated(batch.created)
+                    .elapsedMillis(elapsed / 1_000_000)
+                    .build();
+        } finally {
+            scanLock.unlock();
+        }
+    }
+
+    private RollingIndicators newIndicators() {
+        return new RollingIndicators(properties.getShortWindow(), properties.getLongWindow(),
+                properties.getRsiPeriod(), properties.getVolatilityWindow(), properties.getChannelWindow());
+    }
+
+    private static final class SymbolState {
+        private final RollingIndicators indicators;
+        private int processed;
+
+        private SymbolState(RollingIndicators indicators) {
+            this.indicators = indicators;
+        }
+    }
+
+    /**
+     * Column buffers for up to capacity signals, reused across flushes.
+     */
+    private final class Batch {
+        private final String[] symbols;
+        private final String[] families;
+        private final String[] types;
+        private final BigDecimal[] confidences;
+        private final String[] reasonings;
+        private final Date[] signalDays;
+        private final Timestamp[] expiresAt;
+        private final List<String> scannedSymbols = new ArrayList<>();
+        private final List<Date> scannedDays = new ArrayList<>();
+        private int size;
+        private int created;
+
+        private Batch(int capacity) {
+            symbols = new String[capacity];
+            families = new String[capacity];
+            types = new String[capacity];
+            confidences = new BigDecimal[capacity];
+            reasonings = new String[capacity];
+            signalDays = new Date[capacity];
+            expiresAt = new Timestamp[capacity];
+        }
+
+        /**
+         * Returns true once the batch is full.
+         */
+        private boolean add(Signal signal, int epochDay) {
+            symbols[size] = signal.getSymbol();
+            families[size] = signal.getFamily().name();
+            types[size] = signal.getType().name();
+            confidences[size] = BigDecimal.valueOf(signal.getConfidence()).setScale(4, RoundingMode.HALF_UP);
+            reasonings[size] = signal.getReasoning();
+            LocalDate day = LocalDate.ofEpochDay(epochDay);
+            signalDays[size] = Date.valueOf(day);
+            // From the end of the bar's day, so a re-scan of the bar produces the same row
+            expiresAt[size] = Timestamp.valueOf(day.plusDays(1).atStartOfDay().plus(properties.getExpiresAfter()));
+            return ++size == symbols.length;
+        }
+
+        /**
+         * Records that the symbol's bars are all in the batch up to epochDay; returns true once the batch is full.
+         */
+        private boolean scannedThrough(String symbol, int epochDay) {
+            scannedSymbols.add(symbol);
+            scannedDays.add(Date.valueOf(LocalDate.ofEpochDay(epochDay)));
+            return scannedSymbols.size() == symbols.length;
+        }
+
+        private void flush() {
+            if (size == 0 && scannedSymbols.isEmpty()) {
+                return;
+            }
+            Integer rows = transactionTemplate.execute(status -> {
+                int inserted = size == 0 ? 0 : recommendationRepository.insertForHolders(symbols, families, types,
+                        confidences, reasonings, signalDays, expiresAt, size);
+                progressRepository.saveScannedThrough(scannedSymbols, scannedDays);
+                return inserted;
+            });
+            created += rows;
+            meterRegistry.counter("strategy.signals.recommendations").increment(rows);
+            size = 0;
+            scannedSymbols.clear();
+            scannedDays.clear();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.sudheer.robinhood.strategy.signals;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "strategy.signals")
+public class SignalProperties {
+
+    private String cron = "0 15 22 * * MON-FRI";
+
+    private int shortWindow = 20;
+
+    private int longWindow = 50;
+
+    private int rsiPeriod = 14;
+
+    private int volatilityWindow = 20;
+
+    /**
+     * Bars in the breakout / pullback channel (rolling high and low of closes).
+     */
+    private int channelWindow = 50;
+
+    /**
+     * Bars older than this only warm the indicators; signals are raised for recent bars only.
+     */
+    private int maxSignalAgeDays = 3;
+
+    /**
+     * Recommendation lifetime, counted from the end of the signal's bar day.
+     */
+    private Duration expiresAfter = Duration.ofDays(3);
+
+    /**
+     * Signals per INSERT, each fanned out to every matching strategy in the database.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Mean reversion: how many standard deviations from the short average counts as stretched.
+     */
+    private double meanReversionZ = 2.0;
+
+    /**
+     * Dividend: annualized volatility at or below which a name counts as stable.
+     */
+    private double dividendMaxVolatility = 0.25;
+
+    /**
+     * Dividend: fall from the channel high that makes a stable name worth adding.
+     */
+    private double dividendPullback = 0.10;
+
+    /**
+     * Dividend: annualized volatility above which holders are told to sell.
+     */
+    private double dividendExitVolatility = 0.40;
+}
@@ -0,0 +1,142 @@
+package com.sudheer.robinhood.strategy.signals;
+
+import com.sudheer.robinhood.strategy.engine.RollingIndicators;
+import com.sudheer.robinhood.strategy.model.Recommendation.RecommendationType;
+import com.sudheer.robinhood.strategy.model.Strategy.StrategyType;
+
+import java.util.Locale;
+
+/**
+ * Entry and exit rules per strategy family, evaluated on a symbol's latest bar.
+ *
+ * Rules fire on the bar where a condition becomes true, not on every bar it
+ * holds, so a trend produces one recommendation rather than one a day.
+ * Confidence starts at 0.5 and grows with how decisively the condition was
+ * crossed, capped at 0.95.
+ */
+final class SignalRules {
+
+    private static final double BASE_CONFIDENCE = 0.5;
+    private static final double MAX_CONFIDENCE = 0.95;
+
+    private final double meanReversionZ;
+    private final double dividendMaxVolatility;
+    private final double dividendPullback;
+    private final double dividendExitVolatility;
+    private final int shortWindow;
+    private final int longWindow;
+    private final int channelWindow;
+
+    SignalRules(SignalProperties properties) {
+        this.meanReversionZ = properties.getMeanReversionZ();
+        this.dividendMaxVolatility = properties.getDividendMaxVolatility();
+        this.dividendPullback = properties.getDividendPullback();
+        this.dividendExitVolatility = properties.getDividendExitVolatility();
+        this.shortWindow = properties.getShortWindow();
+        this.longWindow = properties.getLongWindow();
+        this.channelWindow = properties.getChannelWindow();
+    }
+
+    /**
+     * The family's signal for the latest bar, or null if none fires.
+     */
+    Signal evaluate(String symbol, StrategyType family, RollingIndicators indicators) {
+        return switch (family) {
+            case MOMENTUM -> momentum(symbol, indicators);
+            case VALUE -> meanReversion(symbol, indicators);
+            case DIVIDEND -> dividend(symbol, indicators);
+            default -> null;
+        };
+    }
+
+    /**
+     * Moving-average crossovers, else a close through the channel.
+     */
+    private Signal momentum(String symbol, RollingIndicators in) {
+        double spread = (in.getShortSma() - in.getLongSma()) / in.getLongSma();
+        boolean goldenCross = in.getPreviousShortSma() <= in.getPreviousLongSma() && in.getShortSma() > in.getLongSma();
+        boolean deathCross = in.getPreviousShortSma() >= in.getPreviousLongSma() && in.getShortSma() < in.getLongSma();
+        if (goldenCross) {
+            // An overbought cross is more likely to fade
+            double confidence = confidence(Math.abs(spread) * 20.0) * (in.getRsi() > 70.0 ? 0.8 : 1.0);
+            return new Signal(symbol, StrategyType.MOMENTUM, RecommendationType.BUY, confidence, format(
+                    "%d-day average crossed above the %d-day average (%+.2f%%), RSI %.0f",
+                    shortWindow, longWindow, spread * 100.0, in.getRsi()));
+        }
+        if (deathCross) {
+            double confidence = confidence(Math.abs(spread) * 20.0) * (in.getRsi() < 30.0 ? 0.8 : 1.0);
+            return new Signal(symbol, StrategyType.MOMENTUM, RecommendationType.SELL, confidence, format(
+                    "%d-day average crossed below the %d-day average (%+.2f%%), RSI %.0f",
+                    shortWindow, longWindow, spread * 100.0, in.getRsi()));
+        }
+
+        boolean breakout = in.getClose() > in.getHigh() && !(in.getPreviousClose() > in.getPreviousHigh());
+        boolean breakdown = in.getClose() < in.getLow() && !(in.getPreviousClose() < in.getPreviousLow());
+        if (breakout && in.getShortSma() > in.getLongSma()) {
+            double beyond = in.getClose() / in.getHigh() - 1.0;
+            return new Signal(symbol, StrategyType.MOMENTUM, RecommendationType.BUY, confidence(beyond * 20.0), format(
+                    "Closed at a new %d-day high (%.2f, %+.2f%% through the prior high) in an uptrend",
+                    channelWindow, in.getClose(), beyond * 100.0));
+        }
+        if (breakdown && in.getShortSma() < in.getLongSma()) {
+            double beyond = 1.0 - in.getClose() / in.getLow();
+            return new Signal(symbol, StrategyType.MOMENTUM, RecommendationType.SELL, confidence(beyond * 20.0), format(
+                    "Closed at a new %d-day low (%.2f, %.2f%% under the prior low) in a downtrend",
+                    channelWindow, in.getClose(), beyond * 100.0));
+        }
+        return null;
+    }
+
+    /**
+     * Stretched far from the short average with RSI agreeing: expect a move back.
+     */
+    private Signal meanReversion(String symbol, RollingIndicators in) {
+        double z = in.getZScore();
+        double previousZ = in.getPreviousZScore();
+        if (z <= -meanReversionZ && previousZ > -meanReversionZ && in.getRsi() < 35.0) {
+            double confidence = confidence((-z - meanReversionZ) * 0.5 + (35.0 - in.getRsi()) / 35.0 * 0.5);
+            return new Signal(symbol, StrategyType.VALUE, RecommendationType.BUY, confidence, format(
+                    "%.1f standard deviations below its %d-day average with RSI %.0f; oversold, likely to revert",
+                    -z, shortWindow, in.getRsi()));
+        }
+        if (z >= meanReversionZ && previousZ < meanReversionZ && in.getRsi() > 65.0) {
+            double confidence = confidence((z - meanReversionZ) * 0.5 + (in.getRsi() - 65.0) / 35.0 * 0.5);
+            return new Signal(symbol, StrategyType.VALUE, RecommendationType.SELL, confidence, format(
+                    "%.1f standard deviations above its %d-day average with RSI %.0f; overbought, likely to revert",
+                    z, shortWindow, in.getRsi()));
+        }
+        return null;
+    }
+
+    /**
+     * Price data carries no dividends, so this trades their usual profile: a
+     * stable (low-volatility) name that pulls back offers a higher yield on
+     * cost, and a name turning volatile no longer suits an income portfolio.
+     */
+    private Signal dividend(String symbol, RollingIndicators in) {
+        boolean entry = in.getVolatility() <= dividendMaxVolatility && in.drawdown() >= dividendPullback;
+        boolean wasEntry = in.getPreviousVolatility() <= dividendMaxVolatility && in.previousDrawdown() >= dividendPullback;
+        if (entry && !wasEntry) {
+            double confidence = confidence((in.drawdown() - dividendPullback) * 5.0
+                    + (dividendMaxVolatility - in.getVolatility()) / dividendMaxVolatility * 0.3);
+            return new Signal(symbol, StrategyType.DIVIDEND, RecommendationType.BUY, confidence, format(
+                    "Stable name (%.0f%% annualized volatility) %.1f%% below its %d-day high; a better entry yield",
+                    in.getVolatility() * 100.0, in.drawdown() * 100.0, channelWindow));
+        }
+        if (in.getVolatility() > dividendExitVolatility && in.getPreviousVolatility() <= dividendExitVolatility) {
+            double confidence = confidence((in.getVolatility() - dividendExitVolatility) / dividendExitVolatility);
+            return new Signal(symbol, StrategyType.DIVIDEND, RecommendationType.SELL, confidence, format(
+                    "Annualized volatility rose to %.0f%%, above the %.0f%% an income holding should carry",
+                    in.getVolatility() * 100.0, dividendExitVolatility * 100.0));
+        }
+        return null;
+    }
+
+    private static double confidence(double strength) {
+        return Math.min(MAX_CONFIDENCE, BASE_CONFIDENCE + Math.max(0.0, strength));
+    }
+
+    private static String format(String template, Object... args) {
+        return String.format(Locale.ROOT, template, args);
+    }
+}
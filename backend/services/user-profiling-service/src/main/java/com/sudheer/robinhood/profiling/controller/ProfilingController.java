@@ -1,20 +1,30 @@
 package com.sudheer.robinhood.profiling.controller;
 
+import com.sudheer.robinhood.profiling.dto.ProjectionRequest;
+import com.sudheer.robinhood.profiling.dto.ProjectionResponse;
 import com.sudheer.robinhood.profiling.dto.QuickRiskAssessmentRequest;
 import com.sudheer.robinhood.profiling.dto.QuickRiskAssessmentResponse;
-import com.sudheer.robinhood.profiling.dto.StrategyRecommendation;
-import com.sudheer.robinhood.profiling.enums.InvestmentGoal;
-import com.sudheer.robinhood.profiling.enums.RiskTolerance;
+import com.sudheer.robinhood.profiling.service.BatchAssessmentService;
 import com.sudheer.robinhood.profiling.service.ProfilingService;
+import com.sudheer.robinhood.profiling.service.ProjectionService;
+import com.sudheer.robinhood.profiling.service.ReferenceResponses;
+import com.sudheer.robinhood.shared.security.AccessTokenClaims;
+import com.sudheer.robinhood.shared.security.AccessTokenFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Arrays;
-import java.util.List;
+import java.io.IOException;
+import java.math.BigDecimal;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/profiling")
@@ -23,6 +33,9 @@ import java.util.stream.Collectors;
 public class ProfilingController {
 
     private final ProfilingService profilingService;
+    private final BatchAssessmentService batchAssessmentService;
+    private final ReferenceResponses referenceResponses;
+    private final ProjectionService projectionService;
 
     @GetMapping("/health")
     public ResponseEntity<Map<String, String>> health() {
@@ -31,51 +44,68 @@ public class ProfilingController {
 
     @PostMapping("/quick-assessment")
     public ResponseEntity<QuickRiskAssessmentResponse> quickAssessment(
-            @Valid @RequestBody QuickRiskAssessmentRequest request) {
-        QuickRiskAssessmentResponse response = profilingService.processQuickAssessment(request);
+            @Valid @RequestBody QuickRiskAssessmentRequest request,
+            @RequestAttribute(name = AccessTokenFilter.CLAIMS_ATTRIBUTE, required = false) AccessTokenClaims claims) {
+        QuickRiskAssessmentResponse response = profilingService.processQuickAssessment(request,
+                claims != null ? claims.getUserId() : null);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Scores a JSON array or NDJSON stream of quick assessments. Results stream
+     * back in input order, in the same format as the request body.
+     */
+    @PostMapping(value = "/quick-assessment/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public void batchQuickAssessment(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean ndjson = MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(request.getContentType()));
+        response.setContentType(ndjson ? MediaType.APPLICATION_NDJSON_VALUE : MediaType.APPLICATION_JSON_VALUE);
+        batchAssessmentService.scoreStream(request.getInputStream(), response.getOutputStream(), ndjson);
+    }
+
     @GetMapping("/recommendations")
-    public ResponseEntity<List<StrategyRecommendation>> getRecommendations(
+    public ResponseEntity<byte[]> getRecommendations(
             @RequestParam(required = false, defaultValue = "50") Integer riskScore) {
-        List<StrategyRecommendation> recommendations = profilingService.getRecommendations(riskScore);
-        return ResponseEntity.ok(recommendations);
+        return json(referenceResponses.getRecommendations(riskScore));
     }
 
-    @GetMapping("/enums/risk-tolerance")
-    public ResponseEntity<List<Map<String, String>>> getRiskToleranceOptions() {
-        List<Map<String, String>> options = Arrays.stream(RiskTolerance.values())
-                .map(rt -> Map.of(
-                        "value", rt.name().toLowerCase(),
-                        "label", formatEnumName(rt.name()),
-                        "description", getRiskToleranceDescription(rt)))
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(options);
+    /**
+     * Simulated final-value percentiles for the strategy recommended at riskScore.
+     * Out-of-range parameters are a 400, with the same bounds as the POST body.
+     */
+    @GetMapping("/recommendations/projection")
+    public ResponseEntity<ProjectionResponse> getRecommendationProjection(
+            @RequestParam(required = false, defaultValue = "50") @Min(0) @Max(100) Integer riskScore,
+            @RequestParam(required = false, defaultValue = "10") @Min(1) @Max(50) Integer timeHorizonYears,
+            @RequestParam(required = false, defaultValue = "10000") @DecimalMin("0.0") BigDecimal amount,
+            @RequestParam(required = false) Integer paths) {
+        return ResponseEntity.ok(projectionService.projectRecommendation(riskScore, timeHorizonYears, amount, paths));
     }
 
-    @GetMapping("/enums/investment-goals")
-    public ResponseEntity<List<Map<String, String>>> getInvestmentGoals() {
-        List<Map<String, String>> goals = Arrays.stream(InvestmentGoal.values())
-                .map(goal -> Map.of(
-                        "value", goal.name().toLowerCase(),
-                        "label", formatEnumName(goal.name())))
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(goals);
+    @PostMapping("/projection")
+    public ResponseEntity<ProjectionResponse> project(@Valid @RequestBody ProjectionRequest request) {
+        return ResponseEntity.ok(projectionService.project(request));
     }
 
-    private String formatEnumName(String enumName) {
-        return Arrays.stream(enumName.split("_"))
-                .map(word -> word.charAt(0) + word.substring(1).toLowerCase())
-                .collect(Collectors.joining(" "));
+    @GetMapping("/enums/risk-tolerance")
+    public ResponseEntity<byte[]> getRiskToleranceOptions() {
+        return json(referenceResponses.getRiskToleranceOptions());
+    }
+
+    @GetMapping("/enums/investment-goals")
+    public ResponseEntity<byte[]> getInvestmentGoals() {
+        return json(referenceResponses.getInvestmentGoals());
     }
 
-    private String getRiskToleranceDescription(RiskTolerance rt) {
-        return switch (rt) {
-            case CONSERVATIVE -> "Low risk, stable returns";
-            case MODERATE -> "Balanced risk/reward";
-            case AGGRESSIVE -> "High risk, high potential returns";
-            case VERY_AGGRESSIVE -> "Maximum risk tolerance";
-        };
+    /**
+     * Writes a pre-encoded body as is. Spring answers 304 itself when
+     * If-None-Match matches the ETag.
+     */
+    private static ResponseEntity<byte[]> json(ReferenceResponses.Encoded encoded) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(encoded.getEtag())
+                .body(encoded.getBody());
     }
 }
@@ -0,0 +1,57 @@
+package com.sudheer.robinhood.profiling.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectionRequest {
+
+    // Percentages; normalized if they do not sum to 100
+    @NotNull
+    @DecimalMin("0.0")
+    private BigDecimal stockAllocation;
+
+    @NotNull
+    @DecimalMin("0.0")
+    private BigDecimal bondAllocation;
+
+    @NotNull
+    @DecimalMin("0.0")
+    private BigDecimal alternativeAllocation;
+
+    @NotNull
+    @DecimalMin("0.0")
+    private BigDecimal cashAllocation;
+
+    @NotNull
+    @Min(1)
+    @Max(50)
+    private Integer timeHorizonYears;
+
+    @NotNull
+    @DecimalMin("0.0")
+    private BigDecimal initialAmount;
+
+    private Integer paths; // clamped to profiling.projection.min-paths..max-paths
+
+    // Normalizing needs something to divide by; all four at 0 is a 400, not a projector error
+    @JsonIgnore
+    @AssertTrue(message = "Allocations must sum to more than 0")
+    public boolean isAllocated() {
+        return isPositive(stockAllocation) || isPositive(bondAllocation)
+                || isPositive(alternativeAllocation) || isPositive(cashAllocation);
+    }
+
+    private static boolean isPositive(BigDecimal value) {
+        return value != null && value.signum() > 0;
+    }
+}
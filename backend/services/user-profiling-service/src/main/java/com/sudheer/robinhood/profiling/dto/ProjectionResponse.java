@@ -0,0 +1,33 @@
+package com.sudheer.robinhood.profiling.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectionResponse {
+    private String strategyName; // null for a custom allocation
+    private BigDecimal initialAmount;
+    private Integer timeHorizonYears;
+    private Integer paths;
+    private BigDecimal expectedReturn; // annual, percent
+    private BigDecimal volatility; // annual, percent
+    private BigDecimal meanFinalValue;
+    private BigDecimal probabilityOfLoss; // share of paths ending below initialAmount
+    private List<Band> finalValuePercentiles;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Band {
+        private Integer percentile;
+        private BigDecimal finalValue;
+    }
+}
@@ -47,6 +47,14 @@ public class QuickRiskAssessmentRequest {
      * Returns score from 1-100
      */
     public Integer calculateRiskScore() {
+        return riskScore(age, timeHorizonYears, lossTolerance, investmentKnowledge);
+    }
+
+    /**
+     * Primitive form of {@link #calculateRiskScore()}, shared with batch scoring
+     * so both paths produce identical scores.
+     */
+    public static int riskScore(int age, int timeHorizonYears, int lossTolerance, int investmentKnowledge) {
         // Age factor (younger = higher risk capacity)
         int ageScore = Math.max(0, 100 - age);
 
@@ -0,0 +1,220 @@
+package com.sudheer.robinhood.profiling.projection;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monte Carlo projection of portfolio value for an asset allocation.
+ *
+ * The allocation is rebalanced yearly, so each year's portfolio return is
+ * the weighted sum of the asset-class returns; with normally distributed
+ * class returns that sum is itself normal, with the mean and variance given
+ * by the weights, class assumptions and correlations. Each path therefore
+ * draws one return per year, rather than one per asset class.
+ *
+ * Paths come in antithetic pairs: the second path of a pair takes the
+ * negated draws of the first. That halves the Gaussian draws, which dominate
+ * the cost, and narrows the error of the estimated percentiles.
+ *
+ * Paths are split into contiguous chunks that run in parallel. Each chunk has
+ * its own SplittableRandom, split from a root seeded by the key, so a key
+ * always gives the same result however the chunks are scheduled. Chunks
+ * write final values straight into one primitive array, and nothing is
+ * allocated per path or per year. Results are cached per key. Concurrent
+ * requests for a key that is not cached yet share a single simulation.
+ */
+@Component
+@Slf4j
+public class MonteCarloProjector implements DisposableBean {
+
+    private static final int MIN_PATHS_PER_CHUNK = 2_048;
+
+    private final ProjectionProperties properties;
+    private final ForkJoinPool pool;
+    private final int parallelism;
+    private final Cache<Key, Projection> cache;
+    private final long timeBudgetNanos;
+    private final Timer simulateTimer;
+    private final Counter overBudget;
+
+    public MonteCarloProjector(ProjectionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.parallelism = properties.getParallelism() > 0
+                ? properties.getParallelism() : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheSize())
+                .build();
+        this.timeBudgetNanos = properties.getTimeBudget().toNanos();
+        this.simulateTimer = Timer.builder("profiling.projection.simulate")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.overBudget = meterRegistry.counter("profiling.projection.over-budget");
+    }
+
+    /**
+     * Cached projection for the allocation (weights in any unit, normalized
+     * here). paths is clamped to the configured range; null uses the default.
+     */
+    public Projection project(double stocks, double bonds, double alternatives, double cash,
+                              int timeHorizonYears, Integer paths) {
+        return cache.get(key(stocks, bonds, alternatives, cash, timeHorizonYears, paths), this::simulate);
+    }
+
+    /**
+     * Like {@link #project} but always simulates, bypassing the cache.
+     */
+    public Projection simulate(double stocks, double bonds, double alternatives, double cash,
+                               int timeHorizonYears, Integer paths) {
+        return simulate(key(stocks, bonds, alternatives, cash, timeHorizonYears, paths));
+    }
+
+    private Key key(double stocks, double bonds, double alternatives, double cash, int timeHorizonYears, Integer paths) {
+        double total = stocks + bonds + alternatives + cash;
+        if (!(total > 0.0) || stocks < 0.0 || bonds < 0.0 || alternatives < 0.0 || cash < 0.0) {
+            throw new IllegalArgumentException("Allocations must be non-negative and sum to more than 0");
+        }
+        if (timeHorizonYears < 1 || timeHorizonYears > 50) {
+            throw new IllegalArgumentException("timeHorizonYears must be between 1 and 50");
+        }
+        int pathCount = paths == null ? properties.getDefaultPaths()
+                : Math.max(properties.getMinPaths(), Math.min(paths, properties.getMaxPaths()));
+        // Basis points, so allocations that differ by rounding noise share an entry
+        return new Key(basisPoints(stocks, total), basisPoints(bonds, total), basisPoints(alternatives, total),
+                basisPoints(cash, total), timeHorizonYears, pathCount);
+    }
+
+    private static int basisPoints(double weight, double total) {
+        return (int) Math.round(weight / total * 10_000.0);
+    }
+
+    private Projection simulate(Key key) {
+        long started = System.nanoTime();
+        double[] weights = {key.stocks / 10_000.0, key.bonds / 10_000.0, key.alternatives / 10_000.0, key.cash / 10_000.0};
+        double mean = portfolioMean(weights);
+        double volatility = portfolioVolatility(weights);
+        int years = key.timeHorizonYears;
+        int paths = key.paths;
+
+        double[] finals = new double[paths];
+        int chunks = Math.max(1, Math.min(parallelism, paths / MIN_PATHS_PER_CHUNK));
+        int pairs = (paths + 1) / 2;
+        SplittableRandom root = new SplittableRandom(properties.getSeed() * 31L + key.hashCode());
+        List<Callable<Void>> tasks = new ArrayList<>(chunks);
+        for (int c = 0; c < chunks; c++) {
+            // Chunk bounds fall on pair boundaries
+            int from = (int) ((long) pairs * c / chunks) * 2;
+            int to = Math.min(paths, (int) ((long) pairs * (c + 1) / chunks) * 2);
+            SplittableRandom random = root.split();
+            tasks.add(() -> {
+                simulatePaths(finals, from, to, years, mean, volatility, random);
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Projection interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Projection failed", e.getCause());
+        }
+
+        Arrays.parallelSort(finals);
+        double sum = 0.0;
+        int losses = 0;
+        for (double value : finals) {
+            sum += value;
+            if (value < 1.0) {
+                losses++;
+            }
+        }
+        double[] multiples = new double[Projection.PERCENTILES.length];
+        for (int i = 0; i < multiples.length; i++) {
+            multiples[i] = finals[(int) Math.round(Projection.PERCENTILES[i] / 100.0 * (paths - 1))];
+        }
+
+        long elapsed = System.nanoTime() - started;
+        simulateTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        if (elapsed > timeBudgetNanos) {
+            overBudget.increment();
+            log.warn("Projection of {} paths over {} years took {} ms", paths, years, elapsed / 1_000_000);
+        }
+        return new Projection(mean, volatility, years, paths, multiples, sum / paths, (double) losses / paths);
+    }
+
+    private static void simulatePaths(double[] finals, int from, int to, int years, double mean, double volatility,
+                                      SplittableRandom random) {
+        double growth = 1.0 + mean;
+        for (int path = from; path < to; path += 2) {
+            double value = 1.0;
+            double mirror = 1.0;
+            for (int year = 0; year < years; year++) {
+                double shock = volatility * random.nextGaussian();
+                // A loss beyond 100% floors the value at zero, where it then stays
+                value = Math.max(0.0, value * (growth + shock));
+                mirror = Math.max(0.0, mirror * (growth - shock));
+            }
+            finals[path] = value;
+            if (path + 1 < to) {
+                finals[path + 1] = mirror;
+            }
+        }
+    }
+
+    private double portfolioMean(double[] w) {
+        return w[0] * properties.getStocks().getExpectedReturn()
+                + w[1] * properties.getBonds().getExpectedReturn()
+                + w[2] * properties.getAlternatives().getExpectedReturn()
+                + w[3] * properties.getCash().getExpectedReturn();
+    }
+
+    private double portfolioVolatility(double[] w) {
+        double s = w[0] * properties.getStocks().getVolatility();
+        double b = w[1] * properties.getBonds().getVolatility();
+        double a = w[2] * properties.getAlternatives().getVolatility();
+        double c = w[3] * properties.getCash().getVolatility();
+        // Cash is taken as uncorrelated with the rest
+        double variance = s * s + b * b + a * a + c * c
+                + 2.0 * s * b * properties.getStockBondCorrelation()
+                + 2.0 * s * a * properties.getStockAlternativeCorrelation()
+                + 2.0 * b * a * properties.getBondAlternativeCorrelation();
+        return Math.sqrt(Math.max(0.0, variance));
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    @Data
+    @AllArgsConstructor
+    private static final class Key {
+        private final int stocks;
+        private final int bonds;
+        private final int alternatives;
+        private final int cash;
+        private final int timeHorizonYears;
+        private final int paths;
+    }
+}
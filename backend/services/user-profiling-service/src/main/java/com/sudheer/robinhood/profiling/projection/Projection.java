@@ -0,0 +1,27 @@
+package com.sudheer.robinhood.profiling.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome distribution of one simulated allocation and horizon, per unit of
+ * initial investment: a value of 1.6 means 60% growth. Shared through the
+ * cache, so it is never modified after construction.
+ */
+@Getter
+@AllArgsConstructor
+public final class Projection {
+
+    /**
+     * Percentiles reported, in the order of {@link #getFinalValueMultiples()}.
+     */
+    public static final int[] PERCENTILES = {5, 10, 25, 50, 75, 90, 95};
+
+    private final double expectedReturn;
+    private final double volatility;
+    private final int timeHorizonYears;
+    private final int paths;
+    private final double[] finalValueMultiples;
+    private final double meanMultiple;
+    private final double probabilityOfLoss;
+}
@@ -0,0 +1,66 @@
+package com.sudheer.robinhood.profiling.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "profiling.projection")
+public class ProjectionProperties {
+
+    private int defaultPaths = 20_000;
+
+    private int minPaths = 1_000;
+
+    private int maxPaths = 100_000;
+
+    /**
+     * Simulation threads; 0 uses one per core.
+     */
+    private int parallelism = 0;
+
+    /**
+     * Projections kept, keyed by (allocation, horizon, paths).
+     */
+    private int cacheSize = 10_000;
+
+    /**
+     * Simulations slower than this are logged, as onboarding runs them inline.
+     */
+    private Duration timeBudget = Duration.ofMillis(50);
+
+    /**
+     * Base seed, so a given key always yields the same projection.
+     */
+    private long seed = 0x5EED_2024L;
+
+    /**
+     * Annual return assumptions per asset class, as fractions (0.09 = 9%).
+     */
+    private AssetClass stocks = new AssetClass(0.09, 0.16);
+
+    private AssetClass bonds = new AssetClass(0.04, 0.05);
+
+    private AssetClass alternatives = new AssetClass(0.06, 0.12);
+
+    private AssetClass cash = new AssetClass(0.025, 0.005);
+
+    private double stockBondCorrelation = 0.1;
+
+    private double stockAlternativeCorrelation = 0.6;
+
+    private double bondAlternativeCorrelation = 0.2;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AssetClass {
+        private double expectedReturn;
+        private double volatility;
+    }
+}
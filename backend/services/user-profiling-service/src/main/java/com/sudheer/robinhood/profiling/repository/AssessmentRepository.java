@@ -0,0 +1,78 @@
+package com.sudheer.robinhood.profiling.repository;
+
+import com.sudheer.robinhood.profiling.store.AssessmentRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Plain JDBC access to profiling.risk_assessments. A batch is one INSERT over
+ * unnest'ed column arrays, so the statement text is the same for any batch
+ * size and is prepared once per connection.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssessmentRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO profiling.risk_assessments (user_id, age, investment_amount, investment_goal,
+                time_horizon_years, loss_tolerance, investment_knowledge, risk_score, risk_tolerance,
+                recommended_strategy, assessed_at)
+            SELECT * FROM unnest(?::bigint[], ?::int[], ?::numeric[], ?::varchar[], ?::int[], ?::int[],
+                ?::int[], ?::int[], ?::varchar[], ?::varchar[], ?::timestamp[])
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the whole batch in one statement; returns rows inserted.
+     */
+    public int insertBatch(List<AssessmentRecord> batch) {
+        int n = batch.size();
+        Long[] userIds = new Long[n];
+        Integer[] ages = new Integer[n];
+        BigDecimal[] amounts = new BigDecimal[n];
+        String[] goals = new String[n];
+        Integer[] horizons = new Integer[n];
+        Integer[] tolerances = new Integer[n];
+        Integer[] knowledge = new Integer[n];
+        Integer[] scores = new Integer[n];
+        String[] riskTolerances = new String[n];
+        String[] strategies = new String[n];
+        Timestamp[] assessedAt = new Timestamp[n];
+        for (int i = 0; i < n; i++) {
+            AssessmentRecord record = batch.get(i);
+            userIds[i] = record.getUserId();
+            ages[i] = record.getAge();
+            amounts[i] = record.getInvestmentAmount();
+            goals[i] = record.getInvestmentGoal().name();
+            horizons[i] = record.getTimeHorizonYears();
+            tolerances[i] = record.getLossTolerance();
+            knowledge[i] = record.getInvestmentKnowledge();
+            scores[i] = record.getRiskScore();
+            riskTolerances[i] = record.getRiskTolerance().name();
+            strategies[i] = record.getRecommendedStrategy();
+            assessedAt[i] = Timestamp.from(record.getAssessedAt());
+        }
+
+        return jdbcTemplate.update(INSERT_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("bigint", userIds));
+            ps.setArray(2, connection.createArrayOf("int4", ages));
+            ps.setArray(3, connection.createArrayOf("numeric", amounts));
+            ps.setArray(4, connection.createArrayOf("varchar", goals));
+            ps.setArray(5, connection.createArrayOf("int4", horizons));
+            ps.setArray(6, connection.createArrayOf("int4", tolerances));
+            ps.setArray(7, connection.createArrayOf("int4", knowledge));
+            ps.setArray(8, connection.createArrayOf("int4", scores));
+            ps.setArray(9, connection.createArrayOf("varchar", riskTolerances));
+            ps.setArray(10, connection.createArrayOf("varchar", strategies));
+            ps.setArray(11, connection.createArrayOf("timestamp", assessedAt));
+        });
+    }
+}
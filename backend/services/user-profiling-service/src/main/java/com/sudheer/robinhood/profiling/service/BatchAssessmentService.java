@@ -0,0 +1,314 @@
+package com.sudheer.robinhood.profiling.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sudheer.robinhood.profiling.dto.QuickRiskAssessmentRequest;
+import com.sudheer.robinhood.profiling.enums.InvestmentGoal;
+import com.sudheer.robinhood.profiling.enums.RiskTolerance;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Scores a stream of quick assessments, either one JSON array or NDJSON.
+ *
+ * Records are parsed with the streaming parser straight into primitive
+ * columns, chunkSize at a time, scored in one loop with the same formula as
+ * {@link QuickRiskAssessmentRequest#calculateRiskScore()}, and written back
+ * before the next chunk is read, so memory stays flat however large the
+ * batch. Results keep input order and carry the input index. A record that
+ * fails validation gets an error entry at its position instead of failing the
+ * batch.
+ */
+@Service
+@Slf4j
+public class BatchAssessmentService {
+
+    private static final SerializedString INDEX = new SerializedString("index");
+    private static final SerializedString RISK_SCORE = new SerializedString("riskScore");
+    private static final SerializedString RISK_TOLERANCE = new SerializedString("riskTolerance");
+    private static final SerializedString RECOMMENDED_STRATEGY = new SerializedString("recommendedStrategy");
+    private static final SerializedString ERROR = new SerializedString("error");
+
+    private static final int AGE = 1;
+    private static final int AMOUNT = 1 << 1;
+    private static final int GOAL = 1 << 2;
+    private static final int HORIZON = 1 << 3;
+    private static final int TOLERANCE = 1 << 4;
+    private static final int KNOWLEDGE = 1 << 5;
+    private static final int ALL_FIELDS = (1 << 6) - 1;
+
+    // Score -> pre-encoded tolerance and strategy names
+    private static final SerializableString[] TOLERANCE_BY_SCORE = new SerializableString[101];
+    private static final SerializableString[] STRATEGY_BY_SCORE = new SerializableString[101];
+
+    static {
+        for (int score = 0; score <= 100; score++) {
+            RiskTolerance tolerance = ProfilingService.riskToleranceFor(score);
+            TOLERANCE_BY_SCORE[score] = new SerializedString(tolerance.name());
+            STRATEGY_BY_SCORE[score] = new SerializedString(ProfilingService.recommendedStrategyFor(tolerance));
+        }
+    }
+
+    private final JsonFactory jsonFactory;
+    private final int chunkSize;
+    private final long maxRecords;
+    private final Counter scored;
+    private final Counter rejected;
+
+    public BatchAssessmentService(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                  @Value("${profiling.batch.chunk-size:4096}") int chunkSize,
+                                  @Value("${profiling.batch.max-records:1000000}") long maxRecords) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxRecords = maxRecords;
+        this.scored = meterRegistry.counter("profiling.batch.assessments", "result", "scored");
+        this.rejected = meterRegistry.counter("profiling.batch.assessments", "result", "rejected");
+    }
+
+    public void scoreStream(InputStream in, OutputStream out, boolean ndjson) throws IOException {
+        long started = System.nanoTime();
+        Chunk chunk = new Chunk(chunkSize);
+        long index = 0;
+        long scoredCount = 0;
+        long rejectedCount = 0;
+
+        try (JsonParser parser = jsonFactory.createParser(in);
+             JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            if (!ndjson) {
+                generator.writeStartArray();
+            }
+
+            String streamError = null;
+            try {
+                JsonToken first = parser.nextToken();
+                boolean array = first == JsonToken.START_ARRAY;
+                JsonToken token = array ? parser.nextToken() : first;
+
+                while (token != null && token != JsonToken.END_ARRAY) {
+                    chunk.size = 0;
+                    while (token != null && token != JsonToken.END_ARRAY && chunk.size < chunkSize) {
+                        if (index + chunk.size >= maxRecords) {
+                            streamError = "Batch exceeds " + maxRecords + " records";
+                            break;
+                        }
+                        readRecord(parser, chunk, chunk.size++);
+                        token = parser.nextToken();
+                    }
+
+                    chunk.score();
+                    for (int i = 0; i < chunk.size; i++) {
+                        if (chunk.errors[i] != null) {
+                            rejectedCount++;
+                        } else {
+                            scoredCount++;
+                        }
+                        writeResult(generator, index++, chunk, i, ndjson);
+                    }
+                    generator.flush();
+
+                    if (streamError != null) {
+                        break;
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                streamError = "Malformed input: " + e.getOriginalMessage();
+            }
+
+            if (streamError != null) {
+                generator.writeStartObject();
+                generator.writeFieldName(INDEX);
+                generator.writeNumber(index);
+                generator.writeFieldName(ERROR);
+                generator.writeString(streamError);
+                generator.writeEndObject();
+                if (ndjson) {
+                    generator.writeRaw('\n');
+                }
+            }
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+        } finally {
+            scored.increment(scoredCount);
+            rejected.increment(rejectedCount);
+            log.info("Batch assessment: scored={}, rejected={} in {} ms",
+                    scoredCount, rejectedCount, (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+
+    private void readRecord(JsonParser parser, Chunk chunk, int i) throws IOException {
+        chunk.errors[i] = null;
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            chunk.errors[i] = "Expected a JSON object";
+            return;
+        }
+
+        int seen = 0;
+        String error = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            if (value.isStructStart()) {
+                // Consume the whole value so the parser is back at this record's next field
+                parser.skipChildren();
+                if (isRecordField(field)) {
+                    error = field + " must not be an object or array";
+                }
+                continue;
+            }
+            switch (field) {
+                case "age" -> {
+                    chunk.age[i] = intValue(parser);
+                    seen |= AGE;
+                }
+                case "timeHorizonYears" -> {
+                    chunk.horizon[i] = intValue(parser);
+                    seen |= HORIZON;
+                }
+                case "lossTolerance" -> {
+                    chunk.tolerance[i] = intValue(parser);
+                    seen |= TOLERANCE;
+                }
+                case "investmentKnowledge" -> {
+                    chunk.knowledge[i] = intValue(parser);
+                    seen |= KNOWLEDGE;
+                }
+                case "investmentAmount" -> {
+                    double amount = parser.getValueAsDouble(Double.NaN);
+                    if (Double.isNaN(amount) || amount < 0.0) {
+                        error = "investmentAmount must be greater than or equal to 0.0";
+                    }
+                    seen |= AMOUNT;
+                }
+                case "investmentGoal" -> {
+                    if (!isInvestmentGoal(parser.getValueAsString())) {
+                        error = "investmentGoal is not a valid investment goal";
+                    }
+                    seen |= GOAL;
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (error == null) {
+            error = validate(chunk, i, seen);
+        }
+        chunk.errors[i] = error;
+    }
+
+    private static String validate(Chunk chunk, int i, int seen) {
+        if (seen != ALL_FIELDS) {
+            return "age, investmentAmount, investmentGoal, timeHorizonYears, lossTolerance "
+                    + "and investmentKnowledge are required";
+        }
+        if (chunk.age[i] < 18 || chunk.age[i] > 120) {
+            return "age must be between 18 and 120";
+        }
+        if (chunk.horizon[i] < 1 || chunk.horizon[i] > 50) {
+            return "timeHorizonYears must be between 1 and 50";
+        }
+        if (chunk.tolerance[i] < 1 || chunk.tolerance[i] > 10) {
+            return "lossTolerance must be between 1 and 10";
+        }
+        if (chunk.knowledge[i] < 1 || chunk.knowledge[i] > 10) {
+            return "investmentKnowledge must be between 1 and 10";
+        }
+        return null;
+    }
+
+    private static boolean isRecordField(String field) {
+        return switch (field) {
+            case "age", "investmentAmount", "investmentGoal", "timeHorizonYears", "lossTolerance",
+                    "investmentKnowledge" -> true;
+            default -> false;
+        };
+    }
+
+    private static int intValue(JsonParser parser) throws IOException {
+        long value = parser.getValueAsLong(Long.MIN_VALUE);
+        // Anything outside int range fails validation anyway
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
+    }
+
+    private static boolean isInvestmentGoal(String value) {
+        if (value == null) {
+            return false;
+        }
+        try {
+            InvestmentGoal.valueOf(value.toUpperCase(Locale.ROOT));
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static void writeResult(JsonGenerator generator, long index, Chunk chunk, int i, boolean ndjson)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(INDEX);
+        generator.writeNumber(index);
+        if (chunk.errors[i] != null) {
+            generator.writeFieldName(ERROR);
+            generator.writeString(chunk.errors[i]);
+        } else {
+            int score = chunk.scores[i];
+            generator.writeFieldName(RISK_SCORE);
+            generator.writeNumber(score);
+            generator.writeFieldName(RISK_TOLERANCE);
+            generator.writeString(TOLERANCE_BY_SCORE[score]);
+            generator.writeFieldName(RECOMMENDED_STRATEGY);
+            generator.writeString(STRATEGY_BY_SCORE[score]);
+        }
+        generator.writeEndObject();
+        if (ndjson) {
+            generator.writeRaw('\n');
+        }
+    }
+
+    /**
+     * Column-oriented buffer for one chunk of records, reused across chunks.
+     */
+    private static final class Chunk {
+        private final int[] age;
+        private final int[] horizon;
+        private final int[] tolerance;
+        private final int[] knowledge;
+        private final int[] scores;
+        private final String[] errors;
+        private int size;
+
+        private Chunk(int capacity) {
+            age = new int[capacity];
+            horizon = new int[capacity];
+            tolerance = new int[capacity];
+            knowledge = new int[capacity];
+            scores = new int[capacity];
+            errors = new String[capacity];
+        }
+
+        private void score() {
+            for (int i = 0; i < size; i++) {
+                scores[i] = QuickRiskAssessmentRequest.riskScore(age[i], horizon[i], tolerance[i], knowledge[i]);
+            }
+        }
+    }
+}
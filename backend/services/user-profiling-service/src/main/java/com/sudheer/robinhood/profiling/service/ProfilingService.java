@@ -4,11 +4,14 @@ import com.sudheer.robinhood.profiling.dto.QuickRiskAssessmentRequest;
 import com.sudheer.robinhood.profiling.dto.QuickRiskAssessmentResponse;
 import com.sudheer.robinhood.profiling.dto.StrategyRecommendation;
 import com.sudheer.robinhood.profiling.enums.RiskTolerance;
+import com.sudheer.robinhood.profiling.store.AssessmentRecord;
+import com.sudheer.robinhood.profiling.store.AssessmentWriteBehind;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,30 +20,26 @@ import java.util.List;
 @Slf4j
 public class ProfilingService {
 
-    public QuickRiskAssessmentResponse processQuickAssessment(QuickRiskAssessmentRequest request) {
+    private final AssessmentWriteBehind assessmentWriteBehind;
+
+    /**
+     * Scores the assessment and queues it for storage; userId is null for an
+     * anonymous caller. The response never waits on the database.
+     */
+    public QuickRiskAssessmentResponse processQuickAssessment(QuickRiskAssessmentRequest request, Long userId) {
         // Calculate risk score
         Integer riskScore = request.calculateRiskScore();
 
         // Map to risk tolerance
-        RiskTolerance riskTolerance;
-        String recommendedStrategy;
-
-        if (riskScore < 30) {
-            riskTolerance = RiskTolerance.CONSERVATIVE;
-            recommendedStrategy = "Conservative Income";
-        } else if (riskScore < 60) {
-            riskTolerance = RiskTolerance.MODERATE;
-            recommendedStrategy = "Balanced Growth";
-        } else if (riskScore < 80) {
-            riskTolerance = RiskTolerance.AGGRESSIVE;
-            recommendedStrategy = "Growth Portfolio";
-        } else {
-            riskTolerance = RiskTolerance.VERY_AGGRESSIVE;
-            recommendedStrategy = "Aggressive Growth";
-        }
+        RiskTolerance riskTolerance = riskToleranceFor(riskScore);
+        String recommendedStrategy = recommendedStrategyFor(riskTolerance);
 
         log.info("Quick assessment processed: riskScore={}, tolerance={}", riskScore, riskTolerance);
 
+        assessmentWriteBehind.record(new AssessmentRecord(userId, request.getAge(), request.getInvestmentAmount(),
+                request.getInvestmentGoal(), request.getTimeHorizonYears(), request.getLossTolerance(),
+                request.getInvestmentKnowledge(), riskScore, riskTolerance, recommendedStrategy, Instant.now()));
+
         return QuickRiskAssessmentResponse.builder()
                 .riskScore(riskScore)
                 .riskTolerance(riskTolerance)
@@ -49,6 +48,26 @@ public class ProfilingService {
                 .build();
     }
 
+    public static RiskTolerance riskToleranceFor(int riskScore) {
+        if (riskScore < 30) {
+            return RiskTolerance.CONSERVATIVE;
+        } else if (riskScore < 60) {
+            return RiskTolerance.MODERATE;
+        } else if (riskScore < 80) {
+            return RiskTolerance.AGGRESSIVE;
+        }
+        return RiskTolerance.VERY_AGGRESSIVE;
+    }
+
+    public static String recommendedStrategyFor(RiskTolerance riskTolerance) {
+        return switch (riskTolerance) {
+            case CONSERVATIVE -> "Conservative Income";
+            case MODERATE -> "Balanced Growth";
+            case AGGRESSIVE -> "Growth Portfolio";
+            case VERY_AGGRESSIVE -> "Aggressive Growth";
+        };
+    }
+
     public List<StrategyRecommendation> getRecommendations(Integer riskScore) {
         List<StrategyRecommendation> recommendations = new ArrayList<>();
 
@@ -0,0 +1,73 @@
+package com.sudheer.robinhood.profiling.service;
+
+import com.sudheer.robinhood.profiling.dto.ProjectionRequest;
+import com.sudheer.robinhood.profiling.dto.ProjectionResponse;
+import com.sudheer.robinhood.profiling.dto.StrategyRecommendation;
+import com.sudheer.robinhood.profiling.projection.MonteCarloProjector;
+import com.sudheer.robinhood.profiling.projection.Projection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Projected outcomes for a custom allocation or for the strategy recommended
+ * at a risk score. Projections are cached per unit of investment, so any
+ * amount reuses them and only the scaling happens per request.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectionService {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final MonteCarloProjector projector;
+    private final ProfilingService profilingService;
+
+    public ProjectionResponse project(ProjectionRequest request) {
+        Projection projection = projector.project(request.getStockAllocation().doubleValue(),
+                request.getBondAllocation().doubleValue(), request.getAlternativeAllocation().doubleValue(),
+                request.getCashAllocation().doubleValue(), request.getTimeHorizonYears(), request.getPaths());
+        return toResponse(null, request.getInitialAmount(), projection);
+    }
+
+    public ProjectionResponse projectRecommendation(int riskScore, int timeHorizonYears, BigDecimal initialAmount,
+                                                    Integer paths) {
+        StrategyRecommendation recommendation = profilingService.getRecommendations(riskScore).get(0);
+        Projection projection = projector.project(recommendation.getStockAllocation().doubleValue(),
+                recommendation.getBondAllocation().doubleValue(), recommendation.getAlternativeAllocation().doubleValue(),
+                recommendation.getCashAllocation().doubleValue(), timeHorizonYears, paths);
+        return toResponse(recommendation.getStrategyName(), initialAmount, projection);
+    }
+
+    private static ProjectionResponse toResponse(String strategyName, BigDecimal initialAmount, Projection projection) {
+        double amount = initialAmount.doubleValue();
+        double[] multiples = projection.getFinalValueMultiples();
+        List<ProjectionResponse.Band> bands = new ArrayList<>(multiples.length);
+        for (int i = 0; i < multiples.length; i++) {
+            bands.add(new ProjectionResponse.Band(Projection.PERCENTILES[i], money(amount * multiples[i])));
+        }
+        return ProjectionResponse.builder()
+                .strategyName(strategyName)
+                .initialAmount(initialAmount)
+                .timeHorizonYears(projection.getTimeHorizonYears())
+                .paths(projection.getPaths())
+                .expectedReturn(percent(projection.getExpectedReturn()))
+                .volatility(percent(projection.getVolatility()))
+                .meanFinalValue(money(amount * projection.getMeanMultiple()))
+                .probabilityOfLoss(BigDecimal.valueOf(projection.getProbabilityOfLoss()).setScale(4, RoundingMode.HALF_UP))
+                .finalValuePercentiles(bands)
+                .build();
+    }
+
+    private static BigDecimal money(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal percent(double fraction) {
+        return BigDecimal.valueOf(fraction).multiply(HUNDRED).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,120 @@
+package com.sudheer.robinhood.profiling.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sudheer.robinhood.profiling.enums.InvestmentGoal;
+import com.sudheer.robinhood.profiling.enums.RiskTolerance;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * JSON bodies of the onboarding reference endpoints, serialized once at
+ * startup. Recommendations depend only on the risk score, so there is one
+ * body per score 0-100 (scores outside that range get the nearest end, which
+ * {@link ProfilingService#getRecommendations} would answer the same way).
+ * Each body carries a strong ETag derived from its bytes, so a client
+ * revalidating an unchanged body gets a 304 with nothing serialized or sent.
+ */
+@Component
+public class ReferenceResponses {
+
+    private static final int MAX_SCORE = 100;
+
+    private final Encoded[] recommendationsByScore = new Encoded[MAX_SCORE + 1];
+    private final Encoded riskToleranceOptions;
+    private final Encoded investmentGoals;
+
+    public ReferenceResponses(ProfilingService profilingService, ObjectMapper objectMapper) {
+        // Scores in the same tier share one body
+        Map<String, Encoded> distinct = new HashMap<>();
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            byte[] body = write(objectMapper, profilingService.getRecommendations(score));
+            recommendationsByScore[score] = distinct.computeIfAbsent(Arrays.toString(body), k -> new Encoded(body));
+        }
+
+        this.riskToleranceOptions = new Encoded(write(objectMapper, Arrays.stream(RiskTolerance.values())
+                .map(rt -> option(rt.name(), "description", riskToleranceDescription(rt)))
+                .collect(Collectors.toList())));
+        this.investmentGoals = new Encoded(write(objectMapper, Arrays.stream(InvestmentGoal.values())
+                .map(goal -> option(goal.name(), null, null))
+                .collect(Collectors.toList())));
+    }
+
+    public Encoded getRecommendations(int riskScore) {
+        return recommendationsByScore[Math.max(0, Math.min(MAX_SCORE, riskScore))];
+    }
+
+    public Encoded getRiskToleranceOptions() {
+        return riskToleranceOptions;
+    }
+
+    public Encoded getInvestmentGoals() {
+        return investmentGoals;
+    }
+
+    private static Map<String, String> option(String name, String extraKey, String extraValue) {
+        Map<String, String> option = new LinkedHashMap<>();
+        option.put("value", name.toLowerCase(Locale.ROOT));
+        option.put("label", formatEnumName(name));
+        if (extraKey != null) {
+            option.put(extraKey, extraValue);
+        }
+        return option;
+    }
+
+    private static String formatEnumName(String enumName) {
+        return Arrays.stream(enumName.split("_"))
+                .map(word -> word.charAt(0) + word.substring(1).toLowerCase(Locale.ROOT))
+                .collect(Collectors.joining(" "));
+    }
+
+    private static String riskToleranceDescription(RiskTolerance rt) {
+        return switch (rt) {
+            case CONSERVATIVE -> "Low risk, stable returns";
+            case MODERATE -> "Balanced risk/reward";
+            case AGGRESSIVE -> "High risk, high potential returns";
+            case VERY_AGGRESSIVE -> "Maximum risk tolerance";
+        };
+    }
+
+    private static byte[] write(ObjectMapper objectMapper, List<?> value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize reference response", e);
+        }
+    }
+
+    /**
+     * An encoded JSON body and its quoted strong ETag. The array is shared; never modify it.
+     */
+    @Getter
+    public static final class Encoded {
+        private final byte[] body;
+        private final String etag;
+
+        private Encoded(byte[] body) {
+            this.body = body;
+            this.etag = '"' + HexFormat.of().formatHex(sha256(body), 0, 16) + '"';
+        }
+
+        private static byte[] sha256(byte[] bytes) {
+            try {
+                return MessageDigest.getInstance("SHA-256").digest(bytes);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.sudheer.robinhood.profiling.store;
+
+import com.sudheer.robinhood.profiling.enums.InvestmentGoal;
+import com.sudheer.robinhood.profiling.enums.RiskTolerance;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * One scored quick assessment as stored in profiling.risk_assessments.
+ * userId is null for anonymous (pre-signup) assessments.
+ */
+@Getter
+@AllArgsConstructor
+public final class AssessmentRecord {
+    private final Long userId;
+    private final int age;
+    private final BigDecimal investmentAmount;
+    private final InvestmentGoal investmentGoal;
+    private final int timeHorizonYears;
+    private final int lossTolerance;
+    private final int investmentKnowledge;
+    private final int riskScore;
+    private final RiskTolerance riskTolerance;
+    private final String recommendedStrategy;
+    private final Instant assessedAt;
+}
@@ -0,0 +1,43 @@
+package com.sudheer.robinhood.profiling.store;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "profiling.assessments")
+public class AssessmentStoreProperties {
+
+    /**
+     * Assessments buffered in memory while waiting for the writer.
+     */
+    private int capacity = 65_536;
+
+    /**
+     * Rows per multi-row INSERT; a batch is written as soon as it is full.
+     */
+    private int batchSize = 500;
+
+    /**
+     * A partial batch is written once its oldest assessment has waited this long.
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * How long a request waits for space when the buffer is full before its
+     * assessment is dropped. 0 drops at once.
+     */
+    private Duration offerTimeout = Duration.ofMillis(5);
+
+    private int maxAttempts = 5;
+
+    private Duration retryBackoff = Duration.ofSeconds(1);
+
+    /**
+     * How long shutdown waits for the buffer to be written out.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(15);
+}
@@ -0,0 +1,211 @@
+package com.sudheer.robinhood.profiling.store;
+
+import com.sudheer.robinhood.profiling.repository.AssessmentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps assessments off the request path: {@link #record} puts them in a
+ * bounded ring buffer and returns, and a single writer thread drains it in
+ * multi-row INSERTs of up to batchSize, written when full or once the oldest
+ * entry has waited flushInterval.
+ *
+ * When the buffer is full a request waits up to offerTimeout for space
+ * (backpressure), then the assessment is dropped and counted. A failed batch
+ * is retried maxAttempts times with a growing backoff, during which the
+ * buffer absorbs new work. On shutdown, which runs after the web server has
+ * stopped taking requests, the writer drains what is left for up to
+ * shutdownTimeout before the DataSource closes.
+ */
+@Component
+@Slf4j
+public class AssessmentWriteBehind implements SmartLifecycle {
+
+    private final AssessmentRepository repository;
+    private final ArrayBlockingQueue<AssessmentRecord> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutNanos;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long shutdownTimeoutMillis;
+
+    private final Counter queued;
+    private final Counter backpressured;
+    private final Counter droppedFull;
+    private final Counter droppedStopped;
+    private final Counter written;
+    private final Counter failed;
+    private final Timer batchTimer;
+
+    private volatile boolean accepting = true;
+    private volatile boolean running;
+    private Thread writer;
+
+    public AssessmentWriteBehind(AssessmentRepository repository, AssessmentStoreProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, properties.getCapacity()));
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        this.flushIntervalNanos = properties.getFlushInterval().toNanos();
+        this.offerTimeoutNanos = properties.getOfferTimeout().toNanos();
+        this.maxAttempts = Math.max(1, properties.getMaxAttempts());
+        this.retryBackoffMillis = properties.getRetryBackoff().toMillis();
+        this.shutdownTimeoutMillis = properties.getShutdownTimeout().toMillis();
+
+        this.queued = meterRegistry.counter("profiling.assessments.buffered", "result", "queued");
+        this.backpressured = meterRegistry.counter("profiling.assessments.buffered", "result", "waited");
+        this.droppedFull = meterRegistry.counter("profiling.assessments.buffered", "result", "dropped-full");
+        this.droppedStopped = meterRegistry.counter("profiling.assessments.buffered", "result", "dropped-stopped");
+        this.written = meterRegistry.counter("profiling.assessments.stored", "result", "written");
+        this.failed = meterRegistry.counter("profiling.assessments.stored", "result", "failed");
+        this.batchTimer = Timer.builder("profiling.assessments.batch")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("profiling.assessments.buffer.depth", buffer, ArrayBlockingQueue::size).register(meterRegistry);
+    }
+
+    /**
+     * Buffers an assessment for writing. Returns false if it was dropped.
+     */
+    public boolean record(AssessmentRecord record) {
+        if (!accepting) {
+            droppedStopped.increment();
+            return false;
+        }
+        if (buffer.offer(record)) {
+            queued.increment();
+            return true;
+        }
+        if (offerTimeoutNanos > 0) {
+            backpressured.increment();
+            try {
+                if (buffer.offer(record, offerTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                    queued.increment();
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        droppedFull.increment();
+        return false;
+    }
+
+    private void drain() {
+        List<AssessmentRecord> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                fill(batch);
+            } catch (InterruptedException e) {
+                // Only stop() interrupts, and only once its wait has run out
+                Thread.currentThread().interrupt();
+                failed.increment(batch.size() + buffer.size());
+                log.error("Shutdown timed out, {} assessments were not written", batch.size() + buffer.size());
+                return;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Waits for the first entry, then tops the batch up until it is full or
+     * the first entry is flushInterval old.
+     */
+    private void fill(List<AssessmentRecord> batch) throws InterruptedException {
+        AssessmentRecord first = buffer.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            if (buffer.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !running) {
+                return;
+            }
+            AssessmentRecord next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<AssessmentRecord> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                batchTimer.record(() -> repository.insertBatch(batch));
+                written.increment(batch.size());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    failed.increment(batch.size());
+                    log.error("Dropping {} assessments after {} attempts", batch.size(), attempt, e);
+                    return;
+                }
+                log.warn("Writing {} assessments failed (attempt {}), retrying: {}", batch.size(), attempt, e.getMessage());
+                try {
+                    Thread.sleep(retryBackoffMillis * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    failed.increment(batch.size());
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::drain, "assessment-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        accepting = false;
+        running = false;
+        try {
+            writer.join(shutdownTimeoutMillis);
+            if (writer.isAlive()) {
+                writer.interrupt();
+                writer.join(1000);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stop after the web server (higher phases stop first) and before the
+     * DataSource is closed with the other beans.
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+}
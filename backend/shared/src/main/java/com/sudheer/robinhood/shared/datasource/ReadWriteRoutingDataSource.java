@@ -0,0 +1,285 @@
+package com.sudheer.robinhood.shared.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sudheer.robinhood.shared.security.AccessTokenClaims;
+import com.sudheer.robinhood.shared.security.AccessTokenFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary.
+ *
+ * The lookup runs when a statement first needs a connection (the bean is
+ * wrapped in a LazyConnectionDataSourceProxy), so the transaction's readOnly
+ * flag is already known. Each replica's replay lag is polled every
+ * lagCheckInterval; one that is unreachable or more than maxLag behind is
+ * skipped, and with none left reads fall back to the primary. A replica only
+ * counts as caught up once it has replayed the primary's current WAL
+ * position, so one that lost its connection to the primary falls behind as
+ * soon as the primary writes, even though it has replayed all it received. A client that
+ * has just committed a write - the token's user, else the remote address -
+ * keeps its reads on the primary for stickiness, so it reads its own writes.
+ *
+ * Stickiness only helps the client that wrote. Anything that caches what it
+ * reads for longer than a replica can lag - a cache loader after an
+ * invalidation - must read inside {@link #onPrimary} instead, or it can store
+ * the row as it was before the write for the whole TTL.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    // Depth of onPrimary calls on this thread; a counter so that nested calls compose
+    private static final ThreadLocal<int[]> FORCE_PRIMARY = ThreadLocal.withInitial(() -> new int[1]);
+
+    private static final String PRIMARY_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+
+    // Seconds the replica is behind the primary LSN read just before; NULL when it is not a
+    // replica any more (promoted) or has not replayed a transaction yet
+    private static final String LAG_SQL = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN NULL
+                WHEN pg_last_wal_replay_lsn() >= ?::pg_lsn THEN 0
+                ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+            END
+            """;
+
+    private final DataSource primary;
+    private final List<ReplicaState> replicas;
+    private final long maxLagMillis;
+    private final Cache<String, Boolean> recentWriters;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ScheduledExecutorService lagChecker;
+
+    private final Counter primaryReadWrite;
+    private final Counter primarySticky;
+    private final Counter primaryForced;
+    private final Counter primaryNoReplica;
+    private final Counter replicaReadOnly;
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<HikariDataSource> replicaDataSources,
+                                      ReplicaRoutingProperties properties, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.maxLagMillis = properties.getMaxLag().toMillis();
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxStickyClients())
+                .expireAfterWrite(properties.getStickiness())
+                .build();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        List<ReplicaState> states = new ArrayList<>(replicaDataSources.size());
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            ReplicaState state = new ReplicaState("replica-" + i, replicaDataSources.get(i));
+            targets.put(state.key, state.dataSource);
+            states.add(state);
+            Gauge.builder("datasource.replica.lag", state,
+                            s -> s.lagMillis == Long.MAX_VALUE ? Double.NaN : s.lagMillis / 1000.0)
+                    .tag("replica", state.key)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+        this.replicas = List.copyOf(states);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+
+        this.primaryReadWrite = route(meterRegistry, PRIMARY, "read-write");
+        this.primarySticky = route(meterRegistry, PRIMARY, "sticky");
+        this.primaryForced = route(meterRegistry, PRIMARY, "forced");
+        this.primaryNoReplica = route(meterRegistry, PRIMARY, "no-replica");
+        this.replicaReadOnly = route(meterRegistry, "replica", "read-only");
+        Gauge.builder("datasource.replicas.available", this, ReadWriteRoutingDataSource::availableReplicas)
+                .register(meterRegistry);
+
+        this.lagChecker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replica-lag-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getLagCheckInterval().toMillis();
+        lagChecker.scheduleWithFixedDelay(this::checkLag, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs work with every connection it opens on this thread taken from the
+     * primary, read-only transactions included. Without routing it just runs work.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        int[] depth = FORCE_PRIMARY.get();
+        depth[0]++;
+        try {
+            return work.get();
+        } finally {
+            if (--depth[0] == 0) {
+                FORCE_PRIMARY.remove();
+            }
+        }
+    }
+
+    private static Counter route(MeterRegistry meterRegistry, String target, String reason) {
+        return meterRegistry.counter("datasource.routing", "target", target, "reason", reason);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite();
+            primaryReadWrite.increment();
+            return PRIMARY;
+        }
+        if (FORCE_PRIMARY.get()[0] > 0) {
+            primaryForced.increment();
+            return PRIMARY;
+        }
+        String client = clientKey();
+        if (client != null && recentWriters.getIfPresent(client) != null) {
+            primarySticky.increment();
+            return PRIMARY;
+        }
+        ReplicaState replica = pickReplica();
+        if (replica == null) {
+            primaryNoReplica.increment();
+            return PRIMARY;
+        }
+        replicaReadOnly.increment();
+        return replica.key;
+    }
+
+    /**
+     * Marks the client as a recent writer once the current write transaction commits.
+     */
+    private void trackWrite() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String client = clientKey();
+        if (client == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(client, Boolean.TRUE);
+            }
+        });
+    }
+
+    private ReplicaState pickReplica() {
+        int n = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(1, n));
+        for (int i = 0; i < n; i++) {
+            ReplicaState candidate = replicas.get((start + i) % n);
+            if (candidate.lagMillis <= maxLagMillis) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static String clientKey() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servlet)) {
+            return null;
+        }
+        if (servlet.getRequest().getAttribute(AccessTokenFilter.CLAIMS_ATTRIBUTE) instanceof AccessTokenClaims claims) {
+            return "user:" + claims.getSub();
+        }
+        return "addr:" + servlet.getRequest().getRemoteAddr();
+    }
+
+    private void checkLag() {
+        String primaryLsn;
+        try (Connection connection = primary.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(PRIMARY_LSN_SQL)) {
+            rs.next();
+            primaryLsn = rs.getString(1);
+        } catch (Exception e) {
+            // Without the primary's position no replica can be shown to be current
+            if (availableReplicas() > 0) {
+                log.warn("Cannot read the primary WAL position, sending reads to the primary: {}", e.getMessage());
+            }
+            replicas.forEach(r -> r.lagMillis = Long.MAX_VALUE);
+            return;
+        }
+
+        for (ReplicaState replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(LAG_SQL)) {
+                statement.setString(1, primaryLsn);
+                long lag;
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    double seconds = rs.getDouble(1);
+                    lag = rs.wasNull() ? Long.MAX_VALUE : Math.round(seconds * 1000.0);
+                }
+                if (lag > maxLagMillis && replica.lagMillis <= maxLagMillis) {
+                    if (lag == Long.MAX_VALUE) {
+                        log.warn("Replica {} is not replaying from the primary, sending its reads to the primary",
+                                replica.key);
+                    } else {
+                        log.warn("Replica {} is {} ms behind, sending its reads to the primary", replica.key, lag);
+                    }
+                }
+                replica.lagMillis = lag;
+            } catch (Exception e) {
+                if (replica.lagMillis != Long.MAX_VALUE) {
+                    log.warn("Replica {} is unreachable, sending its reads to the primary: {}", replica.key, e.getMessage());
+                }
+                replica.lagMillis = Long.MAX_VALUE;
+            }
+        }
+    }
+
+    private long availableReplicas() {
+        return replicas.stream().filter(r -> r.lagMillis <= maxLagMillis).count();
+    }
+
+    @Override
+    public void destroy() {
+        lagChecker.shutdownNow();
+        // The primary is a bean of its own and closed by the context
+        replicas.forEach(r -> r.dataSource.close());
+    }
+
+    private static final class ReplicaState {
+        private final String key;
+        private final HikariDataSource dataSource;
+        // Unknown until the first check succeeds
+        private volatile long lagMillis = Long.MAX_VALUE;
+
+        private ReplicaState(String key, HikariDataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
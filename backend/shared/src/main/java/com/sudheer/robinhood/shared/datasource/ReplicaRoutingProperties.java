@@ -0,0 +1,52 @@
+package com.sudheer.robinhood.shared.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "datasource.routing")
+public class ReplicaRoutingProperties {
+
+    /**
+     * Off by default: spring.datasource is then used as is, with no routing.
+     */
+    private boolean enabled = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * A replica further behind the primary than this gets no reads until it catches up.
+     */
+    private Duration maxLag = Duration.ofSeconds(1);
+
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+    /**
+     * How long a client's read-only transactions stay on the primary after it commits a write.
+     */
+    private Duration stickiness = Duration.ofSeconds(5);
+
+    /**
+     * Clients tracked for stickiness at once; the oldest are dropped first.
+     */
+    private long maxStickyClients = 100_000;
+
+    @Data
+    public static class Replica {
+
+        private String url;
+
+        /**
+         * Defaults to spring.datasource.username / password when not set.
+         */
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 10;
+    }
+}
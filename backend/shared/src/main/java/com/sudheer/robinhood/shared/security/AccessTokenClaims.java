@@ -0,0 +1,27 @@
+package com.sudheer.robinhood.shared.security;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of an access token. Times are epoch seconds, as in JWT.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AccessTokenClaims {
+    private String sub;
+    private String username;
+    private String jti;
+    private long iat;
+    private long exp;
+
+    @JsonIgnore
+    public Long getUserId() {
+        return Long.valueOf(sub);
+    }
+}
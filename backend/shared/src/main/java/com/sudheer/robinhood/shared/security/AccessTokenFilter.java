@@ -0,0 +1,70 @@
+package com.sudheer.robinhood.shared.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Verifies the bearer token on /api requests and exposes its claims as the
+ * {@link #CLAIMS_ATTRIBUTE} request attribute. A bad token is always a 401;
+ * a missing one only when jwt.required is set. Paths listed in
+ * jwt.open-paths are not filtered at all.
+ */
+public class AccessTokenFilter extends OncePerRequestFilter {
+
+    public static final String CLAIMS_ATTRIBUTE = "accessTokenClaims";
+
+    private static final String BEARER = "Bearer ";
+
+    private final AccessTokenVerifier verifier;
+    private final boolean required;
+    private final Set<String> openPaths;
+
+    public AccessTokenFilter(AccessTokenVerifier verifier, TokenProperties properties) {
+        this.verifier = verifier;
+        this.required = properties.isRequired();
+        this.openPaths = Set.copyOf(properties.getOpenPaths());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !path.startsWith("/api/") || openPaths.contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            if (required && !"OPTIONS".equals(request.getMethod())) {
+                unauthorized(response, "Access token required");
+                return;
+            }
+            chain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            request.setAttribute(CLAIMS_ATTRIBUTE, verifier.verify(header.substring(BEARER.length()).trim()));
+        } catch (InvalidTokenException e) {
+            unauthorized(response, e.getMessage());
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static void unauthorized(HttpServletResponse response, String message) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"" + message + "\"}");
+    }
+}
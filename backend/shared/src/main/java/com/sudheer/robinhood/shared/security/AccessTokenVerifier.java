@@ -0,0 +1,141 @@
+package com.sudheer.robinhood.shared.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Verifies HS256 access tokens locally: signature, expiry and the revocation
+ * deny-list, with no database or network call.
+ *
+ * Tokens that pass are cached, so a client's repeat calls cost one map lookup
+ * plus the expiry and deny-list checks, which are redone on every hit. Only
+ * the fixed header this platform issues is accepted, which rules out
+ * algorithm substitution.
+ */
+public class AccessTokenVerifier {
+
+    public static final String ALGORITHM = "HmacSHA256";
+    public static final String HEADER = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    private final ObjectMapper objectMapper;
+    private final TokenDenyList denyList;
+    private final ThreadLocal<Mac> macs;
+    private final Cache<String, AccessTokenClaims> verified;
+
+    private final Counter accepted;
+    private final Counter acceptedCached;
+    private final Counter rejectedInvalid;
+    private final Counter rejectedExpired;
+    private final Counter rejectedRevoked;
+
+    public AccessTokenVerifier(TokenProperties properties, TokenDenyList denyList, ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.denyList = denyList;
+        SecretKeySpec key = signingKey(properties.getSecret());
+        this.macs = ThreadLocal.withInitial(() -> newMac(key));
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(properties.getVerificationCacheSize())
+                .expireAfterWrite(Duration.ofMillis(properties.getExpiration()))
+                .build();
+
+        this.accepted = meterRegistry.counter("auth.tokens.verified", "result", "accepted");
+        this.acceptedCached = meterRegistry.counter("auth.tokens.verified", "result", "cached");
+        this.rejectedInvalid = meterRegistry.counter("auth.tokens.verified", "result", "invalid");
+        this.rejectedExpired = meterRegistry.counter("auth.tokens.verified", "result", "expired");
+        this.rejectedRevoked = meterRegistry.counter("auth.tokens.verified", "result", "revoked");
+        Gauge.builder("auth.tokens.revoked", denyList, TokenDenyList::size).register(meterRegistry);
+    }
+
+    public AccessTokenClaims verify(String token) {
+        AccessTokenClaims claims = verified.getIfPresent(token);
+        boolean cached = claims != null;
+        if (!cached) {
+            claims = decode(token);
+        }
+
+        if (claims.getExp() <= System.currentTimeMillis() / 1000) {
+            verified.invalidate(token);
+            rejectedExpired.increment();
+            throw new InvalidTokenException("Access token expired");
+        }
+        if (denyList.isRevoked(claims.getJti())) {
+            verified.invalidate(token);
+            rejectedRevoked.increment();
+            throw new InvalidTokenException("Access token revoked");
+        }
+
+        if (cached) {
+            acceptedCached.increment();
+        } else {
+            verified.put(token, claims);
+            accepted.increment();
+        }
+        return claims;
+    }
+
+    /**
+     * Checks the signature and returns the claims, without checking expiry or revocation.
+     */
+    public AccessTokenClaims decode(String token) {
+        int firstDot = token.indexOf('.');
+        int secondDot = token.indexOf('.', firstDot + 1);
+        if (firstDot < 0 || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0
+                || !token.regionMatches(0, HEADER, 0, firstDot) || firstDot != HEADER.length()) {
+            rejectedInvalid.increment();
+            throw new InvalidTokenException("Malformed access token");
+        }
+
+        try {
+            byte[] expected = macs.get().doFinal(token.substring(0, secondDot).getBytes(StandardCharsets.US_ASCII));
+            byte[] actual = Base64.getUrlDecoder().decode(token.substring(secondDot + 1));
+            if (!MessageDigest.isEqual(expected, actual)) {
+                rejectedInvalid.increment();
+                throw new InvalidTokenException("Invalid access token signature");
+            }
+            byte[] payload = Base64.getUrlDecoder().decode(token.substring(firstDot + 1, secondDot));
+            AccessTokenClaims claims = objectMapper.readValue(payload, AccessTokenClaims.class);
+            if (claims.getSub() == null || claims.getJti() == null) {
+                rejectedInvalid.increment();
+                throw new InvalidTokenException("Access token is missing claims");
+            }
+            claims.getUserId();
+            return claims;
+        } catch (InvalidTokenException e) {
+            throw e;
+        } catch (Exception e) {
+            rejectedInvalid.increment();
+            throw new InvalidTokenException("Malformed access token");
+        }
+    }
+
+    public static SecretKeySpec signingKey(String secret) {
+        if (secret == null || secret.getBytes(StandardCharsets.UTF_8).length < 32) {
+            throw new IllegalStateException("jwt.secret must be at least 32 bytes");
+        }
+        return new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 unavailable", e);
+        }
+    }
+}
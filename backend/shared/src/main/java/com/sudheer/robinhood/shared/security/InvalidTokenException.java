@@ -0,0 +1,8 @@
+package com.sudheer.robinhood.shared.security;
+
+public class InvalidTokenException extends RuntimeException {
+
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
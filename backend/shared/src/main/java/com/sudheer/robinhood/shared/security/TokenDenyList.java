@@ -0,0 +1,79 @@
+package com.sudheer.robinhood.shared.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory set of revoked access token ids, kept until each token would have
+ * expired anyway. Filled from the Redis sorted set at startup and from the
+ * revocation channel after that; messages are "jti:exp".
+ */
+@Slf4j
+public class TokenDenyList implements MessageListener {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String revokedKey;
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    public TokenDenyList(StringRedisTemplate redisTemplate, TokenProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.revokedKey = properties.getRevokedKey();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long now = System.currentTimeMillis() / 1000;
+        try {
+            Set<ZSetOperations.TypedTuple<String>> entries =
+                    redisTemplate.opsForZSet().rangeByScoreWithScores(revokedKey, now, Double.POSITIVE_INFINITY);
+            if (entries != null) {
+                for (ZSetOperations.TypedTuple<String> entry : entries) {
+                    if (entry.getValue() != null && entry.getScore() != null) {
+                        revoked.put(entry.getValue(), entry.getScore().longValue());
+                    }
+                }
+            }
+            log.info("Token deny-list loaded with {} revoked tokens", revoked.size());
+        } catch (RuntimeException e) {
+            log.warn("Could not load revoked tokens: {}", e.getMessage());
+        }
+    }
+
+    public boolean isRevoked(String jti) {
+        return revoked.containsKey(jti);
+    }
+
+    public void add(String jti, long exp) {
+        long now = System.currentTimeMillis() / 1000;
+        if (exp > now) {
+            revoked.put(jti, exp);
+        }
+        // Revocations are rare, so pruning here keeps the set to live tokens only
+        revoked.values().removeIf(expiry -> expiry <= now);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        try {
+            add(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed token revocation: {}", body);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.sudheer.robinhood.shared.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Access token settings. Every service that verifies tokens must share the same secret.
+ */
+@Data
+@ConfigurationProperties(prefix = "jwt")
+public class TokenProperties {
+
+    /**
+     * HMAC-SHA256 key; at least 32 bytes.
+     */
+    private String secret;
+
+    /**
+     * Access token lifetime in milliseconds.
+     */
+    private long expiration = 900_000;
+
+    /**
+     * Refresh token lifetime in milliseconds; only read by auth-service, which issues them.
+     */
+    private long refreshExpiration = 604_800_000;
+
+    /**
+     * Reject /api requests that carry no access token. Invalid tokens are always rejected.
+     */
+    private boolean required = false;
+
+    /**
+     * Exact /api paths served without a token, such as auth-service's login and refresh.
+     */
+    private List<String> openPaths = new ArrayList<>();
+
+    /**
+     * Verified tokens kept locally so repeat calls skip the HMAC and JSON parse.
+     */
+    private int verificationCacheSize = 100_000;
+
+    private String revocationChannel = "auth.tokens.revoked";
+
+    /**
+     * Sorted set of revoked token ids scored by expiry, read by services as they start.
+     */
+    private String revokedKey = "auth:revoked-access-tokens";
+}
@@ -0,0 +1,30 @@
+package com.sudheer.robinhood.shared.security;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Access token verification for every service that depends on this module:
+ * the /api filter, the verifier and the revocation deny-list fed from Redis.
+ * Paths that need no token are set per service with jwt.open-paths.
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(TokenProperties.class)
+@Import({TokenDenyList.class, AccessTokenVerifier.class, AccessTokenFilter.class})
+public class TokenSecurityAutoConfiguration {
+
+    @Bean
+    public RedisMessageListenerContainer tokenRevocationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           TokenDenyList denyList,
+                                                                           TokenProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(denyList, new ChannelTopic(properties.getRevocationChannel()));
+        return container;
+    }
+}
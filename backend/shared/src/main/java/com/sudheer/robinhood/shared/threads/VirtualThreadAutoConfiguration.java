@@ -0,0 +1,45 @@
+package com.sudheer.robinhood.shared.threads;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Virtual-thread mode, active with spring.threads.virtual.enabled on Java 21+
+ * (the virtual-threads profile). Boot then moves Tomcat, @Async, @Scheduled
+ * and Rabbit listeners onto virtual threads; this covers the Redis pub/sub
+ * listener containers it does not, and starts the {@link VirtualThreadPinningMonitor}.
+ * CPU-bound pools stay on platform threads.
+ *
+ * In-flight requests are then no longer capped by a thread pool, so each
+ * service's profile makes the Hikari pool the database concurrency limit:
+ * fixed-size and failing fast, so overload surfaces as quick errors rather
+ * than an unbounded pile of parked requests. Add -Djdk.tracePinnedThreads=short
+ * to also print pinned stacks from the JVM itself.
+ */
+@AutoConfiguration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Import(VirtualThreadPinningMonitor.class)
+public class VirtualThreadAutoConfiguration {
+
+    @Bean
+    public static BeanPostProcessor redisListenerVirtualThreads() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                // Before init: the container creates its default platform-thread executor in afterPropertiesSet
+                if (bean instanceof RedisMessageListenerContainer container) {
+                    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(beanName + "-");
+                    executor.setVirtualThreads(true);
+                    container.setTaskExecutor(executor);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -42,6 +42,10 @@ pkill -f "auth-service" 2>/dev/null || true
 pkill -f "user-profiling-service" 2>/dev/null || true
 sleep 2
 
+# Install the module the services share before building them
+echo "🔨 Building shared backend module..."
+mvn -f backend/shared/pom.xml install -DskipTests -q
+
 # Build and run Auth Service
 echo "🔨 Building Auth Service..."
 cd backend/services/auth-service
@@ -5,6 +5,7 @@ CREATE SCHEMA IF NOT EXISTS auth;
 CREATE SCHEMA IF NOT EXISTS orders;
 CREATE SCHEMA IF NOT EXISTS strategies;
 CREATE SCHEMA IF NOT EXISTS portfolios;
+CREATE SCHEMA IF NOT EXISTS profiling;
 
 -- =============================================
 -- AUTH SCHEMA
@@ -70,6 +71,29 @@ CREATE TABLE auth.oauth_tokens (
     revoked BOOLEAN DEFAULT false
 );
 
+-- Bulk user import jobs; checkpoint_line is the last input line committed
+CREATE TABLE auth.user_import_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    source_name VARCHAR(255),
+    format VARCHAR(10) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    checkpoint_line BIGINT NOT NULL DEFAULT 0,
+    imported BIGINT NOT NULL DEFAULT 0,
+    failed BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Per-row rejections of an import job
+CREATE TABLE auth.user_import_errors (
+    job_id BIGINT NOT NULL REFERENCES auth.user_import_jobs(id) ON DELETE CASCADE,
+    line_number BIGINT NOT NULL,
+    username VARCHAR(255),
+    email VARCHAR(255),
+    error VARCHAR(500) NOT NULL,
+    PRIMARY KEY (job_id, line_number)
+);
+
 -- =============================================
 -- ORDERS SCHEMA
 -- =============================================
@@ -160,6 +184,22 @@ CREATE TABLE strategies.strategy_performance (
     calculated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Running state behind the incremental performance rollup (one row per strategy)
+CREATE TABLE strategies.strategy_performance_state (
+    strategy_id BIGINT PRIMARY KEY REFERENCES strategies.strategies(id) ON DELETE CASCADE,
+    performance_id BIGINT REFERENCES strategies.strategy_performance(id) ON DELETE SET NULL,
+    period_start DATE NOT NULL,
+    last_date DATE NOT NULL,
+    observations BIGINT NOT NULL DEFAULT 0,
+    mean_return DOUBLE PRECISION NOT NULL DEFAULT 0,
+    m2 DOUBLE PRECISION NOT NULL DEFAULT 0,
+    growth DOUBLE PRECISION NOT NULL DEFAULT 1,
+    peak_growth DOUBLE PRECISION NOT NULL DEFAULT 1,
+    max_drawdown DOUBLE PRECISION NOT NULL DEFAULT 0,
+    winning_periods BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
 -- Backtests table
 CREATE TABLE strategies.backtests (
     id BIGSERIAL PRIMARY KEY,
@@ -175,12 +215,16 @@ CREATE TABLE strategies.backtests (
     winning_trades INTEGER,
     status VARCHAR(20) DEFAULT 'PENDING', -- PENDING, RUNNING, COMPLETED, FAILED
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    queued_at TIMESTAMP,
+    started_at TIMESTAMP,
     completed_at TIMESTAMP
 );
 
 -- AI Recommendations table
+-- Range-partitioned by day of expiry: expired rows leave by dropping whole partitions
+-- (RecommendationPartitionMaintenance creates them ahead and drops them after retention)
 CREATE TABLE strategies.recommendations (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGSERIAL,
     user_id BIGINT NOT NULL,
     strategy_id BIGINT REFERENCES strategies.strategies(id),
     recommendation_type VARCHAR(50) NOT NULL, -- BUY, SELL, REBALANCE, ADJUST
@@ -188,8 +232,27 @@ CREATE TABLE strategies.recommendations (
     confidence_score DECIMAL(5, 4),
     reasoning TEXT,
     is_acted_upon BOOLEAN DEFAULT false,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    expires_at TIMESTAMP
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    signal_day DATE, -- bar day of the signal that raised it; NULL when not raised by the signal engine
+    expires_at TIMESTAMP NOT NULL DEFAULT (CURRENT_TIMESTAMP + INTERVAL '30 days'),
+    PRIMARY KEY (id, expires_at)
+) PARTITION BY RANGE (expires_at);
+
+DO $$
+DECLARE
+    day DATE;
+BEGIN
+    FOR day IN SELECT generate_series(CURRENT_DATE, CURRENT_DATE + 35, INTERVAL '1 day')::date LOOP
+        EXECUTE format('CREATE TABLE strategies.%I PARTITION OF strategies.recommendations FOR VALUES FROM (%L) TO (%L)',
+                       'recommendations_p' || to_char(day, 'YYYYMMDD'), day, day + 1);
+    END LOOP;
+END $$;
+
+-- Last bar day the signal engine raised signals through, per symbol (shared by all strategy-service nodes)
+CREATE TABLE strategies.signal_scan_progress (
+    symbol VARCHAR(10) PRIMARY KEY,
+    scanned_through DATE NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
 -- =============================================
@@ -246,6 +309,7 @@ CREATE TABLE portfolios.rebalancing_events (
     status VARCHAR(20) DEFAULT 'PENDING', -- PENDING, IN_PROGRESS, COMPLETED, FAILED
     trades_executed INTEGER DEFAULT 0,
     total_trades_planned INTEGER,
+    planned_on DATE NOT NULL DEFAULT CURRENT_DATE,
     started_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     completed_at TIMESTAMP
 );
@@ -264,6 +328,26 @@ CREATE TABLE portfolios.performance_snapshots (
     UNIQUE(portfolio_id, snapshot_date)
 );
 
+-- =============================================
+-- PROFILING SCHEMA
+-- =============================================
+
+-- Quick risk assessments, written behind in batches by user-profiling-service
+CREATE TABLE profiling.risk_assessments (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT,
+    age INTEGER NOT NULL,
+    investment_amount NUMERIC NOT NULL,
+    investment_goal VARCHAR(50) NOT NULL,
+    time_horizon_years INTEGER NOT NULL,
+    loss_tolerance INTEGER NOT NULL,
+    investment_knowledge INTEGER NOT NULL,
+    risk_score INTEGER NOT NULL,
+    risk_tolerance VARCHAR(20) NOT NULL,
+    recommended_strategy VARCHAR(100) NOT NULL,
+    assessed_at TIMESTAMP NOT NULL
+);
+
 -- =============================================
 -- INDEXES FOR PERFORMANCE
 -- =============================================
@@ -284,19 +368,34 @@ CREATE INDEX idx_order_executions_order_id ON orders.order_executions(order_id);
 -- Strategies indexes
 CREATE INDEX idx_strategies_user_id ON strategies.strategies(user_id);
 CREATE INDEX idx_strategies_is_public ON strategies.strategies(is_public);
+CREATE INDEX idx_strategies_active_user_frequency ON strategies.strategies(user_id, rebalance_frequency) WHERE is_active = true;
 CREATE INDEX idx_strategy_allocations_strategy_id ON strategies.strategy_allocations(strategy_id);
+CREATE INDEX idx_strategy_allocations_symbol ON strategies.strategy_allocations(symbol);
 CREATE INDEX idx_strategy_performance_strategy_id ON strategies.strategy_performance(strategy_id);
 CREATE INDEX idx_backtests_strategy_id ON strategies.backtests(strategy_id);
-CREATE INDEX idx_recommendations_user_id ON strategies.recommendations(user_id);
+-- Stale-job recovery only looks at unfinished backtests
+CREATE INDEX idx_backtests_unfinished ON strategies.backtests(status) WHERE status IN ('PENDING', 'RUNNING');
+CREATE INDEX idx_recommendations_user_feed ON strategies.recommendations(user_id, created_at DESC, id DESC);
+CREATE INDEX idx_recommendations_open_strategy_symbol ON strategies.recommendations(strategy_id, symbol, recommendation_type) WHERE is_acted_upon = false;
+-- One recommendation per strategy, symbol, type and bar day, however often or wherever the bars are scanned.
+-- expires_at is derived from signal_day, and must be in the key as the partition column
+CREATE UNIQUE INDEX idx_recommendations_signal ON strategies.recommendations(strategy_id, symbol, recommendation_type, signal_day, expires_at);
 
 -- Portfolios indexes
 CREATE INDEX idx_portfolios_user_id ON portfolios.portfolios(user_id);
 CREATE INDEX idx_holdings_portfolio_id ON portfolios.holdings(portfolio_id);
+CREATE INDEX idx_holdings_symbol ON portfolios.holdings(symbol);
 CREATE INDEX idx_transactions_portfolio_id ON portfolios.transactions(portfolio_id);
 CREATE INDEX idx_transactions_order_id ON portfolios.transactions(order_id);
 CREATE INDEX idx_rebalancing_events_portfolio_id ON portfolios.rebalancing_events(portfolio_id);
+-- At most one pending rebalance per portfolio and day, however often the planner runs
+CREATE UNIQUE INDEX idx_rebalancing_events_pending_day ON portfolios.rebalancing_events(portfolio_id, planned_on) WHERE status = 'PENDING';
 CREATE INDEX idx_performance_snapshots_portfolio_id ON portfolios.performance_snapshots(portfolio_id);
 
+-- Profiling indexes
+CREATE INDEX idx_risk_assessments_user_id ON profiling.risk_assessments(user_id, assessed_at);
+CREATE INDEX idx_risk_assessments_assessed_at ON profiling.risk_assessments(assessed_at);
+
 -- =============================================
 -- SEED DATA
 -- =============================================